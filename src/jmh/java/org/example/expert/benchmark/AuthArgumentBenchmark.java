@@ -0,0 +1,63 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.config.AuthUserArgumentResolver;
+import org.example.expert.domain.common.annotation.Auth;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증이 필요한 모든 요청에서 실행되는 UserRole 변환과 @Auth 인자 해석 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthArgumentBenchmark {
+
+    private AuthUserArgumentResolver resolver;
+    private MethodParameter parameter;
+    private ServletWebRequest webRequest;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        resolver = new AuthUserArgumentResolver();
+        parameter = new MethodParameter(AuthArgumentBenchmark.class.getDeclaredMethod("handler", AuthUser.class), 0);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("userId", 1L);
+        request.setAttribute("email", "user@example.com");
+        request.setAttribute("userRole", "USER");
+        webRequest = new ServletWebRequest(request);
+    }
+
+    @Benchmark
+    public UserRole userRoleOf() {
+        return UserRole.of("USER");
+    }
+
+    @Benchmark
+    public Object resolveArgument() {
+        return resolver.resolveArgument(parameter, null, webRequest, null);
+    }
+
+    @SuppressWarnings("unused")
+    private void handler(@Auth AuthUser authUser) {
+    }
+}
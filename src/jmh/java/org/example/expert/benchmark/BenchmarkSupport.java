@@ -0,0 +1,19 @@
+package org.example.expert.benchmark;
+
+import java.lang.reflect.Field;
+
+final class BenchmarkSupport {
+
+    // 벤치마크 전용 HS256 키 (Base64)
+    static final String JWT_SECRET_KEY = "YmVuY2htYXJrLXNlY3JldC1rZXktZm9yLWp3dC1oczI1Ni0wMTIzNDU2Nzg5";
+
+    private BenchmarkSupport() {
+    }
+
+    // @Value 로 주입되는 필드를 스프링 컨텍스트 없이 채운다
+    static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
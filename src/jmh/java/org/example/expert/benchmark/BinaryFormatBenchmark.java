@@ -0,0 +1,103 @@
+package org.example.expert.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * GET /todos, GET /todos/{id}/comments 응답의 포맷별 인코딩/파싱 비용.
+ * 파싱은 호출하는 내부 서비스 쪽 비용으로, DTO 구조와 무관하게 비교할 수 있도록 트리로 읽는다.
+ * 응답 크기(bytes)는 setup 시 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    @Param({"100"})
+    int size;
+
+    @Param({"json", "cbor", "smile"})
+    String format;
+
+    private ObjectMapper objectMapper;
+    private PageResponse<TodoSummaryResponse> todoPage;
+    private List<CommentResponse> comments;
+    private byte[] encodedTodoPage;
+    private byte[] encodedComments;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("cbor".equals(format)) {
+            builder.factory(new CBORFactory());
+        } else if ("smile".equals(format)) {
+            builder.factory(new SmileFactory());
+        }
+        objectMapper = builder.build();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<TodoSummaryResponse> todos = IntStream.range(0, size)
+                .mapToObj(i -> new TodoSummaryResponse((long) i, "title" + i, "contents of todo " + i, "Sunny",
+                        new UserResponse((long) i, "user" + i + "@example.com"), now, now))
+                .toList();
+        todoPage = PageResponse.from(new PageImpl<>(todos, PageRequest.of(0, size), size * 10L));
+        comments = IntStream.range(0, size)
+                .mapToObj(i -> new CommentResponse((long) i, "comment " + i,
+                        new UserResponse((long) i, "user" + i + "@example.com")))
+                .toList();
+
+        encodedTodoPage = objectMapper.writeValueAsBytes(todoPage);
+        encodedComments = objectMapper.writeValueAsBytes(comments);
+        System.out.printf("%n# payload bytes: format=%s, size=%d, todoPage=%d, commentList=%d%n",
+                format, size, encodedTodoPage.length, encodedComments.length);
+    }
+
+    @Benchmark
+    public byte[] writeTodoPage() throws IOException {
+        return objectMapper.writeValueAsBytes(todoPage);
+    }
+
+    @Benchmark
+    public JsonNode parseTodoPage() throws IOException {
+        return objectMapper.readTree(encodedTodoPage);
+    }
+
+    @Benchmark
+    public byte[] writeCommentList() throws IOException {
+        return objectMapper.writeValueAsBytes(comments);
+    }
+
+    @Benchmark
+    public JsonNode parseCommentList() throws IOException {
+        return objectMapper.readTree(encodedComments);
+    }
+}
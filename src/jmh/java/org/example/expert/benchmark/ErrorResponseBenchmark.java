@@ -0,0 +1,88 @@
+package org.example.expert.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.config.ErrorResponseBodies;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "Todo not found" 같은 예상된 에러 한 건을 처리하는 비용 비교.
+ * legacy 는 stack trace 를 수집하는 예외 + 매번 HashMap 직렬화, current 는 stackless 예외 + 캐시된 본문이다.
+ * 실제 요청은 Spring MVC 필터/인터셉터 체인만큼 stack 이 깊으므로 depth 로 호출 깊이를 흉내 낸다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private static final String MESSAGE = "Todo not found";
+
+    @Param({"10", "120"})
+    int depth;
+
+    private ObjectMapper objectMapper;
+    private ErrorResponseBodies errorResponseBodies;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        errorResponseBodies = new ErrorResponseBodies(objectMapper);
+    }
+
+    @Benchmark
+    public byte[] legacy() throws Exception {
+        try {
+            throwAt(depth, true);
+            return null;
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("status", HttpStatus.BAD_REQUEST.name());
+            errorResponse.put("code", HttpStatus.BAD_REQUEST.value());
+            errorResponse.put("message", e.getMessage());
+            return objectMapper.writeValueAsBytes(errorResponse);
+        }
+    }
+
+    @Benchmark
+    public byte[] current() {
+        try {
+            throwAt(depth, false);
+            return null;
+        } catch (InvalidRequestException e) {
+            return errorResponseBodies.get(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private static void throwAt(int depth, boolean withStackTrace) {
+        if (depth > 0) {
+            throwAt(depth - 1, withStackTrace);
+            return;
+        }
+        throw withStackTrace ? new StackfulException(MESSAGE) : new InvalidRequestException(MESSAGE);
+    }
+
+    // 변경 전 InvalidRequestException 과 같은 동작
+    private static class StackfulException extends RuntimeException {
+        StackfulException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.expert.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 목록 API 응답 직렬화 비용. ObjectMapper 는 Spring Boot 와 같은 방식(Jackson2ObjectMapperBuilder)으로 만든다.
+ *
+ * <ul>
+ *     <li>shape: pagedModel = 기존 GET /todos 응답(VIA_DTO 의 PagedModel), envelope = PageResponse</li>
+ *     <li>mapper: default = 애플리케이션 ObjectMapper, blackbird = BlackbirdModule 등록 (도입 여부 재평가용)</li>
+ * </ul>
+ * 응답 크기(bytes)는 setup 시 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "100"})
+    int size;
+
+    @Param({"pagedModel", "envelope"})
+    String shape;
+
+    @Param({"default", "blackbird"})
+    String mapper;
+
+    private ObjectMapper objectMapper;
+    private Object todoPage;
+    private List<CommentResponse> comments;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("blackbird".equals(mapper)) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        objectMapper = builder.build();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<TodoSummaryResponse> todos = IntStream.range(0, size)
+                .mapToObj(i -> new TodoSummaryResponse((long) i, "title" + i, "contents of todo " + i, "Sunny",
+                        new UserResponse((long) i, "user" + i + "@example.com"), now, now))
+                .toList();
+        PageImpl<TodoSummaryResponse> page = new PageImpl<>(todos, PageRequest.of(0, size), size * 10L);
+        todoPage = "envelope".equals(shape) ? PageResponse.from(page) : new PagedModel<>(page);
+
+        comments = IntStream.range(0, size)
+                .mapToObj(i -> new CommentResponse((long) i, "comment " + i,
+                        new UserResponse((long) i, "user" + i + "@example.com")))
+                .toList();
+
+        System.out.printf("%n# payload bytes: shape=%s, size=%d, todoPage=%d, commentList=%d%n",
+                shape, size, objectMapper.writeValueAsBytes(todoPage).length, objectMapper.writeValueAsBytes(comments).length);
+    }
+
+    @Benchmark
+    public byte[] todoPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(todoPage);
+    }
+
+    @Benchmark
+    public byte[] commentList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(comments);
+    }
+}
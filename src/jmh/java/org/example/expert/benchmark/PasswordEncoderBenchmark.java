@@ -0,0 +1,67 @@
+package org.example.expert.benchmark;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.example.expert.config.PasswordEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bcrypt cost 별 가입(encode)/로그인(matches) 비용.
+ * {@link PasswordEncoder} 는 cost 가 고정(BCrypt.MIN_COST)이므로, 다른 cost 는 같은 라이브러리 호출로 측정하고
+ * 실제 PasswordEncoder 는 cost 4 에서 함께 측정해 호출 경로의 오버헤드가 없는지 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    private static final String RAW_PASSWORD = "Password1!";
+
+    @Param({"4", "8", "10", "12"})
+    int cost;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedAtCost;
+    private String encodedByPasswordEncoder;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new PasswordEncoder();
+        encodedAtCost = BCrypt.withDefaults().hashToString(cost, RAW_PASSWORD.toCharArray());
+        encodedByPasswordEncoder = passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return BCrypt.withDefaults().hashToString(cost, RAW_PASSWORD.toCharArray());
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return BCrypt.verifyer().verify(RAW_PASSWORD.toCharArray(), encodedAtCost).verified;
+    }
+
+    @Benchmark
+    public String passwordEncoderEncode() {
+        return passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean passwordEncoderMatches() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedByPasswordEncoder);
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.domain.todo.tag.TagQuery;
+import org.example.expert.domain.todo.tag.TagQueryResult;
+import org.example.expert.domain.todo.tag.TodoTagIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /todos/tagged 의 조건식 계산 비용. 일정마다 0~3개 태그를 앞쪽 태그일수록 자주 붙인다.
+ * 비트맵 크기(bytes)는 setup 시 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TagQueryBenchmark {
+
+    private static final String[] TAGS = {
+            "urgent", "backend", "frontend", "bug", "feature", "blocked", "infra", "docs", "design", "qa", "security", "ops"
+    };
+
+    @Param({"1000000"})
+    int todos;
+
+    @Param({"urgent", "urgent AND backend AND NOT blocked", "(bug OR security) AND NOT docs", "NOT urgent"})
+    String query;
+
+    private TodoTagIndex index;
+    private TagQuery tagQuery;
+
+    @Setup
+    public void setUp() {
+        // 적재(load)와 이벤트는 저장소를 읽으므로 쓰지 않고 태그 목록을 직접 넣는다
+        index = new TodoTagIndex(null, null);
+        SplittableRandom random = new SplittableRandom(42);
+        for (long todoId = 1; todoId <= todos; todoId++) {
+            Set<String> tags = new HashSet<>();
+            int count = random.nextInt(4);
+            while (tags.size() < count) {
+                // 순위의 제곱을 써서 앞쪽 태그로 치우치게 고른다
+                double u = random.nextDouble();
+                tags.add(TAGS[(int) (u * u * TAGS.length)]);
+            }
+            index.put(todoId, List.copyOf(tags));
+        }
+        tagQuery = TagQuery.parse(query);
+        System.out.printf("%n# bitmap bytes: todos=%d, bytes=%d, matched=%d%n",
+                todos, index.sizeInBytes(), index.query(tagQuery, 0, 0).getTotal());
+    }
+
+    @Benchmark
+    public TagQueryResult firstPage() {
+        return index.query(tagQuery, 0, 10);
+    }
+
+    @Benchmark
+    public TagQueryResult deepPage() {
+        return index.query(tagQuery, 10_000, 10);
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.domain.todo.reminder.TimingWheel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리마인더 한 건을 예약하고 발화하기까지의 비용 (TodoReminderScheduler 기본 설정: 100ms 틱, 5분 구간).
+ * 구간 안에 고르게 퍼진 마감을 한 번에 올린 뒤 100ms 씩 진행하며 모두 발화시킨다.
+ * 비교 대상은 마감 순 우선순위 큐이다. 결과는 리마인더 건수 기준 처리량이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimingWheelBenchmark {
+
+    private static final int REMINDERS = 1_000_000;
+    private static final long START_MILLIS = 1_700_000_000_000L;
+    private static final long TICK_MILLIS = 100;
+    private static final long WINDOW_MILLIS = 300_000;
+
+    // 취소 비율 (마감 변경 / 해제가 섞인 경우)
+    @Param({"0", "20"})
+    int cancelPercent;
+
+    private long[] deadlines;
+    private boolean[] canceled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        deadlines = new long[REMINDERS];
+        canceled = new boolean[REMINDERS];
+        for (int i = 0; i < REMINDERS; i++) {
+            deadlines[i] = START_MILLIS + 1 + random.nextLong(WINDOW_MILLIS);
+            canceled[i] = random.nextInt(100) < cancelPercent;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REMINDERS)
+    public void timingWheel(Blackhole blackhole) {
+        TimingWheel<Integer> wheel = new TimingWheel<>(START_MILLIS, TICK_MILLIS, 8, 3);
+        @SuppressWarnings("unchecked")
+        TimingWheel.Timeout<Integer>[] timeouts = new TimingWheel.Timeout[REMINDERS];
+        for (int i = 0; i < REMINDERS; i++) {
+            timeouts[i] = wheel.add(deadlines[i], i);
+        }
+        for (int i = 0; i < REMINDERS; i++) {
+            if (canceled[i]) {
+                wheel.cancel(timeouts[i]);
+            }
+        }
+        for (long now = START_MILLIS; now <= START_MILLIS + WINDOW_MILLIS + TICK_MILLIS; now += TICK_MILLIS) {
+            wheel.advanceTo(now, timeout -> blackhole.consume(timeout.value()));
+        }
+    }
+
+    // 취소는 큐에서 빼는 대신 발화 시점에 건너뛴다 (PriorityQueue.remove 는 O(n))
+    @Benchmark
+    @OperationsPerInvocation(REMINDERS)
+    public void priorityQueue(Blackhole blackhole) {
+        PriorityQueue<long[]> queue = new PriorityQueue<>(REMINDERS, (a, b) -> Long.compare(a[0], b[0]));
+        for (int i = 0; i < REMINDERS; i++) {
+            queue.add(new long[]{deadlines[i], i});
+        }
+        for (long now = START_MILLIS; now <= START_MILLIS + WINDOW_MILLIS + TICK_MILLIS; now += TICK_MILLIS) {
+            while (!queue.isEmpty() && queue.peek()[0] <= now) {
+                long[] head = queue.poll();
+                if (!canceled[(int) head[1]]) {
+                    blackhole.consume(head[1]);
+                }
+            }
+        }
+    }
+}
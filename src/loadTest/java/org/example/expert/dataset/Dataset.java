@@ -0,0 +1,88 @@
+package org.example.expert.dataset;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 생성된 데이터셋. id 는 모두 1 부터 연속이므로 범위만으로 행을 가리킬 수 있다.
+ * 부하 테스트와 벤치마크는 {@link #popularTodoId} / {@link #popularUserId} 로 생성 시와 같은 인기도 분포를 따라 행을 고른다.
+ */
+public final class Dataset {
+
+    // 기본 비밀번호. 모든 유저가 같은 해시를 공유한다
+    public static final String PASSWORD = "Dataset1!";
+
+    private final DatasetSpec spec;
+    private final ZipfSampler userPopularity;
+    private final ZipfSampler todoPopularity;
+    private final long userMultiplier;
+    private final long todoMultiplier;
+    private final long managers;
+
+    Dataset(DatasetSpec spec, long managers) {
+        this.spec = spec;
+        this.userPopularity = spec.users() > 0 ? new ZipfSampler(spec.users(), spec.exponent()) : null;
+        this.todoPopularity = spec.todos() > 0 ? new ZipfSampler(spec.todos(), spec.exponent()) : null;
+        this.userMultiplier = coprimeMultiplier(spec.users());
+        this.todoMultiplier = coprimeMultiplier(spec.todos());
+        this.managers = managers;
+    }
+
+    public DatasetSpec spec() {
+        return spec;
+    }
+
+    public long managers() {
+        return managers;
+    }
+
+    public long popularUserId(RandomGenerator random) {
+        return scatter(userPopularity.sample(random), spec.users(), userMultiplier);
+    }
+
+    public long popularTodoId(RandomGenerator random) {
+        return scatter(todoPopularity.sample(random), spec.todos(), todoMultiplier);
+    }
+
+    public String emailOf(long userId) {
+        return "user" + userId + "@example.com";
+    }
+
+    Dataset withManagers(long managers) {
+        return new Dataset(spec, managers);
+    }
+
+    static Dataset planned(DatasetSpec spec) {
+        return new Dataset(spec, 0);
+    }
+
+    /**
+     * 인기 순위를 id 로 흩뿌린다. 순위 1 이 항상 id 1 이면 인기 행이 모두 오래된 행이 되므로
+     * 1..n 위의 고정된 순열(곱셈 역원이 존재하는 상수를 곱하고 더하는 아핀 변환)로 섞는다.
+     */
+    private static long scatter(long rank, long n, long multiplier) {
+        return Math.floorMod((rank - 1) * multiplier + n / 3, n) + 1;
+    }
+
+    private static long coprimeMultiplier(long n) {
+        if (n <= 2) {
+            return 1;
+        }
+        long candidate = 2_654_435_761L % Math.max(n, 1);
+        while (candidate <= 1 || gcd(candidate, n) != 1) {
+            candidate++;
+            if (candidate >= n) {
+                return 1;
+            }
+        }
+        return candidate;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
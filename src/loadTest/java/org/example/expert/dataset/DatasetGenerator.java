@@ -0,0 +1,348 @@
+package org.example.expert.dataset;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.entity.Todo;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * {@link DatasetSpec} 대로 users, todos(+ todo_contents, todo_tags), comments, managers 를 채운다.
+ *
+ * <p>JPA 서비스를 거치지 않고 JDBC 배치 INSERT 로 직접 쓴다. id 를 1 부터 명시해 넣으므로
+ * 대상 테이블은 비어 있어야 하며, 끝난 뒤 identity 시작값을 다음 id 로 맞춘다.
+ * 테이블마다 seed 에서 파생한 별도 난수열을 쓰므로 comments 수를 바꿔도 users, todos 는 그대로이다.
+ */
+@Slf4j
+public class DatasetGenerator {
+
+    private static final int BATCH_SIZE = 5_000;
+    // 엔티티 문자열 컬럼의 기본 길이 VARCHAR(255)
+    private static final int MAX_TEXT_LENGTH = 255;
+    // 일정 본문(TEXT)은 요약보다 충분히 길게 만든다
+    private static final int MAX_CONTENTS_LENGTH = 4_000;
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy", "Windy", "Foggy"};
+    private static final String[] WORDS = {
+            "회의", "보고서", "배포", "리뷰", "점검", "정리", "준비", "검토", "일정", "공유",
+            "release", "backend", "frontend", "migration", "incident", "design", "test", "deploy", "docs", "api"
+    };
+    // 앞쪽일수록 자주 붙는다
+    private static final String[] TAGS = {
+            "urgent", "backend", "frontend", "bug", "feature", "blocked", "infra", "docs", "design", "qa", "security", "ops"
+    };
+    private static final int MAX_TAGS_PER_TODO = 3;
+
+    /**
+     * 제목/본문/댓글을 만드는 단어 목록. 부하 테스트의 검색어도 여기서 고른다.
+     */
+    public static List<String> vocabulary() {
+        return List.of(WORDS);
+    }
+
+    /**
+     * 일정에 붙이는 태그 목록. 부하 테스트의 태그 조건식도 여기서 고른다.
+     */
+    public static List<String> tags() {
+        return List.of(TAGS);
+    }
+
+    private final DataSource dataSource;
+    private final String encodedPassword;
+
+    /**
+     * @param encodedPassword 모든 유저가 공유하는 {@link Dataset#PASSWORD} 의 해시
+     */
+    public DatasetGenerator(DataSource dataSource, String encodedPassword) {
+        this.dataSource = dataSource;
+        this.encodedPassword = encodedPassword;
+    }
+
+    public Dataset generate(DatasetSpec spec) throws SQLException {
+        Dataset dataset = Dataset.planned(spec);
+        long startedAt = System.nanoTime();
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+            connection.setAutoCommit(false);
+            requireEmpty(connection);
+            if (mysql) {
+                // 적재 중에는 제약 검사를 끈다 (id 와 참조는 생성기가 보장)
+                execute(connection, "SET unique_checks = 0, foreign_key_checks = 0");
+            }
+            try {
+                insertUsers(connection, spec);
+                short[] weatherIds = insertWeathers(connection);
+                insertTodos(connection, spec, dataset, weatherIds);
+                insertTags(connection, spec);
+                long managers = insertManagers(connection, spec, dataset);
+                insertComments(connection, spec, dataset);
+                restartIdentities(connection, mysql, spec, managers);
+                dataset = dataset.withManagers(managers);
+            } finally {
+                if (mysql) {
+                    execute(connection, "SET unique_checks = 1, foreign_key_checks = 1");
+                }
+            }
+        }
+
+        log.info("dataset 생성 완료: users={}, todos={}, comments={}, managers={}, {}ms",
+                spec.users(), spec.todos(), spec.comments(), dataset.managers(), (System.nanoTime() - startedAt) / 1_000_000);
+        return dataset;
+    }
+
+    private void insertUsers(Connection connection, DatasetSpec spec) throws SQLException {
+        SplittableRandom random = new SplittableRandom(spec.seed());
+        String sql = "INSERT INTO users (id, email, password, user_role, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (long id = 1; id <= spec.users(); id++) {
+                Timestamp createdAt = timestampAt(spec, id, spec.users());
+                statement.setLong(1, id);
+                statement.setString(2, "user" + id + "@example.com");
+                statement.setString(3, encodedPassword);
+                statement.setString(4, random.nextInt(100) == 0 ? "ADMIN" : "USER");
+                statement.setTimestamp(5, createdAt);
+                statement.setTimestamp(6, createdAt);
+                addBatch(connection, statement, id);
+            }
+            flush(connection, statement);
+        }
+    }
+
+    // weathers 는 애플리케이션이 이미 등록했을 수 있는 사전이므로 비우지 않고 없는 이름만 추가한 뒤 id 를 읽는다
+    private static short[] insertWeathers(Connection connection) throws SQLException {
+        short[] ids = new short[WEATHERS.length];
+        try (PreparedStatement insert = connection.prepareStatement("INSERT IGNORE INTO weathers (name) VALUES (?)");
+             PreparedStatement select = connection.prepareStatement("SELECT id FROM weathers WHERE name = ?")) {
+            for (int i = 0; i < WEATHERS.length; i++) {
+                insert.setString(1, WEATHERS[i]);
+                insert.executeUpdate();
+                select.setString(1, WEATHERS[i]);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    resultSet.next();
+                    ids[i] = resultSet.getShort(1);
+                }
+            }
+        }
+        connection.commit();
+        return ids;
+    }
+
+    // 본문은 todo_contents 에 (id = todo id), todos 에는 요약과 content_id 를 넣는다
+    private void insertTodos(Connection connection, DatasetSpec spec, Dataset dataset, short[] weatherIds) throws SQLException {
+        SplittableRandom random = new SplittableRandom(spec.seed() + 1);
+        SplittableRandom authorRandom = new SplittableRandom(spec.seed() + 4);
+        String contentSql = "INSERT INTO todo_contents (id, contents) VALUES (?, ?)";
+        String todoSql = "INSERT INTO todos (id, title, excerpt, weather_id, content_id, user_id, created_at, modified_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement contentStatement = connection.prepareStatement(contentSql);
+             PreparedStatement todoStatement = connection.prepareStatement(todoSql)) {
+            for (long id = 1; id <= spec.todos(); id++) {
+                Timestamp createdAt = timestampAt(spec, id, spec.todos());
+                String title = words(random, 2 + random.nextInt(4), MAX_TEXT_LENGTH);
+                String contents = words(random, 5 + random.nextInt(200), MAX_CONTENTS_LENGTH);
+
+                contentStatement.setLong(1, id);
+                contentStatement.setString(2, contents);
+                contentStatement.addBatch();
+
+                todoStatement.setLong(1, id);
+                todoStatement.setString(2, title);
+                todoStatement.setString(3, Todo.excerptOf(contents));
+                todoStatement.setShort(4, weatherIds[random.nextInt(WEATHERS.length)]);
+                todoStatement.setLong(5, id);
+                todoStatement.setLong(6, dataset.popularUserId(authorRandom));
+                todoStatement.setTimestamp(7, createdAt);
+                todoStatement.setTimestamp(8, modifiedAfter(spec, random, createdAt));
+                todoStatement.addBatch();
+
+                if (id % BATCH_SIZE == 0) {
+                    contentStatement.executeBatch();
+                    flush(connection, todoStatement);
+                }
+            }
+            contentStatement.executeBatch();
+            flush(connection, todoStatement);
+        }
+    }
+
+    // 일정마다 0~3개, 순위가 앞선 태그일수록 자주 붙인다
+    private void insertTags(Connection connection, DatasetSpec spec) throws SQLException {
+        SplittableRandom random = new SplittableRandom(spec.seed() + 5);
+        ZipfSampler tagSampler = new ZipfSampler(TAGS.length, spec.exponent());
+        String[] picked = new String[MAX_TAGS_PER_TODO];
+        long rows = 0;
+
+        String sql = "INSERT INTO todo_tags (todo_id, name) VALUES (?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (long todoId = 1; todoId <= spec.todos(); todoId++) {
+                int count = random.nextInt(MAX_TAGS_PER_TODO + 1);
+                for (int i = 0; i < count; i++) {
+                    picked[i] = distinctTag(random, tagSampler, picked, i);
+                    statement.setLong(1, todoId);
+                    statement.setString(2, picked[i]);
+                    addBatch(connection, statement, ++rows);
+                }
+            }
+            flush(connection, statement);
+        }
+    }
+
+    // 작성자는 일정 생성 시 담당자로 함께 등록되므로, 작성자 전용 난수열을 처음부터 다시 돌려 같은 작성자를 얻는다
+    private long insertManagers(Connection connection, DatasetSpec spec, Dataset dataset) throws SQLException {
+        if (spec.todos() == 0) {
+            return 0;
+        }
+        SplittableRandom authorRandom = new SplittableRandom(spec.seed() + 4);
+        SplittableRandom random = new SplittableRandom(spec.seed() + 2);
+        int maxExtra = Math.min(spec.maxManagersPerTodo(), spec.users() - 1);
+        ZipfSampler extraManagers = maxExtra > 0 ? new ZipfSampler(maxExtra + 1, spec.exponent()) : null;
+        long[] picked = new long[maxExtra + 1];
+        long id = 0;
+
+        String sql = "INSERT INTO managers (id, user_id, todo_id) VALUES (?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (long todoId = 1; todoId <= spec.todos(); todoId++) {
+                picked[0] = dataset.popularUserId(authorRandom);
+                int count = 1 + (extraManagers == null ? 0 : extraManagers.sample(random) - 1);
+                for (int i = 1; i < count; i++) {
+                    picked[i] = distinctUser(random, spec.users(), picked, i);
+                }
+                for (int i = 0; i < count; i++) {
+                    statement.setLong(1, ++id);
+                    statement.setLong(2, picked[i]);
+                    statement.setLong(3, todoId);
+                    addBatch(connection, statement, id);
+                }
+            }
+            flush(connection, statement);
+        }
+        return id;
+    }
+
+    private void insertComments(Connection connection, DatasetSpec spec, Dataset dataset) throws SQLException {
+        SplittableRandom random = new SplittableRandom(spec.seed() + 3);
+        String sql = "INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (long id = 1; id <= spec.comments(); id++) {
+                long todoId = dataset.popularTodoId(random);
+                // 댓글은 일정 작성 이후에 달린다
+                Timestamp createdAt = modifiedAfter(spec, random, timestampAt(spec, todoId, spec.todos()));
+                statement.setLong(1, id);
+                statement.setString(2, words(random, 1 + random.nextInt(20), MAX_TEXT_LENGTH));
+                statement.setLong(3, dataset.popularUserId(random));
+                statement.setLong(4, todoId);
+                statement.setTimestamp(5, createdAt);
+                statement.setTimestamp(6, createdAt);
+                addBatch(connection, statement, id);
+            }
+            flush(connection, statement);
+        }
+    }
+
+    private static long distinctUser(SplittableRandom random, int users, long[] picked, int size) {
+        while (true) {
+            long candidate = 1 + random.nextInt(users);
+            boolean duplicate = false;
+            for (int i = 0; i < size && !duplicate; i++) {
+                duplicate = picked[i] == candidate;
+            }
+            if (!duplicate) {
+                return candidate;
+            }
+        }
+    }
+
+    private static String distinctTag(SplittableRandom random, ZipfSampler tagSampler, String[] picked, int size) {
+        while (true) {
+            String candidate = TAGS[tagSampler.sample(random) - 1];
+            boolean duplicate = false;
+            for (int i = 0; i < size && !duplicate; i++) {
+                duplicate = picked[i].equals(candidate);
+            }
+            if (!duplicate) {
+                return candidate;
+            }
+        }
+    }
+
+    private static void requireEmpty(Connection connection) throws SQLException {
+        for (String table : new String[]{"users", "todos", "todo_contents", "todo_tags", "comments", "managers"}) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+                resultSet.next();
+                if (resultSet.getLong(1) > 0) {
+                    throw new IllegalStateException(table + " 테이블이 비어 있지 않습니다. 빈 스키마에서 실행해야 합니다.");
+                }
+            }
+        }
+    }
+
+    // id 를 직접 넣었으므로 이후 애플리케이션이 INSERT 할 때 충돌하지 않도록 identity 를 다음 값으로 옮긴다
+    private static void restartIdentities(Connection connection, boolean mysql, DatasetSpec spec, long managers) throws SQLException {
+        String[][] tables = {
+                {"users", String.valueOf(spec.users() + 1)},
+                {"todos", String.valueOf(spec.todos() + 1)},
+                {"todo_contents", String.valueOf(spec.todos() + 1)},
+                {"comments", String.valueOf(spec.comments() + 1)},
+                {"managers", String.valueOf(managers + 1)}
+        };
+        for (String[] table : tables) {
+            execute(connection, mysql
+                    ? "ALTER TABLE " + table[0] + " AUTO_INCREMENT = " + table[1]
+                    : "ALTER TABLE " + table[0] + " ALTER COLUMN id RESTART WITH " + table[1]);
+        }
+        connection.commit();
+    }
+
+    private static void addBatch(Connection connection, PreparedStatement statement, long count) throws SQLException {
+        statement.addBatch();
+        if (count % BATCH_SIZE == 0) {
+            flush(connection, statement);
+        }
+    }
+
+    private static void flush(Connection connection, PreparedStatement statement) throws SQLException {
+        statement.executeBatch();
+        connection.commit();
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    // id 순서대로 [until - span, until] 구간에 고르게 퍼뜨린다
+    private static Timestamp timestampAt(DatasetSpec spec, long id, long total) {
+        long spanSeconds = spec.span().toSeconds();
+        long offset = total <= 1 ? spanSeconds : spanSeconds * (id - 1) / (total - 1);
+        return Timestamp.valueOf(spec.until().minusSeconds(spanSeconds - offset));
+    }
+
+    private static Timestamp modifiedAfter(DatasetSpec spec, SplittableRandom random, Timestamp createdAt) {
+        LocalDateTime created = createdAt.toLocalDateTime();
+        long remaining = Math.max(Duration.between(created, spec.until()).toSeconds(), 0);
+        long delay = remaining == 0 ? 0 : random.nextLong(remaining + 1);
+        return Timestamp.valueOf(created.plusSeconds(delay));
+    }
+
+    private static String words(SplittableRandom random, int count, int maxLength) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.length() > maxLength ? builder.substring(0, maxLength) : builder.toString();
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.expert.dataset;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.expert.ExpertApplication;
+import org.example.expert.config.PasswordEncoder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+
+/**
+ * DB_URL 이 가리키는 DB 에 합성 데이터셋을 만든다.
+ *
+ * <p>스키마는 애플리케이션과 똑같이 Hibernate 가 엔티티에서 만들도록 ddl-auto=create 로 컨텍스트를 띄운다.
+ * (기존 테이블은 지워진다) 이렇게 만든 DB 로 애플리케이션을 띄울 때는 기본값인 create-drop 이 데이터를 지우므로
+ * SPRING_JPA_HIBERNATE_DDL_AUTO=none 으로 실행해야 한다.
+ */
+public class DatasetGeneratorMain {
+
+    public static void main(String[] args) throws Exception {
+        DatasetSpec spec = DatasetSpec.fromSystemProperties();
+        if (spec.isEmpty()) {
+            throw new IllegalArgumentException("-Pdataset.users 등으로 데이터셋 크기를 지정해야 합니다.");
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.hibernate.ddl-auto=create", "--warmup.enabled=false")) {
+            Dataset dataset = generate(context, spec);
+            System.out.printf("dataset: users=%d, todos=%d, comments=%d, managers=%d, seed=%d%n",
+                    spec.users(), spec.todos(), spec.comments(), dataset.managers(), spec.seed());
+        }
+    }
+
+    /**
+     * 컨텍스트의 커넥션 풀을 그대로 쓰되, 느린 쿼리 로그 프록시는 건너뛴다.
+     */
+    public static Dataset generate(ConfigurableApplicationContext context, DatasetSpec spec) throws Exception {
+        DataSource dataSource = context.getBean(DataSource.class).unwrap(HikariDataSource.class);
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode(Dataset.PASSWORD);
+        return new DatasetGenerator(dataSource, encodedPassword).generate(spec);
+    }
+}
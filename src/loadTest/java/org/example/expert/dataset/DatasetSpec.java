@@ -0,0 +1,58 @@
+package org.example.expert.dataset;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 합성 데이터셋의 규모와 분포. 같은 값이면 항상 같은 데이터가 만들어진다.
+ *
+ * @param users              users 행 수
+ * @param todos              todos 행 수 (작성자는 유저 인기도 Zipf 분포)
+ * @param comments           comments 행 수 (대상 일정은 일정 인기도 Zipf 분포, 작성자는 유저 인기도 Zipf 분포)
+ * @param maxManagersPerTodo 작성자 외에 배정되는 담당자 수의 상한 (일정별 담당자 수도 Zipf 분포)
+ * @param exponent           Zipf 지수. 클수록 소수의 유저/일정에 쏠린다
+ * @param seed               난수 seed
+ * @param until              가장 최근 데이터의 작성 시각
+ * @param span               작성 시각이 퍼지는 기간
+ */
+public record DatasetSpec(
+        int users,
+        int todos,
+        int comments,
+        int maxManagersPerTodo,
+        double exponent,
+        long seed,
+        LocalDateTime until,
+        Duration span
+) {
+
+    public DatasetSpec {
+        if (users < 0 || todos < 0 || comments < 0 || maxManagersPerTodo < 0) {
+            throw new IllegalArgumentException("행 수는 0 이상이어야 합니다.");
+        }
+        if ((todos > 0 && users < 1) || (comments > 0 && todos < 1)) {
+            throw new IllegalArgumentException("todos 에는 users 가, comments 에는 todos 가 필요합니다.");
+        }
+    }
+
+    /**
+     * -Ddataset.users=... 형태의 시스템 프로퍼티로 만든다. users 를 지정하지 않으면 비활성(0 행)이다.
+     * 작성 시각 기준일은 재현성을 위해 현재 시각이 아니라 dataset.until(기본 2024-12-31T00:00)을 쓴다.
+     */
+    public static DatasetSpec fromSystemProperties() {
+        return new DatasetSpec(
+                Integer.parseInt(System.getProperty("dataset.users", "0")),
+                Integer.parseInt(System.getProperty("dataset.todos", "0")),
+                Integer.parseInt(System.getProperty("dataset.comments", "0")),
+                Integer.parseInt(System.getProperty("dataset.maxManagersPerTodo", "20")),
+                Double.parseDouble(System.getProperty("dataset.exponent", "1.0")),
+                Long.parseLong(System.getProperty("dataset.seed", "42")),
+                LocalDateTime.parse(System.getProperty("dataset.until", "2024-12-31T00:00")),
+                Duration.ofDays(Long.parseLong(System.getProperty("dataset.spanDays", "365")))
+        );
+    }
+
+    public boolean isEmpty() {
+        return users == 0;
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.expert.dataset;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 1..n 범위에서 P(k) ∝ 1 / k^exponent 인 Zipf 분포 표본을 뽑는다.
+ * 누적 분포표 없이 O(1) 메모리로 동작하는 rejection-inversion 방식이라 수백만 범위에도 쓸 수 있다.
+ * (W. Hörmann, G. Derflinger, "Rejection-inversion to generate variates from monotone discrete distributions")
+ *
+ * <p>상태가 없으므로 여러 스레드에서 공유해도 된다.
+ */
+public final class ZipfSampler {
+
+    private final int n;
+    private final double exponent;
+    private final double hIntegralX1;
+    private final double hIntegralN;
+    private final double s;
+
+    public ZipfSampler(int n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n 은 1 이상이어야 합니다: " + n);
+        }
+        if (exponent <= 0) {
+            throw new IllegalArgumentException("exponent 는 0 보다 커야 합니다: " + exponent);
+        }
+        this.n = n;
+        this.exponent = exponent;
+        this.hIntegralX1 = hIntegral(1.5) - 1d;
+        this.hIntegralN = hIntegral(n + 0.5);
+        this.s = 2d - hIntegralInverse(hIntegral(2.5) - h(2));
+    }
+
+    /**
+     * @return 1..n 사이의 순위. 1 이 가장 자주 나온다.
+     */
+    public int sample(RandomGenerator random) {
+        while (true) {
+            double u = hIntegralN + random.nextDouble() * (hIntegralX1 - hIntegralN);
+            double x = hIntegralInverse(u);
+            int k = (int) (x + 0.5);
+            if (k < 1) {
+                k = 1;
+            } else if (k > n) {
+                k = n;
+            }
+            if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    }
+
+    private double hIntegral(double x) {
+        double logX = Math.log(x);
+        return helper2((1d - exponent) * logX) * logX;
+    }
+
+    private double h(double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    private double hIntegralInverse(double x) {
+        double t = x * (1d - exponent);
+        if (t < -1d) {
+            t = -1d;
+        }
+        return Math.exp(helper1(t) * x);
+    }
+
+    // log(1 + x) / x, x 가 0 에 가까울 때는 테일러 전개
+    private static double helper1(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.log1p(x) / x;
+        }
+        return 1d - x * (0.5 - x * (1d / 3d - 0.25 * x));
+    }
+
+    // (exp(x) - 1) / x, x 가 0 에 가까울 때는 테일러 전개
+    private static double helper2(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.expm1(x) / x;
+        }
+        return 1d + x * 0.5 * (1d + x / 3d * (1d + 0.25 * x));
+    }
+}
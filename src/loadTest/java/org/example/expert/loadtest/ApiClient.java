@@ -0,0 +1,140 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * 부하 테스트 대상 API 호출. 본문은 Jackson 트리로만 다루고 애플리케이션 DTO 에는 의존하지 않는다.
+ */
+final class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    Response signup(String email, String password) throws IOException, InterruptedException {
+        return post("/auth/signup", null, Map.of("email", email, "password", password, "userRole", "USER"));
+    }
+
+    Response signin(String email, String password) throws IOException, InterruptedException {
+        return post("/auth/signin", null, Map.of("email", email, "password", password));
+    }
+
+    Response createTodo(String token, String title, String contents) throws IOException, InterruptedException {
+        return post("/todos", token, Map.of("title", title, "contents", contents));
+    }
+
+    Response getTodos(String token, int page, int size) throws IOException, InterruptedException {
+        return get("/todos?page=" + page + "&size=" + size, token);
+    }
+
+    Response getTodo(String token, long todoId) throws IOException, InterruptedException {
+        return get("/todos/" + todoId, token);
+    }
+
+    Response searchTodos(String token, String query, int page, int size) throws IOException, InterruptedException {
+        return get("/todos/search?q=" + URLEncoder.encode(query, StandardCharsets.UTF_8) + "&page=" + page + "&size=" + size, token);
+    }
+
+    Response getTodosByTags(String token, String query, int page, int size) throws IOException, InterruptedException {
+        return get("/todos/tagged?q=" + URLEncoder.encode(query, StandardCharsets.UTF_8) + "&page=" + page + "&size=" + size, token);
+    }
+
+    Response createComment(String token, long todoId, String contents) throws IOException, InterruptedException {
+        return post("/todos/" + todoId + "/comments", token, Map.of("contents", contents));
+    }
+
+    Response getComments(String token, long todoId) throws IOException, InterruptedException {
+        return get("/todos/" + todoId + "/comments", token);
+    }
+
+    Response createManager(String token, long todoId, long managerUserId) throws IOException, InterruptedException {
+        return post("/todos/" + todoId + "/managers", token, Map.of("managerUserId", managerUserId));
+    }
+
+    Response getManagers(String token, long todoId) throws IOException, InterruptedException {
+        return get("/todos/" + todoId + "/managers", token);
+    }
+
+    // 토큰 subject 가 userId 이므로 서명 검증 없이 payload 만 읽는다
+    long userIdOf(String bearerToken) throws IOException {
+        String payload = bearerToken.substring("Bearer ".length()).split("\\.")[1];
+        return objectMapper.readTree(Base64.getUrlDecoder().decode(payload)).get("sub").asLong();
+    }
+
+    private Response get(String path, String token) throws IOException, InterruptedException {
+        return send(request(path, token).GET().build());
+    }
+
+    private Response post(String path, String token, Map<String, ?> body) throws IOException, InterruptedException {
+        return send(request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build());
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", token);
+        }
+        return builder;
+    }
+
+    private Response send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        return new Response(response.statusCode(), response.body());
+    }
+
+    final class Response {
+
+        private final int status;
+        private final byte[] body;
+
+        private Response(int status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        boolean isSuccess() {
+            return status / 100 == 2;
+        }
+
+        int status() {
+            return status;
+        }
+
+        JsonNode json() throws IOException {
+            return objectMapper.readTree(body);
+        }
+
+        // 준비 단계에서 실패하면 부하 테스트를 진행할 수 없으므로 즉시 중단한다
+        JsonNode requireJson() throws IOException {
+            if (!isSuccess()) {
+                throw new IllegalStateException("요청이 실패했습니다. status=" + status + ", body=" + new String(body));
+            }
+            return json();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.expert.loadtest;
+
+import org.example.expert.dataset.Dataset;
+import org.example.expert.dataset.DatasetGenerator;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 요청이 참조할 유저/일정. 부하 중 signup, todo-create 결과도 계속 추가된다.
+ */
+final class Fixtures {
+
+    static final String PASSWORD = "LoadTest1!";
+    private static final List<String> SEARCH_WORDS = DatasetGenerator.vocabulary();
+    private static final List<String> TAGS = DatasetGenerator.tags();
+
+    final Pool<UserFixture> users;
+    final Pool<TodoFixture> todos;
+
+    private final AtomicInteger emailSequence = new AtomicInteger();
+    private volatile Dataset dataset;
+
+    Fixtures(int capacity) {
+        this.users = new Pool<>(capacity);
+        this.todos = new Pool<>(capacity);
+    }
+
+    void useDataset(Dataset dataset) {
+        this.dataset = dataset;
+    }
+
+    /**
+     * 조회/댓글 대상 일정. 데이터셋이 있으면 생성 시와 같은 인기도 분포로 고르고, 없으면 pool 에서 고른다.
+     */
+    long readTodoId() {
+        Dataset current = dataset;
+        if (current != null && current.spec().todos() > 0) {
+            return current.popularTodoId(ThreadLocalRandom.current());
+        }
+        return todos.random().id;
+    }
+
+    /**
+     * 데이터셋 단어 한두 개로 된 검색어. 데이터셋이 없으면 부하 중 만든 일정의 제목으로 찾는다.
+     */
+    String searchQuery() {
+        if (dataset == null) {
+            return "title";
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String query = SEARCH_WORDS.get(random.nextInt(SEARCH_WORDS.size()));
+        if (random.nextBoolean()) {
+            query += " " + SEARCH_WORDS.get(random.nextInt(SEARCH_WORDS.size()));
+        }
+        return query;
+    }
+
+    /**
+     * 단일 태그, AND, OR, AND NOT 조건식을 고르게 섞는다. 데이터셋이 없으면 결과가 비어도 비트맵 연산은 그대로 탄다.
+     */
+    String tagQuery() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String left = TAGS.get(random.nextInt(TAGS.size()));
+        String right = TAGS.get(random.nextInt(TAGS.size()));
+        return switch (random.nextInt(4)) {
+            case 0 -> left;
+            case 1 -> left + " AND " + right;
+            case 2 -> left + " OR " + right;
+            default -> left + " AND NOT " + right;
+        };
+    }
+
+    String nextEmail() {
+        return "load" + emailSequence.incrementAndGet() + "@example.com";
+    }
+
+    UserFixture signup(ApiClient client) throws IOException, InterruptedException {
+        String email = nextEmail();
+        String token = client.signup(email, PASSWORD).requireJson().get("bearerToken").asText();
+        return users.add(new UserFixture(client.userIdOf(token), email, token));
+    }
+
+    TodoFixture createTodo(ApiClient client, UserFixture owner) throws IOException, InterruptedException {
+        long todoId = client.createTodo(owner.token(), "title", "contents").requireJson().get("id").asLong();
+        return todos.add(new TodoFixture(todoId, owner));
+    }
+
+    record UserFixture(long id, String email, String token) {
+    }
+
+    static final class TodoFixture {
+
+        final long id;
+        final UserFixture owner;
+        // 같은 유저를 두 번 배정하지 않도록 유저 pool 을 순서대로 훑는다
+        private final AtomicInteger nextManagerIndex = new AtomicInteger();
+
+        TodoFixture(long id, UserFixture owner) {
+            this.id = id;
+            this.owner = owner;
+        }
+
+        /**
+         * 아직 배정하지 않은 유저를 고른다. 모두 배정했으면 null.
+         */
+        UserFixture nextManagerCandidate(Pool<UserFixture> users) {
+            while (true) {
+                int index = nextManagerIndex.getAndIncrement();
+                if (index >= users.size()) {
+                    return null;
+                }
+                UserFixture candidate = users.get(index);
+                if (candidate.id() != owner.id()) {
+                    return candidate;
+                }
+            }
+        }
+    }
+
+    /**
+     * 추가만 가능한 고정 크기 pool. 가득 차면 새 항목은 버린다.
+     */
+    static final class Pool<T> {
+
+        private final AtomicReferenceArray<T> items;
+        private final AtomicInteger reserved = new AtomicInteger();
+        private final AtomicInteger published = new AtomicInteger();
+
+        Pool(int capacity) {
+            this.items = new AtomicReferenceArray<>(capacity);
+        }
+
+        T add(T item) {
+            int index = reserved.getAndIncrement();
+            if (index < items.length()) {
+                items.set(index, item);
+                published.accumulateAndGet(index + 1, Math::max);
+            }
+            return item;
+        }
+
+        int size() {
+            return published.get();
+        }
+
+        // 예약만 되고 아직 채워지지 않은 칸은 앞쪽 칸으로 대신한다
+        T get(int index) {
+            for (int i = index; i >= 0; i--) {
+                T item = items.get(i);
+                if (item != null) {
+                    return item;
+                }
+            }
+            throw new IllegalStateException("pool 이 비어 있습니다.");
+        }
+
+        T random() {
+            return get(ThreadLocalRandom.current().nextInt(size()));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.expert.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 한 엔드포인트의 응답 시간(마이크로초)을 모두 보관하고 종료 시 정렬해 백분위를 계산한다.
+ * 로컬 부하 테스트 규모(수십만 건)에서는 근사 히스토그램보다 정확한 값이 더 유용하다.
+ */
+final class LatencyRecorder {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder errors = new LongAdder();
+    private long[] samples = new long[1024];
+    private int size;
+
+    void record(long latencyMicros, boolean success) {
+        if (!success) {
+            errors.increment();
+        }
+        lock.lock();
+        try {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = latencyMicros;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    Snapshot snapshot() {
+        long[] sorted;
+        lock.lock();
+        try {
+            sorted = Arrays.copyOf(samples, size);
+        } finally {
+            lock.unlock();
+        }
+        Arrays.sort(sorted);
+        return new Snapshot(sorted, errors.sum());
+    }
+
+    record Snapshot(long[] sortedMicros, long errors) {
+
+        int count() {
+            return sortedMicros.length;
+        }
+
+        // nearest-rank 방식
+        double percentileMillis(double percentile) {
+            if (sortedMicros.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sortedMicros.length);
+            return sortedMicros[Math.max(rank, 1) - 1] / 1000.0;
+        }
+
+        double maxMillis() {
+            return sortedMicros.length == 0 ? 0 : sortedMicros[sortedMicros.length - 1] / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.expert.loadtest;
+
+import org.example.expert.loadtest.Fixtures.TodoFixture;
+import org.example.expert.loadtest.Fixtures.UserFixture;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * open model 부하 생성기.
+ * 요청은 응답을 기다리지 않고 포아송 도착(지수 분포 간격)으로 발사되며, 각 요청은 virtual thread 에서 실행된다.
+ * 응답 시간은 실제 전송 시각이 아니라 "보냈어야 할" 시각부터 재므로 서버가 밀려도 지연이 가려지지 않는다.
+ * (coordinated omission 방지)
+ *
+ * <p>동시 요청이 maxInFlight 를 넘으면 새 요청은 보내지 않고 dropped 로 집계한다.
+ * dropped 가 0 이 아니면 목표 처리량을 서버가 감당하지 못했다는 뜻이다.
+ */
+final class LoadGenerator {
+
+    private final ApiClient client;
+    private final Fixtures fixtures;
+    private final LoadTestSettings settings;
+    private final SplittableRandom random;
+
+    LoadGenerator(ApiClient client, Fixtures fixtures, LoadTestSettings settings) {
+        this.client = client;
+        this.fixtures = fixtures;
+        this.settings = settings;
+        this.random = new SplittableRandom(settings.seed());
+    }
+
+    PhaseResult run(Duration duration) {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+        AtomicInteger inFlight = new AtomicInteger();
+        LongAdder dropped = new LongAdder();
+        long sent = 0;
+
+        double meanIntervalNanos = 1_000_000_000d / settings.ratePerSecond();
+        long startedAt = System.nanoTime();
+        long endAt = startedAt + duration.toNanos();
+        double intendedAt = startedAt;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (intendedAt < endAt) {
+                long scheduledAt = (long) intendedAt;
+                long waitNanos = scheduledAt - System.nanoTime();
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+
+                Operation operation = settings.mix().next(random);
+                if (inFlight.incrementAndGet() > settings.maxInFlight()) {
+                    inFlight.decrementAndGet();
+                    dropped.increment();
+                } else {
+                    sent++;
+                    executor.execute(() -> {
+                        try {
+                            execute(operation, scheduledAt, recorders);
+                        } finally {
+                            inFlight.decrementAndGet();
+                        }
+                    });
+                }
+                intendedAt += -Math.log(1 - random.nextDouble()) * meanIntervalNanos;
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        Map<Operation, LatencyRecorder.Snapshot> snapshots = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> snapshots.put(operation, recorder.snapshot()));
+        return new PhaseResult(snapshots, sent, dropped.sum(), elapsedNanos);
+    }
+
+    private void execute(Operation operation, long scheduledAt, Map<Operation, LatencyRecorder> recorders) {
+        Operation executed = operation;
+        boolean success;
+        try {
+            ApiClient.Response response;
+            UserFixture user = fixtures.users.random();
+            TodoFixture todo = fixtures.todos.random();
+            switch (operation) {
+                case SIGNUP -> {
+                    String email = fixtures.nextEmail();
+                    response = client.signup(email, Fixtures.PASSWORD);
+                    if (response.isSuccess()) {
+                        String token = response.json().get("bearerToken").asText();
+                        fixtures.users.add(new UserFixture(client.userIdOf(token), email, token));
+                    }
+                }
+                case SIGNIN -> response = client.signin(user.email(), Fixtures.PASSWORD);
+                case TODO_CREATE -> {
+                    response = client.createTodo(user.token(), "title", "contents");
+                    if (response.isSuccess()) {
+                        fixtures.todos.add(new TodoFixture(response.json().get("id").asLong(), user));
+                    }
+                }
+                case TODO_LIST -> response = client.getTodos(user.token(), 1 + ThreadLocalRandom.current().nextInt(5), 10);
+                case TODO_DETAIL -> response = client.getTodo(user.token(), fixtures.readTodoId());
+                case TODO_SEARCH -> response = client.searchTodos(user.token(), fixtures.searchQuery(), 1, 10);
+                case TODO_TAGGED -> response = client.getTodosByTags(user.token(), fixtures.tagQuery(), 1, 10);
+                case COMMENT_CREATE -> response = client.createComment(user.token(), fixtures.readTodoId(), "comment");
+                case COMMENT_LIST -> response = client.getComments(user.token(), fixtures.readTodoId());
+                case MANAGER_CREATE -> {
+                    UserFixture candidate = todo.nextManagerCandidate(fixtures.users);
+                    if (candidate == null) {
+                        // 배정할 유저가 남지 않은 일정은 조회로 대신한다
+                        executed = Operation.MANAGER_LIST;
+                        response = client.getManagers(todo.owner.token(), todo.id);
+                    } else {
+                        response = client.createManager(todo.owner.token(), todo.id, candidate.id());
+                    }
+                }
+                case MANAGER_LIST -> response = client.getManagers(user.token(), fixtures.readTodoId());
+                default -> throw new IllegalStateException("Unexpected operation: " + operation);
+            }
+            success = response.isSuccess();
+        } catch (Exception e) {
+            success = false;
+        }
+        long latencyMicros = (System.nanoTime() - scheduledAt) / 1_000;
+        recorders.get(executed).record(latencyMicros, success);
+    }
+
+    record PhaseResult(Map<Operation, LatencyRecorder.Snapshot> snapshots, long sent, long dropped, long elapsedNanos) {
+
+        double elapsedSeconds() {
+            return elapsedNanos / 1_000_000_000d;
+        }
+    }
+}
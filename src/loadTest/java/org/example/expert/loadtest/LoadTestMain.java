@@ -0,0 +1,177 @@
+package org.example.expert.loadtest;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.dataset.Dataset;
+import org.example.expert.dataset.DatasetGenerator;
+import org.example.expert.dataset.DatasetGeneratorMain;
+import org.example.expert.dataset.DatasetSpec;
+import org.example.expert.domain.todo.search.SearchIndexStats;
+import org.example.expert.domain.todo.search.TodoSearchIndex;
+import org.example.expert.domain.todo.search.TodoSearchIndexer;
+import org.example.expert.domain.todo.tag.TodoTagIndex;
+import org.example.expert.domain.user.directory.UserDirectory;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 외부 의존성 없이 애플리케이션을 띄워 부하를 거는 end-to-end 부하 테스트.
+ *
+ * <ol>
+ *     <li>날씨 API stub 과 H2 in-memory DB(MySQL 모드)로 애플리케이션을 기동한다.</li>
+ *     <li>-Pdataset.* 가 지정되면 합성 데이터셋을 적재하고, 조회 요청은 데이터셋의 인기도 분포대로 일정을 고른다.</li>
+ *     <li>유저와 일정을 미리 만든다.</li>
+ *     <li>검색 색인이 적재된 데이터를 모두 색인할 때까지 기다리고, 색인 크기와 프로세스 내 검색 지연을 기록한다.</li>
+ *     <li>warm-up 구간을 실행하고 버린 뒤, 측정 구간의 결과를 엔드포인트별로 리포트한다.</li>
+ * </ol>
+ *
+ * <p>부하 생성기와 애플리케이션이 같은 JVM 에서 CPU 를 나눠 쓰므로 절대값보다는 모드/변경 간 비교에 쓴다.
+ */
+public class LoadTestMain {
+
+    // DB 가 매번 새로 만들어지므로 이전 실행의 색인은 지우고 시작한다
+    private static final Path SEARCH_INDEX_DIRECTORY = Path.of("build/loadtest/todo-search");
+    private static final Duration SEARCH_INDEX_TIMEOUT = Duration.ofMinutes(30);
+    private static final int SEARCH_SAMPLES = 1_000;
+    private static final long SEARCH_SEED = 7;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        FileSystemUtils.deleteRecursively(SEARCH_INDEX_DIRECTORY);
+
+        try (WeatherApiStub weatherApi = WeatherApiStub.start();
+             ConfigurableApplicationContext context = startApplication(settings, weatherApi)) {
+            String port = context.getEnvironment().getRequiredProperty("local.server.port");
+            ApiClient client = new ApiClient("http://127.0.0.1:" + port);
+
+            Fixtures fixtures = new Fixtures(settings.users() + estimatedWrites(settings));
+            DatasetSpec datasetSpec = DatasetSpec.fromSystemProperties();
+            String datasetDescription = "(none)";
+            if (!datasetSpec.isEmpty()) {
+                // 적재 중에 따라 읽는 대신, 적재가 끝난 뒤 빈 색인에서 새로 만드는 시간을 잰다
+                TodoSearchIndexer searchIndexer = context.getBean(TodoSearchIndexer.class);
+                searchIndexer.stop();
+                Dataset dataset = DatasetGeneratorMain.generate(context, datasetSpec);
+                FileSystemUtils.deleteRecursively(SEARCH_INDEX_DIRECTORY);
+                searchIndexer.start();
+                // 기동 시 적재한 이후에 들어간 유저도 메모리에서 찾을 수 있도록 다시 적재
+                context.getBean(UserDirectory.class).load();
+                context.getBean(TodoTagIndex.class).load();
+                fixtures.useDataset(dataset);
+                datasetDescription = String.format("users=%d, todos=%d, comments=%d, managers=%d, exponent=%.2f, seed=%d",
+                        datasetSpec.users(), datasetSpec.todos(), datasetSpec.comments(), dataset.managers(),
+                        datasetSpec.exponent(), datasetSpec.seed());
+            }
+            seed(client, fixtures, settings.users());
+            String searchIndexDescription = awaitSearchIndex(context);
+
+            LoadGenerator generator = new LoadGenerator(client, fixtures, settings);
+            if (!settings.warmup().isZero()) {
+                System.out.printf("warm-up %ds ...%n", settings.warmup().toSeconds());
+                generator.run(settings.warmup());
+            }
+            System.out.printf("measuring %ds ...%n", settings.duration().toSeconds());
+            String report = LoadTestReport.render(settings, datasetDescription, searchIndexDescription, generator.run(settings.duration()));
+
+            System.out.println();
+            System.out.println("=== load test ===");
+            System.out.print(report);
+            System.out.println("report: " + writeReport(settings, report));
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestSettings settings, WeatherApiStub weatherApi) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--weather.api.base-url=" + weatherApi.baseUrl(),
+                "--jwt.secret.key=" + randomSecretKey(),
+                "--server.port=0",
+                "--management.server.port=0",
+                "--admin.audit.directory=build/loadtest/admin-audit",
+                "--search.index.directory=" + SEARCH_INDEX_DIRECTORY
+        ));
+        if (!settings.profiles().isBlank()) {
+            args.add("--spring.profiles.active=" + settings.profiles());
+        }
+        return new SpringApplicationBuilder(ExpertApplication.class).run(args.toArray(String[]::new));
+    }
+
+    private static String awaitSearchIndex(ConfigurableApplicationContext context) {
+        long startedAt = System.nanoTime();
+        if (!context.getBean(TodoSearchIndexer.class).awaitIdle(SEARCH_INDEX_TIMEOUT)) {
+            throw new IllegalStateException("검색 색인이 " + SEARCH_INDEX_TIMEOUT + " 안에 끝나지 않았습니다.");
+        }
+        double catchUpSeconds = (System.nanoTime() - startedAt) / 1_000_000_000d;
+
+        TodoSearchIndex index = context.getBean(TodoSearchIndex.class);
+        SearchIndexStats stats = index.stats();
+        long[] latencies = new long[SEARCH_SAMPLES];
+        SplittableRandom random = new SplittableRandom(SEARCH_SEED);
+        List<String> words = DatasetGenerator.vocabulary();
+        for (int i = 0; i < SEARCH_SAMPLES; i++) {
+            String query = words.get(random.nextInt(words.size())) + " " + words.get(random.nextInt(words.size()));
+            long queryStartedAt = System.nanoTime();
+            index.search(query, 10);
+            latencies[i] = System.nanoTime() - queryStartedAt;
+        }
+        Arrays.sort(latencies);
+        return String.format("documents=%d, segments=%d, size=%.1fMiB, catch-up=%.1fs, "
+                        + "in-process top-10 query over %d samples p50=%.2fms p99=%.2fms",
+                stats.getDocuments(), stats.getSegments(), stats.getBytes() / 1048576d, catchUpSeconds,
+                SEARCH_SAMPLES, latencies[SEARCH_SAMPLES / 2] / 1e6, latencies[SEARCH_SAMPLES * 99 / 100] / 1e6);
+    }
+
+    // signup / todo-create 로 늘어날 fixture 수의 상한
+    private static int estimatedWrites(LoadTestSettings settings) {
+        double seconds = settings.warmup().toSeconds() + settings.duration().toSeconds();
+        return (int) Math.min(Integer.MAX_VALUE - settings.users(), Math.ceil(settings.ratePerSecond() * seconds * 1.2) + 1);
+    }
+
+    // 유저마다 일정을 하나씩 만들어 둔다
+    private static void seed(ApiClient client, Fixtures fixtures, int users) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(users);
+            for (int i = 0; i < users; i++) {
+                futures.add(executor.submit(() -> {
+                    fixtures.createTodo(client, fixtures.signup(client));
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private static String randomSecretKey() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return Base64.getEncoder().encodeToString(key);
+    }
+
+    private static Path writeReport(LoadTestSettings settings, String report) throws Exception {
+        Path directory = Path.of(settings.reportDirectory());
+        Files.createDirectories(directory);
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        return Files.writeString(directory.resolve("loadtest-" + timestamp + ".txt"), report, StandardCharsets.UTF_8);
+    }
+}
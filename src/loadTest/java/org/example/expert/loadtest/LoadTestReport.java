@@ -0,0 +1,51 @@
+package org.example.expert.loadtest;
+
+import java.util.Map;
+
+/**
+ * 엔드포인트별 처리량과 응답 시간 백분위를 표로 만든다.
+ */
+final class LoadTestReport {
+
+    private static final String ROW = "%-28s %8s %7s %9s %9s %9s %9s %9s %9s%n";
+
+    private LoadTestReport() {
+    }
+
+    static String render(LoadTestSettings settings, String dataset, String searchIndex, LoadGenerator.PhaseResult result) {
+        StringBuilder report = new StringBuilder();
+        double seconds = result.elapsedSeconds();
+
+        report.append(String.format("target rate=%.1f req/s, duration=%.1fs, users=%d, seed=%d, profiles=%s%n",
+                settings.ratePerSecond(), seconds, settings.users(), settings.seed(),
+                settings.profiles().isBlank() ? "(default)" : settings.profiles()));
+        report.append(String.format("mix=%s%n", settings.mix()));
+        report.append(String.format("dataset=%s%n", dataset));
+        report.append(String.format("search index=%s%n", searchIndex));
+        report.append(String.format("sent=%d, achieved=%.1f req/s, dropped(over maxInFlight=%d)=%d%n%n",
+                result.sent(), result.sent() / seconds, settings.maxInFlight(), result.dropped()));
+
+        report.append(String.format(ROW, "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (Map.Entry<Operation, LatencyRecorder.Snapshot> entry : result.snapshots().entrySet()) {
+            LatencyRecorder.Snapshot snapshot = entry.getValue();
+            if (snapshot.count() == 0) {
+                continue;
+            }
+            report.append(String.format(ROW,
+                    entry.getKey().endpoint(),
+                    snapshot.count(),
+                    snapshot.errors(),
+                    format(snapshot.count() / seconds),
+                    format(snapshot.percentileMillis(50)),
+                    format(snapshot.percentileMillis(90)),
+                    format(snapshot.percentileMillis(99)),
+                    format(snapshot.percentileMillis(99.9)),
+                    format(snapshot.maxMillis())));
+        }
+        return report.toString();
+    }
+
+    private static String format(double value) {
+        return String.format("%.1f", value);
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.expert.loadtest;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정. gradle loadTest 태스크가 -Pload.* 값을 시스템 프로퍼티로 넘긴다.
+ */
+record LoadTestSettings(
+        double ratePerSecond,
+        Duration warmup,
+        Duration duration,
+        int users,
+        int maxInFlight,
+        long seed,
+        OperationMix mix,
+        String profiles,
+        String reportDirectory
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        LoadTestSettings settings = new LoadTestSettings(
+                Double.parseDouble(System.getProperty("load.rate", "200")),
+                Duration.ofSeconds(Long.parseLong(System.getProperty("load.warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(System.getProperty("load.duration", "30"))),
+                Integer.parseInt(System.getProperty("load.users", "50")),
+                Integer.parseInt(System.getProperty("load.maxInFlight", "2000")),
+                Long.parseLong(System.getProperty("load.seed", "42")),
+                OperationMix.parse(System.getProperty("load.mix", OperationMix.DEFAULT)),
+                System.getProperty("load.profiles", ""),
+                System.getProperty("load.reportDir", "build/reports/loadtest")
+        );
+        if (settings.ratePerSecond <= 0 || settings.users < 2 || settings.maxInFlight < 1) {
+            throw new IllegalArgumentException("rate 는 0 보다, users 는 2 이상, maxInFlight 는 1 이상이어야 합니다.");
+        }
+        return settings;
+    }
+}
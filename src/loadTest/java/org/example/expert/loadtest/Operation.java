@@ -0,0 +1,44 @@
+package org.example.expert.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 부하 테스트가 호출하는 엔드포인트. 리포트는 이 단위로 집계된다.
+ */
+enum Operation {
+
+    SIGNUP("signup", "POST /auth/signup"),
+    SIGNIN("signin", "POST /auth/signin"),
+    TODO_CREATE("todo-create", "POST /todos"),
+    TODO_LIST("todo-list", "GET /todos"),
+    TODO_DETAIL("todo-detail", "GET /todos/{id}"),
+    TODO_SEARCH("todo-search", "GET /todos/search"),
+    TODO_TAGGED("todo-tagged", "GET /todos/tagged"),
+    COMMENT_CREATE("comment-create", "POST /todos/{id}/comments"),
+    COMMENT_LIST("comment-list", "GET /todos/{id}/comments"),
+    MANAGER_CREATE("manager-create", "POST /todos/{id}/managers"),
+    MANAGER_LIST("manager-list", "GET /todos/{id}/managers");
+
+    private final String key;
+    private final String endpoint;
+
+    Operation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    String key() {
+        return key;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    static Operation of(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equalsIgnoreCase(key.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 operation 입니다: " + key));
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.expert.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.random.RandomGenerator;
+
+/**
+ * "todo-list:30,todo-detail:20,..." 형식의 가중치로 다음 요청 종류를 고른다.
+ */
+final class OperationMix {
+
+    static final String DEFAULT = "signup:2,signin:5,todo-create:10,todo-list:22,todo-detail:20,"
+            + "todo-search:5,todo-tagged:3,comment-create:10,comment-list:13,manager-create:5,manager-list:5";
+
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private OperationMix(Map<Operation, Integer> weights) {
+        this.operations = new Operation[weights.size()];
+        this.cumulativeWeights = new int[weights.size()];
+        int total = 0;
+        int index = 0;
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            total += entry.getValue();
+            operations[index] = entry.getKey();
+            cumulativeWeights[index] = total;
+            index++;
+        }
+        this.totalWeight = total;
+    }
+
+    static OperationMix parse(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : spec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] pair = entry.split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix 항목은 operation:weight 형식이어야 합니다: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("weight 는 0 이상이어야 합니다: " + entry);
+            }
+            if (weight > 0) {
+                weights.merge(Operation.of(pair[0]), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("mix 에 weight 가 0 보다 큰 operation 이 없습니다: " + spec);
+        }
+        return new OperationMix(weights);
+    }
+
+    Operation next(RandomGenerator random) {
+        int point = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(",");
+        int previous = 0;
+        for (int i = 0; i < operations.length; i++) {
+            joiner.add(operations[i].key() + ":" + (cumulativeWeights[i] - previous));
+            previous = cumulativeWeights[i];
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.expert.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.StringJoiner;
+import java.util.concurrent.Executors;
+
+/**
+ * https://f-api.github.io/f-api/weather.json 을 흉내 내는 로컬 stub.
+ * 366일 모두에 대한 날씨를 돌려주므로 어느 날 실행해도 WeatherClient 가 오늘 날씨를 찾을 수 있다.
+ */
+final class WeatherApiStub implements AutoCloseable {
+
+    static final String PATH = "/f-api/weather.json";
+
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy", "Windy", "Foggy"};
+
+    private final HttpServer server;
+
+    private WeatherApiStub(HttpServer server) {
+        this.server = server;
+    }
+
+    static WeatherApiStub start() throws IOException {
+        byte[] body = weatherJson();
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(PATH, exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return new WeatherApiStub(server);
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    // 윤년 기준 366일 (02-29 포함)
+    private static byte[] weatherJson() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
+        StringJoiner json = new StringJoiner(",", "[", "]");
+        LocalDate day = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < 366; i++, day = day.plusDays(1)) {
+            json.add("{\"date\":\"" + day.format(formatter) + "\",\"weather\":\"" + WEATHERS[i % WEATHERS.length] + "\"}");
+        }
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,7 +1,9 @@
 package org.example.expert.client;
 
+import io.micrometer.core.annotation.Timed;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,11 +19,14 @@ import java.time.format.DateTimeFormatter;
 public class WeatherClient {
 
     private final RestTemplate restTemplate;
+    private final String baseUrl;
 
-    public WeatherClient(RestTemplateBuilder builder) {
+    public WeatherClient(RestTemplateBuilder builder, @Value("${weather.api.base-url}") String baseUrl) {
         this.restTemplate = builder.build();
+        this.baseUrl = baseUrl;
     }
 
+    @Timed(value = "weather.client.requests", description = "날씨 API 호출 시간", histogram = true)
     public String getTodayWeather() {
         ResponseEntity<WeatherDto[]> responseEntity =
                 restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
@@ -48,7 +53,7 @@ public class WeatherClient {
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
@@ -0,0 +1,195 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.jsonwebtoken.Claims;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoSort;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSpecifications;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 트래픽을 받기 전에 JIT 와 커넥션 풀을 데운다.
+ * ApplicationRunner 가 모두 끝나야 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌므로,
+ * 이 작업이 끝날 때까지 /readyz 는 실패를 반환하고 로드밸런서가 트래픽을 보내지 않는다.
+ *
+ * <p>DB 작업은 읽기 전용 트랜잭션에서 기존 행을 조회하기만 하므로 데이터나 AUTO_INCREMENT 에 흔적을 남기지 않는다.
+ * (user directory 는 ApplicationStartedEvent 에서 이미 적재된 상태이다.)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class ApplicationWarmup implements ApplicationRunner {
+
+    private static final int PAGE_SIZE = 10;
+
+    private final DataSource dataSource;
+    private final JwtUtil jwtUtil;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final UserRepository userRepository;
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final int iterations;
+    private final int queryIterations;
+
+    public ApplicationWarmup(
+            DataSource dataSource,
+            JwtUtil jwtUtil,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            EntityManager entityManager,
+            UserRepository userRepository,
+            TodoRepository todoRepository,
+            CommentRepository commentRepository,
+            ManagerRepository managerRepository,
+            @Value("${warmup.iterations:10000}") int iterations,
+            @Value("${warmup.query-iterations:200}") int queryIterations
+    ) {
+        this.dataSource = dataSource;
+        this.jwtUtil = jwtUtil;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.entityManager = entityManager;
+        this.userRepository = userRepository;
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.managerRepository = managerRepository;
+        this.iterations = iterations;
+        this.queryIterations = queryIterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long startedAt = System.nanoTime();
+
+        long poolMillis = timed(this::prefillConnectionPool);
+        long jwtMillis = timed(this::warmUpJwt);
+        long jacksonMillis = timed(this::warmUpJackson);
+        long queryMillis = timed(this::warmUpQueries);
+
+        log.info("warm-up 완료: {}ms (connection pool {}ms, jwt {}ms, jackson {}ms, queries {}ms)",
+                elapsedMillis(startedAt), poolMillis, jwtMillis, jacksonMillis, queryMillis);
+    }
+
+    // 최소 유휴 커넥션 수만큼 동시에 빌려 풀이 미리 채워지도록 한다
+    private void prefillConnectionPool() throws SQLException {
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        int size = Math.max(hikari.getMinimumIdle(), 1);
+
+        List<Connection> connections = new ArrayList<>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                connections.add(hikari.getConnection());
+            }
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+    }
+
+    private void warmUpJwt() {
+        String bearerToken = jwtUtil.createToken(1L, "warmup@example.com", UserRole.USER);
+        for (int i = 0; i < iterations; i++) {
+            if (i % 100 == 0) {
+                bearerToken = jwtUtil.createToken((long) i, "warmup@example.com", UserRole.USER);
+            }
+            Claims claims = jwtUtil.extractClaims(jwtUtil.substringToken(bearerToken));
+            UserRole.valueOf(claims.get("userRole", String.class));
+        }
+    }
+
+    private void warmUpJackson() throws JsonProcessingException {
+        UserResponse user = new UserResponse(1L, "warmup@example.com");
+        LocalDateTime now = LocalDateTime.now();
+        List<TodoSummaryResponse> todos = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> new TodoSummaryResponse((long) i, "title" + i, "contents" + i, "Sunny", user, now, now))
+                .toList();
+        List<CommentResponse> comments = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> new CommentResponse((long) i, "comment" + i, user))
+                .toList();
+        List<ManagerResponse> managers = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> new ManagerResponse((long) i, user))
+                .toList();
+        PageResponse<TodoSummaryResponse> todoPage = PageResponse.from(new PageImpl<>(todos, PageRequest.of(0, PAGE_SIZE), 100));
+
+        for (int i = 0; i < iterations; i++) {
+            objectMapper.writeValueAsBytes(todoPage);
+            objectMapper.writeValueAsBytes(comments);
+            objectMapper.writeValueAsBytes(managers);
+        }
+    }
+
+    // 쓰기 없이 읽기 전용 트랜잭션에서 기존 행만 조회한다 (데이터가 없으면 0번 id 로 같은 쿼리를 실행)
+    private void warmUpQueries() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Todo todo = todoRepository.findAll(TodoSpecifications.of(TodoSearchCondition.latest()), PageRequest.of(0, 1, TodoSort.DEFAULT.toSort()))
+                    .stream().findFirst().orElse(null);
+            long todoId = todo == null ? 0L : todo.getId();
+            long userId = todo == null ? 0L : todo.getUser().getId();
+            long managerId = managerRepository.findByTodoId(todoId).stream().findFirst().map(Manager::getId).orElse(0L);
+
+            for (int i = 0; i < queryIterations; i++) {
+                entityManager.clear();
+                todoRepository.findAll(TodoSpecifications.of(TodoSearchCondition.latest()), PageRequest.of(0, PAGE_SIZE, TodoSort.DEFAULT.toSort()));
+                todoRepository.findWithContentById(todoId);
+                commentRepository.findByTodoId(todoId);
+                managerRepository.findByTodoId(todoId);
+                managerRepository.findAssignCheck(todoId, userId);
+                managerRepository.findDeleteCheck(todoId, managerId);
+                managerRepository.findManagedTodos(userId, Long.MAX_VALUE, PageRequest.of(0, PAGE_SIZE + 1));
+                userRepository.findUserResponsesByIdIn(List.of(userId));
+            }
+        });
+    }
+
+    private static long timed(WarmupStep step) throws Exception {
+        long startedAt = System.nanoTime();
+        step.run();
+        return elapsedMillis(startedAt);
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+
+    @FunctionalInterface
+    private interface WarmupStep {
+        void run() throws Exception;
+    }
+}
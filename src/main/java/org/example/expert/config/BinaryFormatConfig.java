@@ -0,0 +1,37 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 내부 서비스용 바이너리 인코딩. Accept / Content-Type 이 application/cbor 또는 application/x-jackson-smile 이면
+ * 같은 DTO 를 해당 포맷으로 읽고 쓴다.
+ *
+ * <p>Spring MVC 기본 등록분 대신 Spring Boot 의 Jackson 설정(날짜 포맷 등)을 그대로 쓰는 converter 로 바꾸고,
+ * Accept 가 없거나 *&#47;* 인 요청이 계속 JSON 을 받도록 목록 맨 뒤에 둔다.
+ * 에러 응답은 Content-Type 을 지정한 JSON 그대로 내려간다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class BinaryFormatConfig implements WebMvcConfigurer {
+
+    // Spring Boot 가 prototype 으로 제공하므로 이 설정 전용 인스턴스이다
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(objectMapperBuilder.factory(new CBORFactory()).build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.factory(new SmileFactory()).build()));
+    }
+}
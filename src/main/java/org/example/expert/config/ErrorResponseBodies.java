@@ -0,0 +1,58 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 에러 응답 본문({"status", "code", "message"})을 직렬화된 바이트로 캐시한다.
+ * 에러 메시지는 대부분 고정 문자열이므로 같은 (status, message) 조합은 한 번만 직렬화한다.
+ * 반환된 배열은 공유되므로 수정하면 안 된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ErrorResponseBodies {
+
+    // 동적 메시지가 섞여도 캐시가 무한히 커지지 않도록 상한을 둔다
+    private static final int MAX_CACHED_BODIES = 256;
+
+    private final ObjectMapper objectMapper;
+    private final Map<ErrorKey, byte[]> cache = new ConcurrentHashMap<>();
+
+    public byte[] get(HttpStatus status, String message) {
+        ErrorKey key = new ErrorKey(status, message);
+        byte[] body = cache.get(key);
+        if (body != null) {
+            return body;
+        }
+
+        body = serialize(status, message);
+        if (cache.size() < MAX_CACHED_BODIES) {
+            cache.putIfAbsent(key, body);
+        }
+        return body;
+    }
+
+    private byte[] serialize(HttpStatus status, String message) {
+        Map<String, Object> errorResponse = new LinkedHashMap<>();
+        errorResponse.put("status", status.name());
+        errorResponse.put("code", status.value());
+        errorResponse.put("message", message);
+
+        try {
+            return objectMapper.writeValueAsBytes(errorResponse);
+        } catch (JsonProcessingException e) {
+            return ("{\"status\":\"" + status.name() + "\",\"code\":" + status.value() + "}").getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private record ErrorKey(HttpStatus status, String message) {
+    }
+}
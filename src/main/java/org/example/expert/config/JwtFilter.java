@@ -1,10 +1,10 @@
 package org.example.expert.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SecurityException;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -14,15 +14,13 @@ import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.http.HttpStatus;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 @Slf4j
 @RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
-    private final ObjectMapper objectMapper;
+    private final ErrorResponseBodies errorResponseBodies;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
@@ -31,7 +29,8 @@ public class JwtFilter implements Filter {
 
         String url = httpRequest.getRequestURI();
 
-        if (url.startsWith("/auth")) {
+        // 로드밸런서/오케스트레이터의 liveness, readiness 확인은 인증 없이 허용
+        if (url.startsWith("/auth") || url.equals("/livez") || url.equals("/readyz")) {
             chain.doFilter(request, response);
             return;
         }
@@ -44,6 +43,13 @@ public class JwtFilter implements Filter {
             return;
         }
 
+        // Bearer 형식이 아닌 헤더는 예외를 거치지 않고 바로 401 처리
+        if (!jwtUtil.isBearerToken(bearerJwt)) {
+            log.warn("Bearer 형식이 아닌 인증 헤더: URI={}", url);
+            sendErrorResponse(httpResponse, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+            return;
+        }
+
         String jwt = jwtUtil.substringToken(bearerJwt);
 
         try {
@@ -72,7 +78,8 @@ public class JwtFilter implements Filter {
             log.info("JWT 만료: userId={}, URI={}", e.getClaims().getSubject(), url);
             sendErrorResponse(httpResponse, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
         } catch (SecurityException | MalformedJwtException | UnsupportedJwtException e) {
-            log.error("JWT 검증 실패 [{}]: URI={}", e.getClass().getSimpleName(), url, e);
+            // 위조/손상 토큰은 외부 입력 문제이므로 stack trace 없이 남긴다
+            log.warn("JWT 검증 실패 [{}]: URI={}", e.getClass().getSimpleName(), url);
             sendErrorResponse(httpResponse, HttpStatus.BAD_REQUEST, "인증이 필요합니다.");
         } catch (Exception e) {
             log.error("예상치 못한 오류: URI={}", url, e);
@@ -81,14 +88,11 @@ public class JwtFilter implements Filter {
     }
 
     private void sendErrorResponse(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        byte[] body = errorResponseBodies.get(status, message);
+
         response.setStatus(status.value());
         response.setContentType("application/json;charset=UTF-8");
-
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("status", status.name());
-        errorResponse.put("code", status.value());
-        errorResponse.put("message", message);
-
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
     }
 }
@@ -48,8 +48,12 @@ public class JwtUtil {
                         .compact();
     }
 
+    public boolean isBearerToken(String tokenValue) {
+        return StringUtils.hasText(tokenValue) && tokenValue.startsWith(BEARER_PREFIX);
+    }
+
     public String substringToken(String tokenValue) {
-        if (StringUtils.hasText(tokenValue) && tokenValue.startsWith(BEARER_PREFIX)) {
+        if (isBearerToken(tokenValue)) {
             return tokenValue.substring(7);
         }
         throw new ServerException("Not Found Token");
@@ -1,15 +1,18 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Component;
 
 @Component
 public class PasswordEncoder {
 
+    @Timed(value = "password.encoder", extraTags = {"operation", "encode"}, histogram = true)
     public String encode(String rawPassword) {
         return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
     }
 
+    @Timed(value = "password.encoder", extraTags = {"operation", "matches"}, histogram = true)
     public boolean matches(String rawPassword, String encodedPassword) {
         BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
         return result.verified;
@@ -1,14 +1,13 @@
 package org.example.expert.config.aop;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.config.aop.audit.AdminAuditEvent;
+import org.example.expert.config.aop.audit.AdminAuditWriter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -18,19 +17,20 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
-import java.time.LocalDateTime;
 
-@Slf4j
+/**
+ * 관리자 API 호출을 감사 이벤트로 남긴다.
+ * 요청 스레드에서는 메타데이터와 본문 객체 참조만 캡처하고,
+ * 직렬화와 기록은 {@link AdminAuditWriter} 의 백그라운드 스레드가 처리한다.
+ */
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class AdminLogAspect {
 
     private static final String USER_ID_KEY = "userId";
-    private static final String NO_REQUEST_BODY = "[no request body]";
-    private static final String NO_RESPONSE_BODY = "[no response body]";
 
-    private final ObjectMapper objectMapper;
+    private final AdminAuditWriter auditWriter;
 
     @Around("@within(org.example.expert.config.aop.AdminTrace)")
     public Object adminLogTrace(ProceedingJoinPoint pjp) throws Throwable {
@@ -39,33 +39,24 @@ public class AdminLogAspect {
 
         // 1. 요청 메타데이터
         Long userId = (Long) request.getAttribute(USER_ID_KEY);
-        LocalDateTime requestTime = LocalDateTime.now();
+        long requestTime = System.currentTimeMillis();
         String httpMethod = request.getMethod();
         String url = request.getRequestURI();
 
         // 2. 요청 본문 (메서드 인자에서 추출)
-        Object[] args = pjp.getArgs();
-        Parameter[] parameters = getMethodParameters(pjp);
-
-        String requestBody = getRequestBody(args, parameters);
-
-        log.info("\n=== [ADMIN API 요청] ===\n" +
-                "사용자 ID: {}\n" +
-                "요청 시각: {}\n" +
-                "요청 URL : {} {}\n" +
-                "요청 본문: {}", userId, requestTime, httpMethod, url, requestBody);
+        Object requestBody = getRequestBody(pjp.getArgs(), getMethodParameters(pjp));
 
         // 3. target 실행
         Object result;
         try {
             result = pjp.proceed();
         } catch (Exception e) {
-            log.error("\n=== [ADMIN API ERROR] ===\n{}", e.getMessage());
+            auditWriter.publish(new AdminAuditEvent(requestTime, userId, httpMethod, url, requestBody, null, e.getMessage()));
             throw e;
         }
 
         // 4. 응답 본문
-        log.info("\n=== [ADMIN API 응답] ===\n응답 본문: {}", formatResponseBody(result));
+        auditWriter.publish(new AdminAuditEvent(requestTime, userId, httpMethod, url, requestBody, result, null));
 
         return result;
     }
@@ -81,7 +72,7 @@ public class AdminLogAspect {
         return method.getParameters();
     }
 
-    private String getRequestBody(Object[] args, Parameter[] parameters) throws JsonProcessingException {
+    private Object getRequestBody(Object[] args, Parameter[] parameters) {
         for (int i = 0; i < args.length; i++) {
             Object arg = args[i];
             Parameter parameter = parameters[i];
@@ -96,12 +87,8 @@ public class AdminLogAspect {
             }
 
             // request body 후보
-            return objectMapper.writeValueAsString(arg);
+            return arg;
         }
-        return NO_REQUEST_BODY;
-    }
-
-    private String formatResponseBody(Object result) throws JsonProcessingException {
-        return result == null ? NO_RESPONSE_BODY : objectMapper.writeValueAsString(result);
+        return null;
     }
 }
@@ -0,0 +1,89 @@
+package org.example.expert.config.aop.audit;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 감사 레코드의 바이너리 인코딩.
+ * [timestamp 8][userId 8, 없으면 -1][method][uri][request][response][error] 순서이며
+ * 문자열은 [길이 4, null 이면 -1][UTF-8 bytes] 로 기록한다.
+ */
+final class AdminAuditCodec {
+
+    static final int MAX_FIELD_BYTES = 64 * 1024; // 본문이 이보다 길면 잘라서 기록
+
+    private static final long NULL_USER_ID = -1L;
+    private static final int NULL_LENGTH = -1;
+
+    private AdminAuditCodec() {
+    }
+
+    static byte[] encode(AdminAuditRecord record) {
+        byte[] method = toBytes(record.getHttpMethod());
+        byte[] uri = toBytes(record.getUri());
+        byte[] request = toBytes(record.getRequestBody());
+        byte[] response = toBytes(record.getResponseBody());
+        byte[] error = toBytes(record.getErrorMessage());
+
+        ByteBuffer buffer = ByteBuffer.allocate(8 + 8 + 5 * 4
+                + length(method) + length(uri) + length(request) + length(response) + length(error));
+        buffer.putLong(record.getTimestamp());
+        buffer.putLong(record.getUserId() == null ? NULL_USER_ID : record.getUserId());
+        putBytes(buffer, method);
+        putBytes(buffer, uri);
+        putBytes(buffer, request);
+        putBytes(buffer, response);
+        putBytes(buffer, error);
+        return buffer.array();
+    }
+
+    static AdminAuditRecord decode(ByteBuffer buffer) {
+        long timestamp = buffer.getLong();
+        long userId = buffer.getLong();
+        return new AdminAuditRecord(
+                timestamp,
+                userId == NULL_USER_ID ? null : userId,
+                getString(buffer),
+                getString(buffer),
+                getString(buffer),
+                getString(buffer),
+                getString(buffer)
+        );
+    }
+
+    private static byte[] toBytes(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_FIELD_BYTES) {
+            return bytes;
+        }
+        byte[] truncated = new byte[MAX_FIELD_BYTES];
+        System.arraycopy(bytes, 0, truncated, 0, MAX_FIELD_BYTES);
+        return truncated;
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(NULL_LENGTH);
+            return;
+        }
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.config.aop.audit;
+
+import lombok.Getter;
+
+/**
+ * 요청 스레드에서 캡처하는 감사 이벤트.
+ * 요청/응답 본문은 객체 참조만 담고, 직렬화는 백그라운드 writer 스레드에서 수행한다.
+ * (요청/응답 DTO 는 setter 가 없는 불변 객체이므로 나중에 직렬화해도 값이 바뀌지 않는다.)
+ */
+@Getter
+public class AdminAuditEvent {
+
+    private final long timestamp; // epoch millis
+    private final Long userId;
+    private final String httpMethod;
+    private final String uri;
+    private final Object requestBody;
+    private final Object responseBody;
+    private final String errorMessage;
+
+    public AdminAuditEvent(long timestamp, Long userId, String httpMethod, String uri,
+                           Object requestBody, Object responseBody, String errorMessage) {
+        this.timestamp = timestamp;
+        this.userId = userId;
+        this.httpMethod = httpMethod;
+        this.uri = uri;
+        this.requestBody = requestBody;
+        this.responseBody = responseBody;
+        this.errorMessage = errorMessage;
+    }
+}
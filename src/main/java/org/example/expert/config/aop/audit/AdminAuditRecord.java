@@ -0,0 +1,29 @@
+package org.example.expert.config.aop.audit;
+
+import lombok.Getter;
+
+/**
+ * 세그먼트 파일에 기록되는 감사 레코드. 요청/응답 본문은 JSON 문자열로 직렬화된 상태이다.
+ */
+@Getter
+public class AdminAuditRecord {
+
+    private final long timestamp; // epoch millis
+    private final Long userId;
+    private final String httpMethod;
+    private final String uri;
+    private final String requestBody;
+    private final String responseBody;
+    private final String errorMessage;
+
+    public AdminAuditRecord(long timestamp, Long userId, String httpMethod, String uri,
+                            String requestBody, String responseBody, String errorMessage) {
+        this.timestamp = timestamp;
+        this.userId = userId;
+        this.httpMethod = httpMethod;
+        this.uri = uri;
+        this.requestBody = requestBody;
+        this.responseBody = responseBody;
+        this.errorMessage = errorMessage;
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.expert.config.aop.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 관리자 API 감사 이벤트를 비동기로 기록한다.
+ * 요청 스레드는 {@link #publish} 로 링 버퍼에 넣기만 하고,
+ * 백그라운드 스레드가 버퍼를 비우면서 JSON 직렬화와 세그먼트 파일 기록을 수행한다.
+ * 버퍼가 가득 차면 이벤트를 버리고 drop 카운터를 올린다.
+ */
+@Slf4j
+@Component
+public class AdminAuditWriter implements SmartLifecycle {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final int segmentSize;
+    private final AuditRingBuffer<AdminAuditEvent> buffer;
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean running;
+    private Thread drainThread;
+    private AuditSegmentWriter segmentWriter;
+
+    public AdminAuditWriter(
+            ObjectMapper objectMapper,
+            @Value("${admin.audit.directory:./logs/admin-audit}") String directory,
+            @Value("${admin.audit.segment-size-bytes:16777216}") int segmentSize,
+            @Value("${admin.audit.buffer-capacity:8192}") int bufferCapacity
+    ) {
+        this.objectMapper = objectMapper;
+        this.directory = Paths.get(directory);
+        this.segmentSize = segmentSize;
+        this.buffer = new AuditRingBuffer<>(bufferCapacity);
+    }
+
+    public void publish(AdminAuditEvent event) {
+        if (!running || !buffer.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        try {
+            segmentWriter = new AuditSegmentWriter(directory, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 세그먼트를 열 수 없습니다: " + directory, e);
+        }
+
+        running = true;
+        drainThread = new Thread(this::drain, "admin-audit-writer");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        // 남은 이벤트는 drain 스레드가 모두 기록한 뒤 종료한다
+        running = false;
+        LockSupport.unpark(drainThread);
+        try {
+            drainThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drain() {
+        long lastReportedDrops = 0L;
+        long lastReportedAt = System.nanoTime();
+
+        try {
+            while (true) {
+                AdminAuditEvent event = buffer.poll();
+                if (event != null) {
+                    write(event);
+                    continue;
+                }
+                if (!running) {
+                    break;
+                }
+
+                long now = System.nanoTime();
+                if (now - lastReportedAt >= DROP_REPORT_INTERVAL_NANOS) {
+                    long drops = dropped.sum();
+                    if (drops > lastReportedDrops) {
+                        log.warn("감사 버퍼 포화로 이벤트 {}건 유실 (누적 {}건)", drops - lastReportedDrops, drops);
+                        lastReportedDrops = drops;
+                    }
+                    lastReportedAt = now;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        } finally {
+            try {
+                segmentWriter.close();
+            } catch (IOException e) {
+                log.error("감사 세그먼트 종료 실패", e);
+            }
+        }
+    }
+
+    // 레코드 하나의 실패로 drain 스레드가 끝나면 이후 이벤트는 버퍼에 쌓이기만 하므로, 버리고 다음 레코드로 넘어간다
+    private void write(AdminAuditEvent event) {
+        try {
+            AdminAuditRecord record = new AdminAuditRecord(
+                    event.getTimestamp(),
+                    event.getUserId(),
+                    event.getHttpMethod(),
+                    event.getUri(),
+                    toJson(event.getRequestBody()),
+                    toJson(event.getResponseBody()),
+                    event.getErrorMessage()
+            );
+            segmentWriter.append(AdminAuditCodec.encode(record));
+        } catch (IOException | RuntimeException e) {
+            dropped.increment();
+            log.error("감사 레코드 기록 실패: {} {}", event.getHttpMethod(), event.getUri(), e);
+        }
+    }
+
+    private String toJson(Object body) {
+        if (body == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            return "[serialization failed: " + e.getOriginalMessage() + "]";
+        }
+    }
+}
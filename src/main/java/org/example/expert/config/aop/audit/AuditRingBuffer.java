@@ -0,0 +1,71 @@
+package org.example.expert.config.aop.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 락 없이 동작하는 고정 크기 다중 생산자 / 단일 소비자 링 버퍼.
+ * 슬롯마다 sequence 를 두어 생산자는 CAS 로 자리를 예약하고, sequence 갱신으로 소비자에게 공개한다.
+ * 가득 차면 기다리지 않고 {@code false} 를 반환하므로 요청 스레드가 막히지 않는다.
+ */
+public class AuditRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head; // 단일 소비자 스레드만 접근
+
+    public AuditRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity 는 2 이상의 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.set(index, element);
+                    sequences.set(index, position + 1); // 소비자에게 공개
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false; // 가득 참
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    public E poll() {
+        int index = (int) head & mask;
+        if (sequences.get(index) != head + 1) {
+            return null; // 비어 있음
+        }
+
+        E element = elements.get(index);
+        elements.set(index, null);
+        sequences.set(index, head + capacity); // 생산자에게 슬롯 반환
+        head++;
+        return element;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
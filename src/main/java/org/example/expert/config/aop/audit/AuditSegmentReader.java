@@ -0,0 +1,69 @@
+package org.example.expert.config.aop.audit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 감사 세그먼트 파일을 번호 순으로 읽는 유틸리티.
+ * 터미널에서 내용을 확인할 때는 tools 소스셋의 AuditLogPrinter ({@code ./gradlew printAuditLog}) 를 쓴다.
+ */
+public final class AuditSegmentReader {
+
+    private AuditSegmentReader() {
+    }
+
+    public static void scan(Path directory, Consumer<AdminAuditRecord> consumer) throws IOException {
+        for (Path segment : listSegments(directory)) {
+            scanSegment(segment, consumer);
+        }
+    }
+
+    public static List<AdminAuditRecord> readAll(Path directory) throws IOException {
+        List<AdminAuditRecord> records = new ArrayList<>();
+        scan(directory, records::add);
+        return records;
+    }
+
+    static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            // 파일명의 번호가 0 으로 채워져 있으므로 이름 순 = 번호 순
+            return files
+                    .filter(path -> {
+                        String fileName = path.getFileName().toString();
+                        return fileName.startsWith(AuditSegmentWriter.FILE_PREFIX)
+                                && fileName.endsWith(AuditSegmentWriter.FILE_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static void scanSegment(Path segment, Consumer<AdminAuditRecord> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            while (buffer.remaining() >= Integer.BYTES) {
+                int length = buffer.getInt();
+                // 0 은 세그먼트 끝, 남은 크기를 넘는 길이는 기록 도중 중단된 레코드
+                if (length <= 0 || length > buffer.remaining()) {
+                    return;
+                }
+                ByteBuffer record = buffer.slice(buffer.position(), length);
+                buffer.position(buffer.position() + length);
+                consumer.accept(AdminAuditCodec.decode(record));
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.expert.config.aop.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 감사 레코드를 메모리 매핑된 세그먼트 파일에 append 한다.
+ * 레코드는 [길이 4][payload] 로 기록되며, 새 세그먼트는 0 으로 채워져 있으므로 길이 0 이 세그먼트의 끝을 뜻한다.
+ * 현재 세그먼트에 남은 공간이 부족하면 다음 번호의 세그먼트를 만들어 교체한다.
+ * 단일 writer 스레드에서만 사용한다.
+ */
+class AuditSegmentWriter implements Closeable {
+
+    static final String FILE_PREFIX = "admin-audit-";
+    static final String FILE_SUFFIX = ".seg";
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+
+    private final Path directory;
+    private final int segmentSize;
+
+    private long sequence;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    AuditSegmentWriter(Path directory, int segmentSize) throws IOException {
+        if (segmentSize < AdminAuditCodec.MAX_FIELD_BYTES * 8) {
+            throw new IllegalArgumentException("segmentSize 가 최대 레코드 크기보다 작습니다: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+
+        Files.createDirectories(directory);
+        // 재시작 시 기존 세그먼트에 이어 쓰지 않고 다음 번호부터 새로 시작
+        List<Path> segments = AuditSegmentReader.listSegments(directory);
+        this.sequence = segments.isEmpty() ? 0 : sequenceOf(segments.get(segments.size() - 1));
+        rotate();
+    }
+
+    void append(byte[] record) throws IOException {
+        // 끝 표시(길이 0)를 읽을 공간을 항상 남겨둔다
+        if (buffer.remaining() < LENGTH_BYTES + record.length + LENGTH_BYTES) {
+            rotate();
+        }
+        buffer.putInt(record.length);
+        buffer.put(record);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            buffer.force();
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void rotate() throws IOException {
+        close();
+        sequence++;
+        channel = FileChannel.open(segmentPath(directory, sequence),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    }
+
+    static Path segmentPath(Path directory, long sequence) {
+        return directory.resolve(String.format("%s%020d%s", FILE_PREFIX, sequence, FILE_SUFFIX));
+    }
+
+    static long sequenceOf(Path segment) {
+        String fileName = segment.getFileName().toString();
+        return Long.parseLong(fileName.substring(FILE_PREFIX.length(), fileName.length() - FILE_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.expert.config.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 모든 SQL 을 {@link SqlStatementCounter} 에 집계한다.
+ * JdbcTemplate 으로 직접 실행하는 SQL 은 Hibernate 를 거치지 않으므로 포함되지 않는다.
+ */
+public class CountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementCounter.increment();
+        return sql;
+    }
+}
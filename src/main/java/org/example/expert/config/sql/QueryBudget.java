@@ -0,0 +1,17 @@
+package org.example.expert.config.sql;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청 하나에서 허용하는 SQL 문 수. 메서드에 붙은 값이 컨트롤러에 붙은 값보다 우선한다.
+ * 지정하지 않은 엔드포인트는 {@code sql.count.default-budget} 을 따른다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
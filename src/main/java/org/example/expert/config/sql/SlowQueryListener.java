@@ -0,0 +1,105 @@
+package org.example.expert.config.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 모든 SQL 실행 시간을 {@link SqlLatencyStats} 에 기록하고, 임계값을 넘은 문장만 로그로 남긴다.
+ * 로그에는 바인딩 파라미터(설정에 따라 가림)와 쿼리를 호출한 서비스 메서드를 함께 남긴다.
+ */
+@Slf4j
+@Component
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private static final String START_NANOS = "slowQuery.startNanos";
+    private static final String SERVICE_PACKAGE = "org.example.expert.domain.";
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final SqlLatencyStats latencyStats;
+    private final long thresholdNanos;
+    private final boolean redactParameters;
+
+    public SlowQueryListener(
+            SqlLatencyStats latencyStats,
+            @Value("${sql.slow-query.threshold-millis:200}") long thresholdMillis,
+            @Value("${sql.slow-query.redact-parameters:true}") boolean redactParameters
+    ) {
+        this.latencyStats = latencyStats;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.redactParameters = redactParameters;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long startNanos = execInfo.getCustomValue(START_NANOS, Long.class);
+        if (startNanos == null) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        for (QueryInfo queryInfo : queryInfoList) {
+            latencyStats.record(queryInfo.getQuery(), elapsedNanos);
+        }
+
+        if (elapsedNanos >= thresholdNanos) {
+            // 스택 탐색은 느린 쿼리에서만 수행
+            String caller = findCallingServiceMethod();
+            for (QueryInfo queryInfo : queryInfoList) {
+                log.warn("느린 쿼리 {}ms [{}]{}: {} params={}",
+                        TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                        caller,
+                        execInfo.isBatch() ? " batch=" + execInfo.getBatchSize() : "",
+                        queryInfo.getQuery(),
+                        formatParameters(queryInfo));
+            }
+        }
+    }
+
+    private String formatParameters(QueryInfo queryInfo) {
+        List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+        if (parametersList.isEmpty()) {
+            return "[]";
+        }
+
+        // 배치는 첫 번째 파라미터 묶음만 남긴다
+        List<ParameterSetOperation> parameters = parametersList.get(0);
+        if (redactParameters) {
+            return "[redacted x" + parameters.size() + "]";
+        }
+        return parameters.stream()
+                .sorted(Comparator.comparing(parameter -> String.valueOf(parameter.getArgs()[0])))
+                .map(parameter -> {
+                    Object[] args = parameter.getArgs();
+                    Object value = ParameterSetOperation.isSetNullParameterOperation(parameter) ? null : args[1];
+                    return args[0] + "=" + value;
+                })
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private String findCallingServiceMethod() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(SERVICE_PACKAGE)
+                        && frame.getClassName().contains(".service.")
+                        && !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName())
+                .orElse("unknown"));
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.expert.config.sql;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 직전까지 실행된 SQL 문 수를 {@code X-Sql-Count} 헤더로 내려준다.
+ * 헤더는 본문보다 먼저 전송되어야 하므로 본문이 있는 응답에만 붙는다.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "sql.count.header-enabled", havingValue = "true")
+public class SqlCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER_NAME = "X-Sql-Count";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        response.getHeaders().set(HEADER_NAME, String.valueOf(SqlStatementCounter.current()));
+        return body;
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.expert.config.sql;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청마다 실행된 SQL 문 수를 집계하고, 엔드포인트 예산을 넘은 요청을 경고 로그로 남긴다.
+ * N+1 처럼 데이터 양에 따라 쿼리 수가 늘어나는 회귀를 운영 전에 드러내기 위한 용도이다.
+ */
+@Slf4j
+public class SqlCountInterceptor implements HandlerInterceptor {
+
+    private final int defaultBudget;
+
+    public SqlCountInterceptor(int defaultBudget) {
+        this.defaultBudget = defaultBudget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatementCounter.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        long count = SqlStatementCounter.stop();
+        int budget = getBudget(handler);
+
+        if (count > budget) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            log.warn("SQL 예산 초과: {} {} → {}건 (예산 {}건)",
+                    request.getMethod(), pattern != null ? pattern : request.getRequestURI(), count, budget);
+        }
+    }
+
+    private int getBudget(Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return defaultBudget;
+        }
+
+        QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        if (budget == null) {
+            budget = handlerMethod.getBeanType().getAnnotation(QueryBudget.class);
+        }
+        return budget != null ? budget.value() : defaultBudget;
+    }
+}
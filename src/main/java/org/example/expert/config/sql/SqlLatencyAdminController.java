@@ -0,0 +1,21 @@
+package org.example.expert.config.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class SqlLatencyAdminController {
+
+    private final SqlLatencyStats sqlLatencyStats;
+
+    @GetMapping("/admin/sql/latency")
+    public ResponseEntity<List<SqlLatencySnapshot>> getSqlLatency(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(sqlLatencyStats.snapshot(limit));
+    }
+}
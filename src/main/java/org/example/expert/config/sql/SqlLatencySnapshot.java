@@ -0,0 +1,30 @@
+package org.example.expert.config.sql;
+
+import lombok.Getter;
+
+@Getter
+public class SqlLatencySnapshot {
+
+    private final String statement;
+    private final long count;
+    private final double meanMillis;
+    private final double p50Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+
+    public SqlLatencySnapshot(String statement, long count, double meanMillis,
+                              double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+        this.statement = statement;
+        this.count = count;
+        this.meanMillis = meanMillis;
+        this.p50Millis = p50Millis;
+        this.p95Millis = p95Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+    }
+
+    public double getTotalMillis() {
+        return meanMillis * count;
+    }
+}
@@ -0,0 +1,192 @@
+package org.example.expert.config.sql;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 문 형태(shape)별 최근 1분간의 지연 시간 분포를 유지한다.
+ * 리터럴과 IN 목록 길이를 정규화해 같은 쿼리는 하나의 shape 로 묶는다.
+ *
+ * <p>shape 마다 10초 단위 slot 6개를 돌려 쓰며, slot 은 2의 거듭제곱 구간을 4등분한
+ * log-linear 버킷(µs)으로 건수를 센다. 백분위는 버킷 상한으로 보고하므로 오차는 최대 25% 이다.
+ */
+@Component
+public class SqlLatencyStats {
+
+    static final String OTHER_SHAPE = "(other)";
+
+    private static final int MAX_SHAPES = 500;
+    private static final int SLOT_COUNT = 6;
+    private static final long SLOT_MILLIS = 10_000L;
+    private static final int BUCKET_COUNT = 160;
+
+    // 긴 문자열 / 수천 개짜리 IN 목록에서도 정규식 백트래킹이 스택을 넘기지 않도록 소유 수량자를 쓴다
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']++|'')*+'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*+\\?(?:\\s*+,\\s*+\\?)++\\s*+\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, RollingHistogram> histograms = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+
+    public SqlLatencyStats() {
+        this(System::currentTimeMillis);
+    }
+
+    SqlLatencyStats(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public void record(String sql, long elapsedNanos) {
+        String shape = shapeOf(sql);
+        RollingHistogram histogram = histograms.get(shape);
+        if (histogram == null) {
+            // shape 가 무한히 늘어나지 않도록 상한을 넘으면 하나로 묶는다
+            String key = histograms.size() < MAX_SHAPES ? shape : OTHER_SHAPE;
+            histogram = histograms.computeIfAbsent(key, k -> new RollingHistogram());
+        }
+        histogram.record(elapsedNanos / 1_000, clock.getAsLong());
+    }
+
+    /**
+     * 최근 구간에 실행된 shape 를 누적 소요 시간이 큰 순서로 반환한다.
+     */
+    public List<SqlLatencySnapshot> snapshot(int limit) {
+        if (limit < 1) {
+            throw new InvalidRequestException("limit 는 1 이상이어야 합니다.");
+        }
+        long now = clock.getAsLong();
+        List<SqlLatencySnapshot> snapshots = new ArrayList<>();
+        histograms.forEach((shape, histogram) -> {
+            SqlLatencySnapshot snapshot = histogram.snapshot(shape, now);
+            if (snapshot.getCount() > 0) {
+                snapshots.add(snapshot);
+            }
+        });
+        snapshots.sort(Comparator.comparingDouble(SqlLatencySnapshot::getTotalMillis).reversed());
+        return snapshots.size() > limit ? snapshots.subList(0, limit) : snapshots;
+    }
+
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    static int bucketOf(long micros) {
+        if (micros < 4) {
+            return (int) Math.max(micros, 0);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int mantissa = (int) (micros >>> (exponent - 2)) & 3;
+        return Math.min(4 * (exponent - 1) + mantissa, BUCKET_COUNT - 1);
+    }
+
+    static long bucketUpperBound(int bucket) {
+        if (bucket < 4) {
+            return bucket + 1;
+        }
+        int exponent = bucket / 4 + 1;
+        int mantissa = bucket % 4;
+        return (long) (4 + mantissa + 1) << (exponent - 2);
+    }
+
+    private static final class RollingHistogram {
+
+        private final long[] slotEpochs = new long[SLOT_COUNT];
+        private final int[][] counts = new int[SLOT_COUNT][BUCKET_COUNT];
+        private final long[] sums = new long[SLOT_COUNT];
+        private final long[] maxes = new long[SLOT_COUNT];
+        // 요청 스레드가 virtual thread 여도 carrier 에 고정되지 않도록 synchronized 대신 사용
+        private final ReentrantLock lock = new ReentrantLock();
+
+        RollingHistogram() {
+            Arrays.fill(slotEpochs, -1L);
+        }
+
+        // 쿼리 한 번의 DB 왕복에 비해 락 비용은 무시할 수준이므로 단순하게 잠근다
+        void record(long micros, long nowMillis) {
+            lock.lock();
+            try {
+                long epoch = nowMillis / SLOT_MILLIS;
+                int slot = (int) (epoch % SLOT_COUNT);
+                if (slotEpochs[slot] != epoch) {
+                    Arrays.fill(counts[slot], 0);
+                    sums[slot] = 0L;
+                    maxes[slot] = 0L;
+                    slotEpochs[slot] = epoch;
+                }
+                counts[slot][bucketOf(micros)]++;
+                sums[slot] += micros;
+                maxes[slot] = Math.max(maxes[slot], micros);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        SqlLatencySnapshot snapshot(String shape, long nowMillis) {
+            lock.lock();
+            try {
+                long oldestEpoch = nowMillis / SLOT_MILLIS - SLOT_COUNT + 1;
+                long[] merged = new long[BUCKET_COUNT];
+                long count = 0L;
+                long sum = 0L;
+                long max = 0L;
+
+                for (int slot = 0; slot < SLOT_COUNT; slot++) {
+                    if (slotEpochs[slot] < oldestEpoch) {
+                        continue;
+                    }
+                    for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+                        merged[bucket] += counts[slot][bucket];
+                        count += counts[slot][bucket];
+                    }
+                    sum += sums[slot];
+                    max = Math.max(max, maxes[slot]);
+                }
+
+                if (count == 0) {
+                    return new SqlLatencySnapshot(shape, 0, 0, 0, 0, 0, 0);
+                }
+                return new SqlLatencySnapshot(
+                        shape,
+                        count,
+                        toMillis(sum / (double) count),
+                        toMillis(percentile(merged, count, 0.50, max)),
+                        toMillis(percentile(merged, count, 0.95, max)),
+                        toMillis(percentile(merged, count, 0.99, max)),
+                        toMillis(max)
+                );
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private static long percentile(long[] buckets, long count, double quantile, long max) {
+            long rank = (long) Math.ceil(count * quantile);
+            long seen = 0L;
+            for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+                seen += buckets[bucket];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(bucket), max);
+                }
+            }
+            return max;
+        }
+
+        private static double toMillis(double micros) {
+            return micros / 1_000.0;
+        }
+    }
+}
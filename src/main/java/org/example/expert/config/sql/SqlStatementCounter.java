@@ -0,0 +1,35 @@
+package org.example.expert.config.sql;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문 수를 센다.
+ * {@link #start()} 로 시작한 구간에서만 집계하며, 요청 단위 집계는 {@link SqlCountInterceptor} 가 담당한다.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static void start() {
+        COUNT.set(new long[1]);
+    }
+
+    public static void increment() {
+        long[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+
+    public static long current() {
+        long[] count = COUNT.get();
+        return count == null ? 0L : count[0];
+    }
+
+    public static long stop() {
+        long count = current();
+        COUNT.remove();
+        return count;
+    }
+}
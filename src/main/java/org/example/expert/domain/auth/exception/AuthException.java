@@ -1,8 +1,11 @@
 package org.example.expert.domain.auth.exception;
 
+/**
+ * 로그인 실패처럼 클라이언트가 원인인 인증 오류. 호출 위치가 중요하지 않으므로 stack trace 를 남기지 않는다.
+ */
 public class AuthException extends RuntimeException {
 
     public AuthException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -2,10 +2,12 @@ package org.example.expert.domain.comment.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.aop.AdminTrace;
+import org.example.expert.config.sql.QueryBudget;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.service.CommentAdminService;
-import org.springframework.web.bind.annotation.DeleteMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
 
 @AdminTrace
 @RestController
@@ -18,4 +20,11 @@ public class CommentAdminController {
     public void deleteComment(@PathVariable long commentId) {
         commentAdminService.deleteComment(commentId);
     }
+
+    // chunk 수에 비례해 쿼리가 늘어나는 배치 작업이므로 예산을 두지 않는다
+    @QueryBudget(Integer.MAX_VALUE)
+    @PostMapping("/admin/comments/bulk-delete")
+    public ResponseEntity<CommentBulkDeleteResponse> bulkDeleteComments(@RequestBody CommentBulkDeleteRequest commentBulkDeleteRequest) {
+        return ResponseEntity.ok(commentAdminService.bulkDeleteComments(commentBulkDeleteRequest));
+    }
 }
@@ -2,8 +2,8 @@ package org.example.expert.domain.comment.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.sql.QueryBudget;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
-import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
@@ -28,8 +28,15 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
+    @QueryBudget(1)
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
+    public ResponseEntity<List<?>> getComments(
+            @PathVariable long todoId,
+            @RequestParam(required = false) String fields // 예: fields=id,contents (id 는 항상 포함)
+    ) {
+        if (fields != null) {
+            return ResponseEntity.ok(commentService.getComments(todoId, fields));
+        }
         return ResponseEntity.ok(commentService.getComments(todoId));
     }
 }
@@ -0,0 +1,22 @@
+package org.example.expert.domain.comment.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentBulkDeleteRequest {
+
+    private Long userId; // 작성자 id
+    private Long todoId; // 일정 id
+    private LocalDateTime createdFrom; // 작성 시각 하한 (포함)
+    private LocalDateTime createdTo; // 작성 시각 상한 (미포함)
+
+    public boolean hasAnyCondition() {
+        return userId != null || todoId != null || createdFrom != null || createdTo != null;
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.comment.enums;
+
+import org.example.expert.domain.common.projection.ResponseField;
+
+public enum CommentField implements ResponseField {
+
+    ID("id", "id"),
+    CONTENTS("contents", "contents"),
+    USER("user", "user.id"); // email 은 UserDirectory 에서 채운다
+
+    private final String fieldName;
+    private final String attributePath;
+
+    CommentField(String fieldName, String attributePath) {
+        this.fieldName = fieldName;
+        this.attributePath = attributePath;
+    }
+
+    @Override
+    public String fieldName() {
+        return fieldName;
+    }
+
+    @Override
+    public String attributePath() {
+        return attributePath;
+    }
+}
@@ -1,14 +1,46 @@
 package org.example.expert.domain.comment.repository;
 
 import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    // 작성자 email 은 UserDirectory 에서 채우므로 users 를 조인하지 않고 user_id 만 읽는다.
+    @Query("SELECT c FROM Comment c WHERE c.todo.id = :todoId")
+    List<Comment> findByTodoId(@Param("todoId") Long todoId);
+
+    // 일괄 삭제 대상 id 를 id 순서대로 chunk 크기만큼 조회 (lastId 이후부터 keyset 방식)
+    @Query("SELECT c.id FROM Comment c " +
+            "WHERE c.id > :lastId " +
+            "AND (:userId IS NULL OR c.user.id = :userId) " +
+            "AND (:todoId IS NULL OR c.todo.id = :todoId) " +
+            "AND (:createdFrom IS NULL OR c.createdAt >= :createdFrom) " +
+            "AND (:createdTo IS NULL OR c.createdAt < :createdTo) " +
+            "ORDER BY c.id")
+    List<Long> findIdsForBulkDelete(
+            @Param("lastId") long lastId,
+            @Param("userId") Long userId,
+            @Param("todoId") Long todoId,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            Pageable pageable
+    );
+
+    // 삭제할 댓글이 달린 todo id (검색 색인 갱신 대상)
+    @Query("SELECT DISTINCT c.todo.id FROM Comment c WHERE c.id IN :ids")
+    List<Long> findTodoIdsByIdIn(@Param("ids") List<Long> ids);
+
+    // chunk 하나를 하나의 트랜잭션으로 삭제
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,13 @@
+package org.example.expert.domain.comment.repository;
+
+import jakarta.persistence.Tuple;
+import org.example.expert.domain.comment.enums.CommentField;
+import org.example.expert.domain.common.projection.SparseFields;
+
+import java.util.List;
+
+public interface CommentRepositoryCustom {
+
+    // 일정의 댓글 목록에서 요청한 필드의 컬럼만 SELECT 한다
+    List<Tuple> findByTodoIdWithFields(long todoId, SparseFields<CommentField> fields);
+}
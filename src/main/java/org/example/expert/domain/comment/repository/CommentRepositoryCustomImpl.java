@@ -0,0 +1,30 @@
+package org.example.expert.domain.comment.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.enums.CommentField;
+import org.example.expert.domain.common.projection.SparseFields;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Tuple> findByTodoIdWithFields(long todoId, SparseFields<CommentField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Comment> comment = query.from(Comment.class);
+        query.multiselect(fields.selections(comment))
+                .where(cb.equal(comment.get("todo").get("id"), todoId));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+}
@@ -1,18 +1,118 @@
 package org.example.expert.domain.comment.service;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.event.TodoTextChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int bulkDeleteChunkSize;
+    private final long bulkDeletePauseMillis;
+
+    // 잘못된 chunk 크기는 요청 시점의 500 대신 기동 시점에 드러나도록 생성자에서 검증한다
+    public CommentAdminService(
+            CommentRepository commentRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${admin.comment.bulk-delete.chunk-size:500}") int bulkDeleteChunkSize,
+            @Value("${admin.comment.bulk-delete.pause-millis:100}") long bulkDeletePauseMillis
+    ) {
+        if (bulkDeleteChunkSize < 1) {
+            throw new IllegalArgumentException("admin.comment.bulk-delete.chunk-size 는 1 이상이어야 합니다: " + bulkDeleteChunkSize);
+        }
+        this.commentRepository = commentRepository;
+        this.eventPublisher = eventPublisher;
+        this.bulkDeleteChunkSize = bulkDeleteChunkSize;
+        this.bulkDeletePauseMillis = bulkDeletePauseMillis;
+    }
 
+    // 댓글이 빠진 todo 는 커밋 후 검색 색인에서 다시 색인한다
     @Transactional
     public void deleteComment(long commentId) {
+        List<Long> todoIds = commentRepository.findTodoIdsByIdIn(List.of(commentId));
         commentRepository.deleteById(commentId);
+        publishTextChanged(todoIds);
+    }
+
+    /**
+     * 조건에 맞는 댓글을 chunk 단위로 나누어 삭제한다.
+     * 한 번에 전부 지우면 락 보유 시간과 복제 지연이 커지므로,
+     * chunk 마다 별도 트랜잭션으로 커밋하고 chunk 사이에 설정된 시간만큼 쉰다.
+     */
+    public CommentBulkDeleteResponse bulkDeleteComments(CommentBulkDeleteRequest request) {
+        if (!request.hasAnyCondition()) {
+            throw new InvalidRequestException("삭제 조건을 하나 이상 지정해야 합니다.");
+        }
+
+        if (request.getCreatedFrom() != null && request.getCreatedTo() != null
+                && !request.getCreatedFrom().isBefore(request.getCreatedTo())) {
+            throw new InvalidRequestException("삭제 시작 시각은 종료 시각보다 이전이어야 합니다.");
+        }
+
+        PageRequest chunk = PageRequest.of(0, bulkDeleteChunkSize);
+        long lastId = 0L;
+        long deletedCount = 0L;
+        int chunkCount = 0;
+
+        while (true) {
+            List<Long> ids = commentRepository.findIdsForBulkDelete(
+                    lastId,
+                    request.getUserId(),
+                    request.getTodoId(),
+                    request.getCreatedFrom(),
+                    request.getCreatedTo(),
+                    chunk
+            );
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            List<Long> todoIds = commentRepository.findTodoIdsByIdIn(ids);
+            deletedCount += commentRepository.deleteAllByIdIn(ids);
+            publishTextChanged(todoIds);
+            chunkCount++;
+            lastId = ids.get(ids.size() - 1);
+
+            log.info("[댓글 일괄 삭제] chunk={}, 누적 삭제 수={}, 마지막 id={}", chunkCount, deletedCount, lastId);
+
+            if (ids.size() < bulkDeleteChunkSize) {
+                break;
+            }
+            pauseBetweenChunks();
+        }
+
+        return new CommentBulkDeleteResponse(deletedCount, chunkCount);
+    }
+
+    private void publishTextChanged(List<Long> todoIds) {
+        if (!todoIds.isEmpty()) {
+            eventPublisher.publishEvent(new TodoTextChangedEvent(todoIds));
+        }
+    }
+
+    private void pauseBetweenChunks() {
+        if (bulkDeletePauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(bulkDeletePauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("댓글 일괄 삭제가 중단되었습니다.");
+        }
     }
 }
@@ -1,15 +1,19 @@
 package org.example.expert.domain.comment.service;
 
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.enums.CommentField;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.projection.SparseFields;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.directory.UserDirectory;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.stereotype.Service;
@@ -17,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -24,12 +29,20 @@ public class CommentService {
 
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final UserDirectory userDirectory;
 
+    /**
+     * 일정 존재 확인 1회 + INSERT 1회로 댓글을 등록한다.
+     * 일정 엔티티는 읽지 않고 참조(getReferenceById)로만 연결한다.
+     */
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
+
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        Todo todo = todoRepository.getReferenceById(todoId);
 
         Comment newComment = new Comment(
                 commentSaveRequest.getContents(),
@@ -48,18 +61,31 @@ public class CommentService {
 
     @Transactional(readOnly = true)
     public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
+        List<Comment> commentList = commentRepository.findByTodoId(todoId);
 
         List<CommentResponse> dtoList = new ArrayList<>();
         for (Comment comment : commentList) {
-            User user = comment.getUser();
             CommentResponse dto = new CommentResponse(
                     comment.getId(),
                     comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
+                    userDirectory.getUserResponse(comment.getUser().getId())
             );
             dtoList.add(dto);
         }
         return dtoList;
     }
+
+    /**
+     * fields 로 요청한 필드만 SELECT 하고 응답에도 그 필드만 담는다.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getComments(long todoId, String fields) {
+        SparseFields<CommentField> selected = SparseFields.parse(fields, CommentField.class, CommentField.ID);
+        List<Tuple> rows = commentRepository.findByTodoIdWithFields(todoId, selected);
+
+        return rows.stream()
+                .map(row -> selected.toMap(row, (field, value) ->
+                        field == CommentField.USER ? userDirectory.getUserResponse((Long) value) : value))
+                .toList();
+    }
 }
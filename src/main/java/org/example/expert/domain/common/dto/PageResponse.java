@@ -0,0 +1,42 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * 목록 API 의 페이지 응답.
+ * Spring Data 의 Page 구현을 그대로 직렬화하면 pageable, sort 등 내부 구조가 노출되고 버전에 따라 모양이 바뀌므로
+ * 클라이언트가 쓰는 값만 고정된 이름으로 내려준다.
+ */
+@Getter
+public class PageResponse<T> {
+
+    private final List<T> content;
+    private final int page; // 1부터 시작 (요청 파라미터와 같은 기준)
+    private final int size;
+    private final long totalElements;
+    private final int totalPages;
+    private final boolean hasNext;
+
+    public PageResponse(List<T> content, int page, int size, long totalElements, int totalPages, boolean hasNext) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
+        this.hasNext = hasNext;
+    }
+
+    public static <T> PageResponse<T> from(Page<T> page) {
+        return new PageResponse<>(
+                page.getContent(),
+                page.getNumber() + 1,
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.hasNext()
+        );
+    }
+}
@@ -1,7 +1,12 @@
 package org.example.expert.domain.common.exception;
 
+/**
+ * 예상 가능한 요청 오류(없는 리소스, 잘못된 입력 등)를 나타낸다.
+ * 응답 메시지만 의미가 있으므로 stack trace 를 수집하지 않는다.
+ */
 public class InvalidRequestException extends RuntimeException {
+
     public InvalidRequestException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,13 @@
+package org.example.expert.domain.common.projection;
+
+/**
+ * fields= 파라미터로 고를 수 있는 응답 필드. 응답 필드 하나가 엔티티 속성 하나(= 컬럼 하나)에 대응한다.
+ */
+public interface ResponseField {
+
+    // 응답 JSON 의 필드명 (fields= 파라미터에 쓰는 이름)
+    String fieldName();
+
+    // 엔티티 속성 경로. 연관 엔티티는 "user.id" 처럼 FK 만 가리켜 조인 없이 읽는다
+    String attributePath();
+}
@@ -0,0 +1,76 @@
+package org.example.expert.domain.common.projection;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Selection;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * fields=id,title 처럼 요청한 응답 필드 집합.
+ * SELECT 절과 응답 JSON 을 모두 이 집합으로 만들어, 요청하지 않은 컬럼은 읽지도 내려주지도 않는다.
+ * 행을 식별할 수 있도록 required 필드(id)는 요청하지 않아도 항상 포함한다.
+ */
+public final class SparseFields<F extends Enum<F> & ResponseField> {
+
+    private final EnumSet<F> fields;
+
+    private SparseFields(EnumSet<F> fields) {
+        this.fields = fields;
+    }
+
+    public static <F extends Enum<F> & ResponseField> SparseFields<F> parse(String spec, Class<F> type, F required) {
+        if (spec == null || spec.isBlank()) {
+            throw new InvalidRequestException("fields 에 하나 이상의 필드를 지정해야 합니다.");
+        }
+        EnumSet<F> fields = EnumSet.of(required);
+        for (String name : spec.split(",")) {
+            String trimmed = name.trim();
+            F field = Arrays.stream(type.getEnumConstants())
+                    .filter(candidate -> candidate.fieldName().equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new InvalidRequestException("지원하지 않는 필드입니다: " + trimmed));
+            fields.add(field);
+        }
+        return new SparseFields<>(fields);
+    }
+
+    public boolean contains(F field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * 선택한 필드의 속성만 SELECT 하도록 필드명을 alias 로 붙인 selection 목록을 만든다.
+     */
+    public List<Selection<?>> selections(From<?, ?> root) {
+        return fields.stream()
+                .<Selection<?>>map(field -> path(root, field.attributePath()).alias(field.fieldName()))
+                .toList();
+    }
+
+    /**
+     * 조회한 행을 필드 순서대로 응답 Map 으로 옮긴다. converter 로 FK 를 DTO 로 바꾸는 등 값을 변환할 수 있다.
+     */
+    public Map<String, Object> toMap(Tuple row, BiFunction<F, Object, Object> converter) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (F field : fields) {
+            map.put(field.fieldName(), converter.apply(field, row.get(field.fieldName())));
+        }
+        return map;
+    }
+
+    private static Path<?> path(From<?, ?> root, String attributePath) {
+        Path<?> path = root;
+        for (String attribute : attributePath.split("\\.")) {
+            path = path.get(attribute);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.manager.dto;
+
+import lombok.Getter;
+
+/**
+ * 담당자 등록 전 검증에 필요한 값 (일정 작성자 id, 등록할 담당자 이메일, 기존 담당자 id)을 한 번의 조회로 담는다.
+ * 담당자 유저가 존재하지 않으면 managerEmail 은, 아직 담당자로 등록되지 않았다면 existingManagerId 는 null 이다.
+ */
+@Getter
+public class ManagerAssignCheck {
+
+    private final Long ownerId;
+    private final String managerEmail;
+    private final Long existingManagerId;
+
+    public ManagerAssignCheck(Long ownerId, String managerEmail, Long existingManagerId) {
+        this.ownerId = ownerId;
+        this.managerEmail = managerEmail;
+        this.existingManagerId = existingManagerId;
+    }
+}
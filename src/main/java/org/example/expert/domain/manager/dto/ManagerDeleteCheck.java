@@ -0,0 +1,19 @@
+package org.example.expert.domain.manager.dto;
+
+import lombok.Getter;
+
+/**
+ * 담당자 삭제 전 검증에 필요한 값 (일정 작성자 id, 삭제할 담당자가 속한 일정 id)을 한 번의 조회로 담는다.
+ * 담당자가 존재하지 않으면 managerTodoId 는 null 이다.
+ */
+@Getter
+public class ManagerDeleteCheck {
+
+    private final Long ownerId;
+    private final Long managerTodoId;
+
+    public ManagerDeleteCheck(Long ownerId, Long managerTodoId) {
+        this.ownerId = ownerId;
+        this.managerTodoId = managerTodoId;
+    }
+}
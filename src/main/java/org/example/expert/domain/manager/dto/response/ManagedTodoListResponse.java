@@ -0,0 +1,17 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ManagedTodoListResponse {
+
+    private final List<ManagedTodoResponse> todos;
+    private final Long nextCursor; // 다음 페이지 요청 시 cursor 로 전달할 값, 마지막 페이지면 null
+
+    public ManagedTodoListResponse(List<ManagedTodoResponse> todos, Long nextCursor) {
+        this.todos = todos;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ManagedTodoResponse {
+
+    private final Long id;
+    private final String title;
+    private final String weather;
+    private final LocalDateTime modifiedAt;
+
+    public ManagedTodoResponse(Long id, String title, String weather, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.weather = weather;
+        this.modifiedAt = modifiedAt;
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.manager.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.util.List;
+
+@Getter
+public class ManagerBulkSaveResponse {
+
+    private final Long todoId;
+    private final List<UserResponse> managers;
+
+    public ManagerBulkSaveResponse(Long todoId, List<UserResponse> managers) {
+        this.todoId = todoId;
+        this.managers = managers;
+    }
+}
@@ -9,7 +9,11 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+@Table(
+        name = "managers",
+        uniqueConstraints = @UniqueConstraint(name = "uk_managers_todo_user", columnNames = {"todo_id", "user_id"}),
+        indexes = @Index(name = "idx_managers_user_todo", columnList = "user_id, todo_id") // 내가 담당한 일정 조회용 커버링 인덱스
+)
 public class Manager {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,28 @@
+package org.example.expert.domain.manager.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ManagerJdbcRepository {
+
+    // (todo_id, user_id) 유니크 인덱스에 걸리는 행은 무시하므로 같은 요청을 반복해도 결과가 같다.
+    private static final String INSERT_IGNORE_SQL = "INSERT IGNORE INTO managers (todo_id, user_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 담당자를 하나의 JDBC 배치로 등록한다.
+     * MySQL 에서 실제로 한 번의 왕복으로 보내려면 커넥션에 rewriteBatchedStatements=true 가 설정되어 있어야 한다.
+     */
+    public void batchInsertIgnore(long todoId, List<Long> userIds) {
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, userIds, userIds.size(), (ps, userId) -> {
+            ps.setLong(1, todoId);
+            ps.setLong(2, userId);
+        });
+    }
+}
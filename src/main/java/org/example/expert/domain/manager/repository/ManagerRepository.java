@@ -1,13 +1,45 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.manager.dto.ManagerAssignCheck;
+import org.example.expert.domain.manager.dto.ManagerDeleteCheck;
+import org.example.expert.domain.manager.dto.response.ManagedTodoResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
-    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
-    List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    // 담당자 email 은 UserDirectory 에서 채우므로 users 를 조인하지 않고 user_id 만 읽는다.
+    @Query("SELECT m FROM Manager m WHERE m.todo.id = :todoId")
+    List<Manager> findByTodoId(@Param("todoId") Long todoId);
+
+    @Query("SELECT new org.example.expert.domain.manager.dto.ManagerAssignCheck(t.user.id, u.email, m.id) " +
+            "FROM Todo t " +
+            "LEFT JOIN User u ON u.id = :managerUserId " +
+            "LEFT JOIN Manager m ON m.todo.id = t.id AND m.user.id = :managerUserId " +
+            "WHERE t.id = :todoId")
+    Optional<ManagerAssignCheck> findAssignCheck(@Param("todoId") Long todoId, @Param("managerUserId") Long managerUserId);
+
+    @Query("SELECT new org.example.expert.domain.manager.dto.ManagerDeleteCheck(t.user.id, m.todo.id) " +
+            "FROM Todo t " +
+            "LEFT JOIN Manager m ON m.id = :managerId " +
+            "WHERE t.id = :todoId")
+    Optional<ManagerDeleteCheck> findDeleteCheck(@Param("todoId") Long todoId, @Param("managerId") Long managerId);
+
+    // (user_id, todo_id) 인덱스를 역순으로 훑어 cursor 이전 todo_id 를 찾고, 페이지에 포함된 행만 todos 와 조인한다.
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagedTodoResponse(t.id, t.title, t.weather, t.modifiedAt) " +
+            "FROM Manager m " +
+            "JOIN Todo t ON t.id = m.todo.id " +
+            "WHERE m.user.id = :userId AND m.todo.id < :cursor " +
+            "ORDER BY m.todo.id DESC")
+    List<ManagedTodoResponse> findManagedTodos(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.id = :managerId")
+    int deleteManagerById(@Param("managerId") Long managerId);
 }
@@ -3,95 +3,179 @@ package org.example.expert.domain.manager.service;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.ManagerAssignCheck;
+import org.example.expert.domain.manager.dto.ManagerDeleteCheck;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagedTodoListResponse;
+import org.example.expert.domain.manager.dto.response.ManagedTodoResponse;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerJdbcRepository;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.directory.UserDirectory;
 import org.example.expert.domain.user.dto.response.UserResponse;
-import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class ManagerService {
 
+    private static final int MAX_MANAGED_TODO_PAGE_SIZE = 100;
+
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final ManagerJdbcRepository managerJdbcRepository;
+    private final UserDirectory userDirectory;
 
+    /**
+     * 검증 조회 1회 + INSERT 1회로 담당자를 등록한다.
+     * 일정과 담당자 유저는 엔티티를 읽지 않고 참조(getReferenceById)로만 연결한다.
+     */
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
-        // 일정을 만든 유저
-        User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId)
+        long managerUserId = managerSaveRequest.getManagerUserId();
+
+        if (ObjectUtils.nullSafeEquals(authUser.getId(), managerUserId)) {
+            throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+        }
+
+        ManagerAssignCheck check = managerRepository.findAssignCheck(todoId, managerUserId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        if (ObjectUtils.isEmpty(todo.getUser())) {
+        if (check.getOwnerId() == null || !ObjectUtils.nullSafeEquals(authUser.getId(), check.getOwnerId())) {
             throw new InvalidRequestException("일정을 생성한 유저만 담당자를 지정할 수 있습니다.");
         }
 
-        User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
-                .orElseThrow(() -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다."));
+        if (check.getManagerEmail() == null) {
+            throw new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다.");
+        }
 
-        if (ObjectUtils.nullSafeEquals(user.getId(), managerUser.getId())) {
-            throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+        if (check.getExistingManagerId() != null) {
+            throw new InvalidRequestException("이미 해당 일정에 등록된 담당자입니다.");
         }
 
-        Manager newManagerUser = new Manager(managerUser, todo);
+        Manager newManagerUser = new Manager(
+                userRepository.getReferenceById(managerUserId),
+                todoRepository.getReferenceById(todoId)
+        );
         Manager savedManagerUser = managerRepository.save(newManagerUser);
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
-                new UserResponse(managerUser.getId(), managerUser.getEmail())
+                new UserResponse(managerUserId, check.getManagerEmail())
         );
     }
 
+    /**
+     * 여러 담당자를 한 번에 등록한다.
+     * 작성자 확인 1회 + IN 조회 1회로 검증한 뒤 하나의 JDBC 배치로 INSERT 한다.
+     * 이미 등록된 담당자는 (todo_id, user_id) 유니크 인덱스에 의해 무시되므로 같은 요청을 반복해도 안전하다.
+     */
+    @Transactional
+    public ManagerBulkSaveResponse saveManagers(AuthUser authUser, long todoId, ManagerBulkSaveRequest managerBulkSaveRequest) {
+        List<Long> managerUserIds = managerBulkSaveRequest.getManagerUserIds();
+        Set<Long> uniqueManagerUserIds = new HashSet<>(managerUserIds);
+
+        if (uniqueManagerUserIds.size() != managerUserIds.size()) {
+            throw new InvalidRequestException("중복된 담당자 유저 id 가 포함되어 있습니다.");
+        }
+
+        if (uniqueManagerUserIds.contains(authUser.getId())) {
+            throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+        }
+
+        Long ownerId = todoRepository.findOwnerIdById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        if (!ObjectUtils.nullSafeEquals(authUser.getId(), ownerId)) {
+            throw new InvalidRequestException("일정을 생성한 유저만 담당자를 지정할 수 있습니다.");
+        }
+
+        List<UserResponse> managerUsers = userRepository.findUserResponsesByIdIn(uniqueManagerUserIds);
+
+        if (managerUsers.size() != uniqueManagerUserIds.size()) {
+            throw new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다.");
+        }
+
+        managerJdbcRepository.batchInsertIgnore(todoId, managerUserIds);
+
+        return new ManagerBulkSaveResponse(todoId, managerUsers);
+    }
+
     @Transactional(readOnly = true)
     public List<ManagerResponse> getManagers(long todoId) {
         Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
+        List<Manager> managerList = managerRepository.findByTodoId(todo.getId());
 
         List<ManagerResponse> dtoList = new ArrayList<>();
         for (Manager manager : managerList) {
-            User user = manager.getUser();
             dtoList.add(new ManagerResponse(
                     manager.getId(),
-                    new UserResponse(user.getId(), user.getEmail())
+                    userDirectory.getUserResponse(manager.getUser().getId())
             ));
         }
         return dtoList;
     }
 
+    /**
+     * 유저가 담당자로 등록된 일정을 todo id 내림차순으로 keyset 페이지네이션하여 조회한다.
+     * size + 1 건을 읽어 다음 페이지 존재 여부를 판단하므로 count 쿼리가 필요 없다.
+     */
+    @Transactional(readOnly = true)
+    public ManagedTodoListResponse getManagedTodos(long userId, Long cursor, int size) {
+        if (size < 1 || size > MAX_MANAGED_TODO_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_MANAGED_TODO_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        long cursorTodoId = cursor == null ? Long.MAX_VALUE : cursor;
+        List<ManagedTodoResponse> rows = managerRepository.findManagedTodos(userId, cursorTodoId, PageRequest.of(0, size + 1));
+
+        if (rows.size() <= size) {
+            return new ManagedTodoListResponse(rows, null);
+        }
+
+        List<ManagedTodoResponse> page = rows.subList(0, size);
+        return new ManagedTodoListResponse(page, page.get(size - 1).getId());
+    }
+
+    /**
+     * 검증 조회 1회 + DELETE 1회로 담당자를 삭제한다.
+     * 일정 작성자 여부와 담당자의 소속 일정을 하나의 조인 쿼리로 확인한다.
+     */
     @Transactional
     public void deleteManager(long userId, long todoId, long managerId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidRequestException("User not found"));
-
-        Todo todo = todoRepository.findById(todoId)
+        ManagerDeleteCheck check = managerRepository.findDeleteCheck(todoId, managerId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
+        if (check.getOwnerId() == null || !ObjectUtils.nullSafeEquals(userId, check.getOwnerId())) {
             throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
         }
 
-        Manager manager = managerRepository.findById(managerId)
-                .orElseThrow(() -> new InvalidRequestException("Manager not found"));
+        if (check.getManagerTodoId() == null) {
+            throw new InvalidRequestException("Manager not found");
+        }
 
-        if (!ObjectUtils.nullSafeEquals(todo.getId(), manager.getTodo().getId())) {
+        if (!ObjectUtils.nullSafeEquals(todoId, check.getManagerTodoId())) {
             throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
         }
 
-        managerRepository.delete(manager);
+        managerRepository.deleteManagerById(managerId);
     }
 }
@@ -2,21 +2,37 @@ package org.example.expert.domain.todo.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.sql.QueryBudget;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.todo.dto.request.TodoDueAtRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.request.TodoTagsRequest;
+import org.example.expert.domain.todo.dto.response.TodoDueAtResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.dto.response.TodoTagsResponse;
+import org.example.expert.domain.todo.enums.TodoSort;
+import org.example.expert.domain.todo.service.TodoSearchService;
+import org.example.expert.domain.todo.service.TodoTagService;
 import org.example.expert.domain.todo.service.TodoService;
-import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoSearchService todoSearchService;
+    private final TodoTagService todoTagService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -26,14 +42,71 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    // 기간은 ISO-8601 (예: createdFrom=2025-08-01T00:00:00), from 이상 to 미만
+    @QueryBudget(2)
     @GetMapping("/todos")
-    public ResponseEntity<Page<TodoResponse>> getTodos(
+    public ResponseEntity<PageResponse<?>> getTodos(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields, // 예: fields=id,title (id 는 항상 포함)
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) Long authorId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime modifiedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime modifiedTo,
+            @RequestParam(required = false) String sort // 예: sort=-createdAt (기본 -modifiedAt)
+    ) {
+        TodoSearchCondition condition = new TodoSearchCondition(
+                weather, authorId, createdFrom, createdTo, modifiedFrom, modifiedTo, TodoSort.from(sort));
+        if (fields != null) {
+            return ResponseEntity.ok(PageResponse.from(todoService.getTodos(page, size, fields, condition)));
+        }
+        return ResponseEntity.ok(PageResponse.from(todoService.getTodos(page, size, condition)));
+    }
+
+    // 제목, 본문, 댓글 전문 검색 (BM25 점수 내림차순)
+    @QueryBudget(1)
+    @GetMapping("/todos/search")
+    public ResponseEntity<PageResponse<TodoSearchResponse>> searchTodos(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(PageResponse.from(todoSearchService.searchTodos(q, page, size)));
+    }
+
+    // 예: q=urgent AND backend AND NOT blocked (최신순)
+    @QueryBudget(1)
+    @GetMapping("/todos/tagged")
+    public ResponseEntity<PageResponse<TodoSummaryResponse>> getTodosByTags(
+            @RequestParam String q,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size));
+        return ResponseEntity.ok(PageResponse.from(todoTagService.getTodosByTags(q, page, size)));
+    }
+
+    @PutMapping("/todos/{todoId}/tags")
+    public ResponseEntity<TodoTagsResponse> replaceTags(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @Valid @RequestBody TodoTagsRequest todoTagsRequest
+    ) {
+        return ResponseEntity.ok(todoTagService.replaceTags(authUser, todoId, todoTagsRequest));
+    }
+
+    // 예: {"dueAt": "2026-11-01T09:00:00"} (null 이면 마감 해제)
+    @PutMapping("/todos/{todoId}/due-at")
+    public ResponseEntity<TodoDueAtResponse> changeDueAt(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @Valid @RequestBody TodoDueAtRequest todoDueAtRequest
+    ) {
+        return ResponseEntity.ok(todoService.changeDueAt(authUser, todoId, todoDueAtRequest));
     }
 
+    @QueryBudget(1)
     @GetMapping("/todos/{todoId}")
     public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
         return ResponseEntity.ok(todoService.getTodo(todoId));
@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.constraints.Future;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoDueAtRequest {
+
+    @Future(message = "마감 시각은 현재 이후여야 합니다.")
+    private LocalDateTime dueAt; // null 이면 마감과 리마인더를 없앤다
+}
@@ -1,9 +1,15 @@
 package org.example.expert.domain.todo.dto.request;
 
+import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.todo.tag.TagNames;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @NoArgsConstructor
@@ -14,4 +20,8 @@ public class TodoSaveRequest {
     private String title;
     @NotBlank
     private String contents;
+    @Size(max = TagNames.MAX_TAGS_PER_TODO, message = "태그는 일정마다 최대 10개까지 달 수 있습니다.")
+    private List<String> tags; // 선택
+    @Future(message = "마감 시각은 현재 이후여야 합니다.")
+    private LocalDateTime dueAt; // 선택, 이 시각에 리마인더를 보낸다
 }
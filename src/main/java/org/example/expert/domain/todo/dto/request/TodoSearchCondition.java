@@ -0,0 +1,48 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.Getter;
+import org.example.expert.domain.todo.enums.TodoSort;
+
+import java.time.LocalDateTime;
+
+/**
+ * GET /todos 의 필터와 정렬. 값이 null 인 필터는 적용하지 않는다.
+ * 기간은 from 이상, to 미만이다.
+ */
+@Getter
+public class TodoSearchCondition {
+
+    private final String weather;
+    private final Long authorId;
+    private final LocalDateTime createdFrom;
+    private final LocalDateTime createdTo;
+    private final LocalDateTime modifiedFrom;
+    private final LocalDateTime modifiedTo;
+    private final TodoSort sort;
+
+    public TodoSearchCondition(String weather, Long authorId,
+                               LocalDateTime createdFrom, LocalDateTime createdTo,
+                               LocalDateTime modifiedFrom, LocalDateTime modifiedTo,
+                               TodoSort sort) {
+        this.weather = weather;
+        this.authorId = authorId;
+        this.createdFrom = createdFrom;
+        this.createdTo = createdTo;
+        this.modifiedFrom = modifiedFrom;
+        this.modifiedTo = modifiedTo;
+        this.sort = sort == null ? TodoSort.DEFAULT : sort;
+    }
+
+    // 필터 없이 기본 정렬(수정일 최신순)
+    public static TodoSearchCondition latest() {
+        return new TodoSearchCondition(null, null, null, null, null, null, TodoSort.DEFAULT);
+    }
+
+    public boolean hasCreatedRange() {
+        return createdFrom != null || createdTo != null;
+    }
+
+    public boolean hasModifiedRange() {
+        return modifiedFrom != null || modifiedTo != null;
+    }
+}
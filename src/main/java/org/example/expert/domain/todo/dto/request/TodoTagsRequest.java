@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.todo.tag.TagNames;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoTagsRequest {
+
+    @NotNull(message = "태그 목록은 비어 있는 배열이라도 지정해야 합니다.")
+    @Size(max = TagNames.MAX_TAGS_PER_TODO, message = "태그는 일정마다 최대 10개까지 달 수 있습니다.")
+    private List<String> tags; // 기존 태그를 이 목록으로 교체한다
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TodoDueAtResponse {
+
+    private final Long todoId;
+    private final LocalDateTime dueAt;
+
+    public TodoDueAtResponse(Long todoId, LocalDateTime dueAt) {
+        this.todoId = todoId;
+        this.dueAt = dueAt;
+    }
+}
@@ -3,6 +3,9 @@ package org.example.expert.domain.todo.dto.response;
 import lombok.Getter;
 import org.example.expert.domain.user.dto.response.UserResponse;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Getter
 public class TodoSaveResponse {
 
@@ -11,12 +14,16 @@ public class TodoSaveResponse {
     private final String contents;
     private final String weather;
     private final UserResponse user;
+    private final List<String> tags;
+    private final LocalDateTime dueAt;
 
-    public TodoSaveResponse(Long id, String title, String contents, String weather, UserResponse user) {
+    public TodoSaveResponse(Long id, String title, String contents, String weather, UserResponse user, List<String> tags, LocalDateTime dueAt) {
         this.id = id;
         this.title = title;
         this.contents = contents;
         this.weather = weather;
         this.user = user;
+        this.tags = tags;
+        this.dueAt = dueAt;
     }
 }
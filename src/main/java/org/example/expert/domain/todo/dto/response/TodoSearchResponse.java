@@ -0,0 +1,33 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 결과 항목. 목록 항목과 같은 요약 필드에 BM25 점수를 더한다.
+ */
+@Getter
+public class TodoSearchResponse {
+
+    private final Long id;
+    private final String title;
+    private final String excerpt;
+    private final String weather;
+    private final UserResponse user;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+    private final double score;
+
+    public TodoSearchResponse(Long id, String title, String excerpt, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt, double score) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.weather = weather;
+        this.user = user;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        this.score = score;
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 목록의 항목. 본문 대신 저장된 요약(excerpt)만 담는다. 전체 본문은 단건 조회로 받는다.
+ */
+@Getter
+public class TodoSummaryResponse {
+
+    private final Long id;
+    private final String title;
+    private final String excerpt;
+    private final String weather;
+    private final UserResponse user;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    public TodoSummaryResponse(Long id, String title, String excerpt, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.weather = weather;
+        this.user = user;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+}
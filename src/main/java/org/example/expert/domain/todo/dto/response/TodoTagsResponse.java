@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoTagsResponse {
+
+    private final Long todoId;
+    private final List<String> tags;
+
+    public TodoTagsResponse(Long todoId, List<String> tags) {
+        this.todoId = todoId;
+        this.tags = tags;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마감 리마인더를 어느 시각까지 발송했는지. 한 행(id = 1)만 쓰며 TodoReminderJdbcRepository 가 읽고 쓴다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "reminder_checkpoints")
+public class ReminderCheckpoint {
+
+    @Id
+    private Integer id;
+    @Column(name = "fired_through", nullable = false)
+    private LocalDateTime firedThrough;
+}
@@ -6,23 +6,56 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.tag.TagNames;
+import org.example.expert.domain.todo.weather.WeatherConverter;
 import org.example.expert.domain.user.entity.User;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+// 목록 검색(TodoService.getTodos)이 지원하는 조합은 모두 (동등 조건?, 정렬 컬럼) 인덱스 하나로 처리된다
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_modified_at", columnList = "modified_at"),
+        @Index(name = "idx_todos_created_at", columnList = "created_at"),
+        @Index(name = "idx_todos_weather_modified_at", columnList = "weather_id, modified_at"),
+        @Index(name = "idx_todos_weather_created_at", columnList = "weather_id, created_at"),
+        @Index(name = "idx_todos_user_modified_at", columnList = "user_id, modified_at"),
+        @Index(name = "idx_todos_user_created_at", columnList = "user_id, created_at"),
+        // 리마인더 스케줄러가 다음 구간의 마감만 범위로 읽는다
+        @Index(name = "idx_todos_due_at", columnList = "due_at")
+})
 public class Todo extends Timestamped {
 
+    // 목록에 내려주는 본문 요약의 최대 길이 (말줄임표 포함)
+    public static final int EXCERPT_LENGTH = 100;
+    private static final String ELLIPSIS = "…";
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String title;
-    private String contents;
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;
+    // 날씨 문자열 대신 weathers.id(SMALLINT)만 저장한다
+    @Convert(converter = WeatherConverter.class)
+    @Column(name = "weather_id")
     private String weather;
 
+    // 본문은 todo_contents 에 두고 필요할 때만 읽는다 (FK 가 todos 쪽에 있어 지연 로딩된다)
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST, optional = false)
+    @JoinColumn(name = "content_id", nullable = false)
+    private TodoContent content;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -33,9 +66,16 @@ public class Todo extends Timestamped {
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
     private List<Manager> managers = new ArrayList<>();
 
+    // 태그 조건 검색은 todo_tags 를 조인하지 않고 TodoTagIndex 의 비트맵으로 처리한다
+    @ElementCollection
+    @CollectionTable(name = "todo_tags", joinColumns = @JoinColumn(name = "todo_id"))
+    @Column(name = "name", length = TagNames.MAX_LENGTH, nullable = false)
+    private Set<String> tags = new LinkedHashSet<>();
+
     public Todo(String title, String contents, String weather, User user) {
         this.title = title;
-        this.contents = contents;
+        this.excerpt = excerptOf(contents);
+        this.content = new TodoContent(contents);
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
@@ -43,6 +83,29 @@ public class Todo extends Timestamped {
 
     public void update(String title, String contents) {
         this.title = title;
-        this.contents = contents;
+        this.excerpt = excerptOf(contents);
+        this.content.update(contents);
+    }
+
+    // 리마인더는 초 단위로 발행하므로 초 미만은 버린다 (스케줄러가 (due_at, id) 순서로 이어 읽는 기준이 된다)
+    public void changeDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt == null ? null : dueAt.truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    public void replaceTags(Collection<String> tags) {
+        this.tags.clear();
+        this.tags.addAll(tags);
+    }
+
+    public static String excerptOf(String contents) {
+        if (contents == null || contents.length() <= EXCERPT_LENGTH) {
+            return contents;
+        }
+        int end = EXCERPT_LENGTH - ELLIPSIS.length();
+        // 서로게이트 쌍(이모지 등)을 반으로 자르지 않는다
+        if (Character.isHighSurrogate(contents.charAt(end - 1))) {
+            end--;
+        }
+        return contents.substring(0, end) + ELLIPSIS;
     }
 }
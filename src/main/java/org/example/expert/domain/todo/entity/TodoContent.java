@@ -0,0 +1,30 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일정 본문. 길이 제한 없는 본문을 todos 행에서 분리해 목록 조회(todos 스캔)가 본문을 읽지 않도록 한다.
+ * 단건 조회에서만 {@link Todo#getContent()} 로 함께 읽는다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todo_contents")
+public class TodoContent {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(columnDefinition = "TEXT")
+    private String contents;
+
+    public TodoContent(String contents) {
+        this.contents = contents;
+    }
+
+    public void update(String contents) {
+        this.contents = contents;
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 날씨 문자열 사전. todos 는 문자열 대신 이 테이블의 id(SMALLINT)만 저장한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "weathers")
+public class Weather {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Short id;
+    @Column(nullable = false, unique = true)
+    private String name;
+}
@@ -0,0 +1,32 @@
+package org.example.expert.domain.todo.enums;
+
+import org.example.expert.domain.common.projection.ResponseField;
+
+public enum TodoField implements ResponseField {
+
+    ID("id", "id"),
+    TITLE("title", "title"),
+    EXCERPT("excerpt", "excerpt"), // 목록은 본문 대신 요약만 제공한다
+    WEATHER("weather", "weather"),
+    USER("user", "user.id"), // email 은 UserDirectory 에서 채운다
+    CREATED_AT("createdAt", "createdAt"),
+    MODIFIED_AT("modifiedAt", "modifiedAt");
+
+    private final String fieldName;
+    private final String attributePath;
+
+    TodoField(String fieldName, String attributePath) {
+        this.fieldName = fieldName;
+        this.attributePath = attributePath;
+    }
+
+    @Override
+    public String fieldName() {
+        return fieldName;
+    }
+
+    @Override
+    public String attributePath() {
+        return attributePath;
+    }
+}
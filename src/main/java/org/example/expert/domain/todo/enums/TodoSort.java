@@ -0,0 +1,55 @@
+package org.example.expert.domain.todo.enums;
+
+import org.example.expert.domain.common.entity.Timestamped_;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * todo 목록 정렬. sort=-modifiedAt 처럼 앞에 '-' 를 붙이면 내림차순이다.
+ * 정렬 컬럼은 todos 인덱스의 마지막 컬럼과 같아야 하므로 created_at / modified_at 만 지원한다.
+ */
+public enum TodoSort {
+
+    MODIFIED_AT_DESC("-modifiedAt", Timestamped_.MODIFIED_AT, Sort.Direction.DESC),
+    MODIFIED_AT_ASC("modifiedAt", Timestamped_.MODIFIED_AT, Sort.Direction.ASC),
+    CREATED_AT_DESC("-createdAt", Timestamped_.CREATED_AT, Sort.Direction.DESC),
+    CREATED_AT_ASC("createdAt", Timestamped_.CREATED_AT, Sort.Direction.ASC);
+
+    public static final TodoSort DEFAULT = MODIFIED_AT_DESC;
+
+    private final String param;
+    private final String attribute;
+    private final Sort.Direction direction;
+
+    TodoSort(String param, String attribute, Sort.Direction direction) {
+        this.param = param;
+        this.attribute = attribute;
+        this.direction = direction;
+    }
+
+    public static TodoSort from(String param) {
+        if (param == null || param.isBlank()) {
+            return DEFAULT;
+        }
+        return Arrays.stream(values())
+                .filter(sort -> sort.param.equals(param.trim()))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("지원하지 않는 정렬입니다: " + param + " (지원: "
+                        + Arrays.stream(values()).map(sort -> sort.param).collect(Collectors.joining(", ")) + ")"));
+    }
+
+    public Sort toSort() {
+        return Sort.by(direction, attribute);
+    }
+
+    public boolean isOn(String attribute) {
+        return this.attribute.equals(attribute);
+    }
+
+    public String param() {
+        return param;
+    }
+}
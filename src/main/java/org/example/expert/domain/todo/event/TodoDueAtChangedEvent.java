@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+/**
+ * todo 의 마감 시각이 정해졌거나 바뀌었음을 알린다.
+ * 마감 시각은 담지 않는다. 받는 쪽은 커밋된 due_at 을 다시 읽는다. (이벤트끼리 커밋 순서와 다르게 처리될 수 있다)
+ */
+@Getter
+public class TodoDueAtChangedEvent {
+
+    private final long todoId;
+
+    public TodoDueAtChangedEvent(long todoId) {
+        this.todoId = todoId;
+    }
+}
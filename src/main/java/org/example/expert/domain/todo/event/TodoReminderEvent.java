@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * todo 의 마감 시각이 되었음을 알린다. 리마인더 스케줄러 스레드에서 발행되므로 오래 걸리는 발송은 리스너가 넘겨서 처리한다.
+ * 재시작 직전에 발행한 리마인더는 다시 발행될 수 있다.
+ */
+@Getter
+public class TodoReminderEvent {
+
+    private final long todoId;
+    private final LocalDateTime dueAt;
+
+    public TodoReminderEvent(long todoId, LocalDateTime dueAt) {
+        this.todoId = todoId;
+        this.dueAt = dueAt;
+    }
+}
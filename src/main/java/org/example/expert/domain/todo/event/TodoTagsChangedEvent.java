@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+/**
+ * todo 가 저장되었거나 태그가 바뀌었음을 알린다.
+ * 태그 목록은 담지 않는다. 받는 쪽은 커밋된 todo_tags 를 다시 읽는다. (이벤트끼리 커밋 순서와 다르게 처리될 수 있다)
+ */
+@Getter
+public class TodoTagsChangedEvent {
+
+    private final long todoId;
+
+    public TodoTagsChangedEvent(long todoId) {
+        this.todoId = todoId;
+    }
+}
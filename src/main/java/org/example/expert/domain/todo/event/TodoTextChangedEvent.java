@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * todo 의 검색 대상 텍스트(제목, 본문, 댓글)가 삭제 등으로 바뀌었음을 알린다.
+ * 새로 추가된 todo / 댓글은 검색 색인이 id 순으로 따라 읽으므로 이 이벤트가 필요 없다.
+ */
+@Getter
+public class TodoTextChangedEvent {
+
+    private final List<Long> todoIds;
+
+    public TodoTextChangedEvent(Collection<Long> todoIds) {
+        this.todoIds = List.copyOf(todoIds);
+    }
+}
@@ -0,0 +1,218 @@
+package org.example.expert.domain.todo.reminder;
+
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠. 예약과 취소는 O(1) 이고, 시간을 한 틱 진행할 때는 만기가 된 슬롯 하나만 본다.
+ * (G. Varghese, T. Lauck, "Hashed and Hierarchical Timing Wheels")
+ *
+ * <p>단계마다 2^slotBits 개의 슬롯을 두고, 단계 l 의 슬롯 하나는 2^(slotBits * l) 틱을 맡는다.
+ * 만기가 먼 항목은 위 단계에 두었다가 해당 구간이 시작될 때 아래 단계로 내려보낸다(cascade).
+ * 가장 위 단계로도 담을 수 없는 항목은 별도 목록에 두고 가장 위 단계가 한 바퀴 돌 때마다 다시 배치한다.
+ *
+ * <p>틱은 epoch 기준 절대 틱이며, 항목은 만기 시각을 올림한 틱에 발화한다. 즉 만기보다 일찍 발화하지 않고
+ * 최대 한 틱 늦게 발화한다. {@link #currentTimeMillis()} 이하가 만기인 항목은 모두 발화한 상태이다.
+ *
+ * <p>스레드 안전하지 않다. 한 스레드가 예약, 취소, 진행을 모두 맡아야 한다.
+ */
+public final class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int slotBits;
+    private final int levels;
+    private final long slotMask;
+    private final Timeout<T>[] buckets; // 단계 l 의 슬롯 s 는 buckets[l << slotBits | s] (머리 노드)
+    private final Timeout<T> overflow;
+
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long startMillis, long tickMillis, int slotBits, int levels) {
+        if (tickMillis < 1 || slotBits < 1 || slotBits > 16 || levels < 1 || slotBits * levels > 62) {
+            throw new IllegalArgumentException("잘못된 타이밍 휠 설정: tick=" + tickMillis + "ms, slotBits=" + slotBits + ", levels=" + levels);
+        }
+        this.tickMillis = tickMillis;
+        this.slotBits = slotBits;
+        this.levels = levels;
+        this.slotMask = (1L << slotBits) - 1;
+        this.buckets = new Timeout[levels << slotBits];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = Timeout.head();
+        }
+        this.overflow = Timeout.head();
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * 이미 지난 시각이면 다음 틱에 발화한다.
+     */
+    public Timeout<T> add(long deadlineMillis, T value) {
+        // 현재 틱의 슬롯은 이미 발화했으므로 지난 만기는 다음 틱으로 미룬다
+        long deadlineTick = Math.max(Math.ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        Timeout<T> timeout = new Timeout<>(deadlineMillis, deadlineTick, value);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * @return 아직 발화하지 않은 항목을 취소했으면 true
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (!timeout.isPending()) {
+            return false;
+        }
+        timeout.unlink();
+        size--;
+        return true;
+    }
+
+    /**
+     * nowMillis 가 속한 틱까지 진행하면서 만기가 된 항목을 expired 에 넘긴다.
+     * 넘겨받은 쪽에서 다시 예약해도 되며, 만기가 지났으면 다음 틱에 발화한다.
+     */
+    public void advanceTo(long nowMillis, Consumer<Timeout<T>> expired) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                // 비어 있으면 슬롯을 하나씩 돌 필요가 없다
+                currentTick = targetTick;
+                return;
+            }
+            tick(expired);
+        }
+    }
+
+    public long currentTimeMillis() {
+        return currentTick * tickMillis;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void tick(Consumer<Timeout<T>> expired) {
+        currentTick++;
+        if ((currentTick & lowBitsMask(levels)) == 0) {
+            replace(overflow);
+        }
+        // 위 단계부터 내려야 이번 틱에 끝나는 구간의 항목이 0단계 슬롯까지 내려온다
+        for (int level = levels - 1; level > 0; level--) {
+            if ((currentTick & lowBitsMask(level)) == 0) {
+                replace(bucket(level, currentTick >>> (slotBits * level)));
+            }
+        }
+
+        // 넘겨받은 쪽이 같은 슬롯의 다른 항목을 취소할 수 있으므로 하나씩 떼어 낸다
+        Timeout<T> head = bucket(0, currentTick);
+        while (!head.isEmpty()) {
+            Timeout<T> timeout = head.next;
+            timeout.unlink();
+            size--;
+            expired.accept(timeout);
+        }
+    }
+
+    // 목록을 비우고 현재 틱 기준으로 다시 배치한다
+    private void replace(Timeout<T> head) {
+        Timeout<T> timeout = head.detachAll();
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            timeout.clear();
+            place(timeout);
+            timeout = next;
+        }
+    }
+
+    // 내려보낼 때는 delta 가 0 일 수 있다 (이번 틱에 0단계 슬롯에서 발화)
+    private void place(Timeout<T> timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        // delta < 2^(slotBits * (level + 1)) 인 가장 낮은 단계
+        int level = delta == 0 ? 0 : (63 - Long.numberOfLeadingZeros(delta)) / slotBits;
+        if (level >= levels) {
+            overflow.append(timeout);
+            return;
+        }
+        bucket(level, timeout.deadlineTick >>> (slotBits * level)).append(timeout);
+    }
+
+    private Timeout<T> bucket(int level, long slot) {
+        return buckets[level << slotBits | (int) (slot & slotMask)];
+    }
+
+    private long lowBitsMask(int level) {
+        return (1L << (slotBits * level)) - 1;
+    }
+
+    /**
+     * 예약 항목. 슬롯마다 머리 노드를 둔 이중 연결 리스트의 노드이므로 취소할 때 슬롯을 찾지 않고 바로 뺀다.
+     */
+    public static final class Timeout<T> {
+
+        private final long deadlineMillis;
+        private final long deadlineTick;
+        private final T value;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(long deadlineMillis, long deadlineTick, T value) {
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineTick = deadlineTick;
+            this.value = value;
+        }
+
+        private static <T> Timeout<T> head() {
+            Timeout<T> head = new Timeout<>(0, 0, null);
+            head.prev = head;
+            head.next = head;
+            return head;
+        }
+
+        public long deadlineMillis() {
+            return deadlineMillis;
+        }
+
+        public T value() {
+            return value;
+        }
+
+        public boolean isPending() {
+            return prev != null;
+        }
+
+        private boolean isEmpty() {
+            return next == this;
+        }
+
+        private void append(Timeout<T> timeout) {
+            timeout.prev = prev;
+            timeout.next = this;
+            prev.next = timeout;
+            prev = timeout;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            clear();
+        }
+
+        private void clear() {
+            prev = null;
+            next = null;
+        }
+
+        // 머리 노드에서 호출. 목록을 비우고 첫 노드를 반환한다 (마지막 노드의 next 는 null)
+        private Timeout<T> detachAll() {
+            if (isEmpty()) {
+                return null;
+            }
+            Timeout<T> first = next;
+            prev.next = null;
+            prev = this;
+            next = this;
+            return first;
+        }
+    }
+}
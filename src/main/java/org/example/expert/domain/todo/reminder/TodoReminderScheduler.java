@@ -0,0 +1,255 @@
+package org.example.expert.domain.todo.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.event.TodoDueAtChangedEvent;
+import org.example.expert.domain.todo.event.TodoReminderEvent;
+import org.example.expert.domain.todo.reminder.TimingWheel.Timeout;
+import org.example.expert.domain.todo.repository.TodoReminderJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * todo 마감 시각에 {@link TodoReminderEvent} 를 발행한다.
+ *
+ * <p>테이블 전체를 주기적으로 훑는 대신 idx_todos_due_at 에서 앞으로 {@code window-millis} 안에 마감인 todo 만 읽어
+ * {@link TimingWheel} 에 올리고, 구간의 절반이 지나면 다음 구간을 미리 읽는다.
+ * 구간을 읽은 뒤의 마감 변경은 커밋 후 {@link TodoDueAtChangedEvent} 로 받아, 커밋된 due_at 을 다시 읽어 예약을 옮기거나 취소한다.
+ * 이벤트는 커밋 뒤에 도착하고 다시 읽기는 도착 뒤에 하므로, 리스너가 커밋 순서와 다르게 실행되어도 마지막 커밋의 마감이 남는다.
+ *
+ * <p>어느 시각까지 발행했는지(fired_through)를 reminder_checkpoints 에 주기적으로 기록한다.
+ * 재시작하면 그 시각 이후의 마감부터 다시 읽으므로 중단된 동안 지난 리마인더는 곧바로 발행되고,
+ * 마지막 기록 이후 발행한 리마인더는 한 번 더 발행될 수 있다. (최소 한 번 발행)
+ * 기록하는 위치는 읽은 구간의 끝을 넘지 않으므로, 구간을 읽지 못한 채 멈춰도 읽지 않은 마감을 건너뛰지 않는다.
+ * 스케줄러는 인스턴스마다 돌므로 여러 인스턴스로 띄울 때는 한 곳에서만 켜야 한다.
+ *
+ * <p>휠과 예약 목록은 스케줄러 스레드만 다룬다. 다른 스레드에서 들어온 변경은 큐를 거쳐 다음 틱에 반영된다.
+ */
+@Slf4j
+@Component
+public class TodoReminderScheduler implements SmartLifecycle {
+
+    // 256 슬롯 x 3단계 = 2^24 틱 (100ms 틱이면 약 19일)
+    private static final int SLOT_BITS = 8;
+    private static final int LEVELS = 3;
+
+    private final TodoReminderJdbcRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long tickMillis;
+    private final long windowMillis;
+    private final long checkpointIntervalMillis;
+    private final int loadBatchSize;
+    private final ConcurrentLinkedQueue<Long> changes = new ConcurrentLinkedQueue<>();
+
+    // 아래는 스케줄러 스레드만 접근한다
+    private final Map<Long, Timeout<Long>> scheduled = new HashMap<>();
+    private final Set<Long> changedTodoIds = new LinkedHashSet<>(); // 마감을 아직 다시 읽지 못한 todo
+    private TimingWheel<Long> wheel;
+    private long windowEnd; // 이 시각까지의 마감은 모두 휠에 올라와 있다
+    private long savedThrough;
+    private long lastCheckpointAt;
+
+    private volatile boolean running;
+    private Thread wheelThread;
+
+    public TodoReminderScheduler(
+            TodoReminderJdbcRepository repository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${reminder.tick-millis:100}") long tickMillis,
+            @Value("${reminder.window-millis:300000}") long windowMillis,
+            @Value("${reminder.checkpoint-interval-millis:1000}") long checkpointIntervalMillis,
+            @Value("${reminder.load-batch-size:10000}") int loadBatchSize
+    ) {
+        this.repository = repository;
+        this.eventPublisher = eventPublisher;
+        this.tickMillis = tickMillis;
+        this.windowMillis = windowMillis;
+        this.checkpointIntervalMillis = checkpointIntervalMillis;
+        this.loadBatchSize = loadBatchSize;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoDueAtChanged(TodoDueAtChangedEvent event) {
+        changes.add(event.getTodoId());
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        recover(System.currentTimeMillis());
+
+        running = true;
+        wheelThread = new Thread(this::run, "todo-reminder-wheel");
+        wheelThread.setDaemon(true);
+        wheelThread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(wheelThread);
+        try {
+            wheelThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 기록된 위치부터 이어서 발행하도록 휠을 새로 만든다. 처음 띄울 때는 지금부터 발행한다.
+     */
+    void recover(long now) {
+        Optional<Long> saved = repository.findFiredThrough();
+        long firedThrough = saved.orElse(now);
+        if (saved.isEmpty()) {
+            repository.saveFiredThrough(firedThrough);
+        }
+        savedThrough = firedThrough;
+        windowEnd = firedThrough;
+        lastCheckpointAt = now;
+        scheduled.clear();
+        changedTodoIds.clear();
+        wheel = new TimingWheel<>(Math.max(now, firedThrough), tickMillis, SLOT_BITS, LEVELS);
+        log.info("todo 리마인더 시작 위치: 마감 > {}", new Timestamp(firedThrough));
+    }
+
+    /**
+     * 한 틱의 처리. 다음 구간을 미리 읽고, 들어온 변경을 반영한 뒤 now 까지 발행한다.
+     * 구간을 읽지 못했으면 읽은 곳까지만 진행하므로 fired_through 가 읽지 않은 마감을 건너뛰지 않는다.
+     */
+    void poll(long now) {
+        if (now + windowMillis / 2 >= windowEnd) {
+            loadWindow(now);
+        }
+        applyChanges();
+        wheel.advanceTo(Math.min(now, windowEnd), this::fire);
+        if (now - lastCheckpointAt >= checkpointIntervalMillis) {
+            checkpoint();
+            lastCheckpointAt = now;
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                poll(System.currentTimeMillis());
+            } catch (RuntimeException e) {
+                log.error("todo 리마인더 처리 실패", e);
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(tickMillis));
+        }
+        try {
+            checkpoint();
+        } catch (RuntimeException e) {
+            log.error("todo 리마인더 위치 기록 실패", e);
+        }
+    }
+
+    private void loadWindow(long now) {
+        long startedAt = System.nanoTime();
+        long to = Math.max(now, windowEnd) + windowMillis;
+        long afterDueAt = windowEnd;
+        long afterId = Long.MAX_VALUE; // windowEnd 와 같은 시각의 마감은 이전 구간에서 읽었다
+        int loaded = 0;
+        while (true) {
+            List<long[]> rows = repository.findDueAfter(afterDueAt, afterId, to, loadBatchSize);
+            for (long[] row : rows) {
+                schedule(row[0], row[1]);
+            }
+            loaded += rows.size();
+            if (rows.size() < loadBatchSize) {
+                break;
+            }
+            long[] last = rows.get(rows.size() - 1);
+            afterId = last[0];
+            afterDueAt = last[1];
+        }
+        windowEnd = to;
+        log.debug("todo 리마인더 구간 적재: ~{}, {}개, 대기 {}개, {}ms",
+                new Timestamp(to), loaded, wheel.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    // 읽기에 실패한 todo 는 남겨 두었다가 다음 틱에 다시 읽는다
+    private void applyChanges() {
+        Long changedTodoId;
+        while ((changedTodoId = changes.poll()) != null) {
+            changedTodoIds.add(changedTodoId);
+        }
+        if (changedTodoIds.isEmpty()) {
+            return;
+        }
+        List<Long> todoIds = new ArrayList<>(changedTodoIds);
+        for (int from = 0; from < todoIds.size(); from += loadBatchSize) {
+            List<Long> batch = todoIds.subList(from, Math.min(from + loadBatchSize, todoIds.size()));
+            Map<Long, Long> dueAts = repository.findDueAtIn(batch);
+            for (Long todoId : batch) {
+                long dueAtMillis = dueAts.getOrDefault(todoId, Long.MAX_VALUE);
+                // 아직 읽지 않은 구간의 마감은 그 구간을 읽을 때 올라온다
+                if (dueAtMillis <= windowEnd) {
+                    schedule(todoId, dueAtMillis);
+                } else {
+                    Timeout<Long> previous = scheduled.remove(todoId);
+                    if (previous != null) {
+                        wheel.cancel(previous);
+                    }
+                }
+                changedTodoIds.remove(todoId);
+            }
+        }
+    }
+
+    // 같은 todo 는 하나만 예약한다 (구간 적재와 변경 이벤트가 겹쳐도 한 번만 발행)
+    private void schedule(long todoId, long dueAtMillis) {
+        Timeout<Long> previous = scheduled.get(todoId);
+        if (previous != null) {
+            if (previous.deadlineMillis() == dueAtMillis) {
+                return;
+            }
+            wheel.cancel(previous);
+        }
+        scheduled.put(todoId, wheel.add(dueAtMillis, todoId));
+    }
+
+    private void fire(Timeout<Long> timeout) {
+        scheduled.remove(timeout.value());
+        try {
+            eventPublisher.publishEvent(new TodoReminderEvent(timeout.value(), new Timestamp(timeout.deadlineMillis()).toLocalDateTime()));
+        } catch (RuntimeException e) {
+            // 리스너 하나가 실패해도 같은 틱의 나머지 리마인더는 발행한다
+            log.error("todo 리마인더 발행 실패: todoId={}", timeout.value(), e);
+        }
+    }
+
+    // 재시작 직후에는 휠이 읽은 구간의 끝보다 앞서 있으므로, 구간을 읽기 전에는 기록 위치가 움직이지 않는다
+    private void checkpoint() {
+        long firedThrough = Math.min(wheel.currentTimeMillis(), windowEnd);
+        if (firedThrough > savedThrough) {
+            repository.saveFiredThrough(firedThrough);
+            savedThrough = firedThrough;
+        }
+    }
+}
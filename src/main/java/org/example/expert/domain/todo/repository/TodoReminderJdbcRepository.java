@@ -0,0 +1,74 @@
+package org.example.expert.domain.todo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 리마인더 스케줄러용 조회. 엔티티를 만들지 않도록 id 와 마감 시각만 JDBC 로 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TodoReminderJdbcRepository {
+
+    private static final int CHECKPOINT_ID = 1;
+
+    // idx_todos_due_at 범위 조회. InnoDB 보조 인덱스에는 PK 가 붙어 있으므로 (due_at, id) 순서로 이어 읽을 수 있다
+    private static final String DUE_BETWEEN_SQL = "SELECT id, due_at FROM todos "
+            + "WHERE (due_at > ? OR (due_at = ? AND id > ?)) AND due_at <= ? ORDER BY due_at, id LIMIT ?";
+    private static final String DUE_AT_IN_SQL = "SELECT id, due_at FROM todos WHERE id IN (:ids) AND due_at IS NOT NULL";
+    private static final String SELECT_CHECKPOINT_SQL = "SELECT fired_through FROM reminder_checkpoints WHERE id = ?";
+    private static final String UPDATE_CHECKPOINT_SQL = "UPDATE reminder_checkpoints SET fired_through = ? WHERE id = ?";
+    private static final String INSERT_CHECKPOINT_SQL = "INSERT INTO reminder_checkpoints (id, fired_through) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * (afterDueAt, afterId) 이후부터 toInclusive 까지의 마감을 (due_at, id) 순서로 최대 limit 개 읽는다.
+     *
+     * @return {todo id, 마감 시각(epoch millis)} 목록
+     */
+    public List<long[]> findDueAfter(long afterDueAtMillis, long afterId, long toInclusiveMillis, int limit) {
+        Timestamp afterDueAt = new Timestamp(afterDueAtMillis);
+        return jdbcTemplate.query(DUE_BETWEEN_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getTimestamp(2).getTime()},
+                afterDueAt, afterDueAt, afterId, new Timestamp(toInclusiveMillis), limit);
+    }
+
+    /**
+     * 커밋된 마감 시각을 읽는다. 마감이 없거나 삭제된 todo 는 결과에 없다.
+     *
+     * @return todo id → 마감 시각(epoch millis)
+     */
+    public Map<Long, Long> findDueAtIn(Collection<Long> todoIds) {
+        Map<Long, Long> dueAts = new HashMap<>();
+        namedParameterJdbcTemplate.query(DUE_AT_IN_SQL, new MapSqlParameterSource("ids", todoIds),
+                rs -> {
+                    dueAts.put(rs.getLong(1), rs.getTimestamp(2).getTime());
+                });
+        return dueAts;
+    }
+
+    public Optional<Long> findFiredThrough() {
+        return jdbcTemplate.query(SELECT_CHECKPOINT_SQL, (rs, rowNum) -> rs.getTimestamp(1).getTime(), CHECKPOINT_ID)
+                .stream()
+                .findFirst();
+    }
+
+    public void saveFiredThrough(long firedThroughMillis) {
+        Timestamp firedThrough = new Timestamp(firedThroughMillis);
+        if (jdbcTemplate.update(UPDATE_CHECKPOINT_SQL, firedThrough, CHECKPOINT_ID) == 0) {
+            jdbcTemplate.update(INSERT_CHECKPOINT_SQL, CHECKPOINT_ID, firedThrough);
+        }
+    }
+}
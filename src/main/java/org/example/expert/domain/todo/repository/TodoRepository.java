@@ -1,26 +1,27 @@
 package org.example.expert.domain.todo.repository;
 
 import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+/**
+ * 목록 검색은 {@link TodoSpecifications} 로 만든 조건을 {@code findAll(Specification, Pageable)} 로 실행한다.
+ * 작성자 email 은 UserDirectory 에서 채우므로 users 를 조인하지 않고 user_id 만 읽는다.
+ */
+public interface TodoRepository extends JpaRepository<Todo, Long>, JpaSpecificationExecutor<Todo>, TodoRepositoryCustom {
 
-    // @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
-    @EntityGraph(attributePaths = "user")
-    @Query("SELECT t FROM Todo t ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 단건 조회만 본문을 함께 읽는다 (todo_contents 조인 1회)
+    @EntityGraph(attributePaths = "content")
+    @Query("SELECT t FROM Todo t WHERE t.id = :todoId")
+    Optional<Todo> findWithContentById(@Param("todoId") Long todoId);
 
-    @Query("SELECT t FROM Todo t " +
-            "LEFT JOIN FETCH t.user " +
-            "WHERE t.id = :todoId")
-    Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findOwnerIdById(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
 }
@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.Tuple;
+import org.example.expert.domain.common.projection.SparseFields;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoField;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface TodoRepositoryCustom {
+
+    // 검색 조건과 pageable 의 정렬을 적용한 목록에서 요청한 필드의 컬럼만 SELECT 한다
+    Page<Tuple> findPageWithFields(SparseFields<TodoField> fields, Specification<Todo> spec, Pageable pageable);
+}
@@ -0,0 +1,53 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.common.entity.Timestamped_;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.Todo_;
+import org.example.expert.domain.user.entity.User_;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@link TodoSearchCondition} 을 JPA 정적 메타모델 기반 {@link Specification} 으로 옮긴다.
+ * 조건 조합이 인덱스를 탈 수 있는지는 호출하는 쪽(TodoService)에서 먼저 검사한다.
+ */
+public final class TodoSpecifications {
+
+    private TodoSpecifications() {
+    }
+
+    public static Specification<Todo> of(TodoSearchCondition condition) {
+        return Specification.allOf(
+                weatherEquals(condition.getWeather()),
+                authorIdEquals(condition.getAuthorId()),
+                createdAtIn(condition.getCreatedFrom(), condition.getCreatedTo()),
+                modifiedAtIn(condition.getModifiedFrom(), condition.getModifiedTo())
+        );
+    }
+
+    // weather 는 WeatherConverter 를 거쳐 weather_id 비교가 된다
+    public static Specification<Todo> weatherEquals(String weather) {
+        return weather == null ? null : (root, query, cb) -> cb.equal(root.get(Todo_.weather), weather);
+    }
+
+    // user_id FK 만 비교하므로 users 를 조인하지 않는다
+    public static Specification<Todo> authorIdEquals(Long authorId) {
+        return authorId == null ? null : (root, query, cb) -> cb.equal(root.get(Todo_.user).get(User_.id), authorId);
+    }
+
+    public static Specification<Todo> createdAtIn(LocalDateTime from, LocalDateTime to) {
+        return Specification.allOf(
+                from == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(Timestamped_.createdAt), from),
+                to == null ? null : (root, query, cb) -> cb.lessThan(root.get(Timestamped_.createdAt), to)
+        );
+    }
+
+    public static Specification<Todo> modifiedAtIn(LocalDateTime from, LocalDateTime to) {
+        return Specification.allOf(
+                from == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(Timestamped_.modifiedAt), from),
+                to == null ? null : (root, query, cb) -> cb.lessThan(root.get(Timestamped_.modifiedAt), to)
+        );
+    }
+}
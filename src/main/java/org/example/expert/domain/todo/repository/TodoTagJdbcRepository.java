@@ -0,0 +1,40 @@
+package org.example.expert.domain.todo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * 태그 비트맵 적재 / 갱신용 조회. 엔티티를 만들지 않도록 id 와 태그 이름만 JDBC 로 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TodoTagJdbcRepository {
+
+    private static final String TODO_IDS_AFTER_SQL = "SELECT id FROM todos WHERE id > ? ORDER BY id LIMIT ?";
+    // todo_tags 의 PK (todo_id, name) 범위 조회
+    private static final String TAGS_BETWEEN_SQL = "SELECT todo_id, name FROM todo_tags WHERE todo_id > ? AND todo_id <= ?";
+    private static final String TAGS_OF_SQL = "SELECT name FROM todo_tags WHERE todo_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> findTodoIdsAfter(long lastId, int limit) {
+        return jdbcTemplate.queryForList(TODO_IDS_AFTER_SQL, Long.class, lastId, limit);
+    }
+
+    /**
+     * fromExclusive &lt; todo_id &lt;= toInclusive 인 (태그 이름, todo id) 를 consumer 에 넘긴다.
+     */
+    public void forEachTagBetween(long fromExclusive, long toInclusive, ObjLongConsumer<String> consumer) {
+        jdbcTemplate.query(TAGS_BETWEEN_SQL, rs -> {
+            consumer.accept(rs.getString(2), rs.getLong(1));
+        }, fromExclusive, toInclusive);
+    }
+
+    public List<String> findTagsByTodoId(long todoId) {
+        return jdbcTemplate.queryForList(TAGS_OF_SQL, String.class, todoId);
+    }
+}
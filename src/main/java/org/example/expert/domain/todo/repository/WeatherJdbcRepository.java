@@ -0,0 +1,31 @@
+package org.example.expert.domain.todo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class WeatherJdbcRepository {
+
+    // name 유니크 인덱스에 걸리면 무시하므로 여러 인스턴스가 같은 날씨를 동시에 등록해도 한 행만 남는다.
+    private static final String INSERT_IGNORE_SQL = "INSERT IGNORE INTO weathers (name) VALUES (?)";
+    private static final String SELECT_ALL_SQL = "SELECT id, name FROM weathers";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<String, Short> findAll() {
+        Map<String, Short> ids = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_ALL_SQL, rs -> {
+            ids.put(rs.getString("name"), rs.getShort("id"));
+        });
+        return ids;
+    }
+
+    public void insertIgnore(String name) {
+        jdbcTemplate.update(INSERT_IGNORE_SQL, name);
+    }
+}
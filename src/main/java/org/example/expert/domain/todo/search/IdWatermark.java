@@ -0,0 +1,59 @@
+package org.example.expert.domain.todo.search;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * id 순으로 따라 읽은 위치. AUTO_INCREMENT id 는 커밋 순서와 다를 수 있어서
+ * (id 10 이 id 11 보다 늦게 커밋) 건너뛴 id 를 구멍으로 기억해 두고 일정 시간 동안 다시 확인한다.
+ * 제한 시간이 지나도 채워지지 않은 구멍은 롤백되었거나 삭제된 행으로 본다.
+ * 단일 색인 스레드에서만 사용한다.
+ */
+final class IdWatermark {
+
+    // 한 번에 이보다 많이 건너뛰면(대량 삭제 등) 구멍으로 추적하지 않는다
+    private static final int MAX_TRACKED_GAP = 1_000;
+
+    private final long gapTimeoutNanos;
+    private final TreeMap<Long, Long> gaps = new TreeMap<>(); // id → 발견 시각
+    private long value;
+
+    IdWatermark(long value, long gapTimeoutNanos) {
+        this.value = value;
+        this.gapTimeoutNanos = gapTimeoutNanos;
+    }
+
+    long value() {
+        return value;
+    }
+
+    void observe(long id, long now) {
+        if (id <= value) {
+            gaps.remove(id);
+            return;
+        }
+        if (id - value - 1 <= MAX_TRACKED_GAP) {
+            for (long gap = value + 1; gap < id; gap++) {
+                gaps.put(gap, now);
+            }
+        }
+        value = id;
+    }
+
+    List<Long> openGaps(long now) {
+        List<Long> open = new ArrayList<>();
+        Iterator<Map.Entry<Long, Long>> iterator = gaps.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Long> gap = iterator.next();
+            if (now - gap.getValue() > gapTimeoutNanos) {
+                iterator.remove();
+            } else {
+                open.add(gap.getKey());
+            }
+        }
+        return open;
+    }
+}
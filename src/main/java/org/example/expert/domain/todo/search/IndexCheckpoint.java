@@ -0,0 +1,10 @@
+package org.example.expert.domain.todo.search;
+
+/**
+ * 색인에 반영을 마친 todos.id / comments.id 의 최댓값. 세그먼트 목록과 함께 manifest 에 원자적으로 기록되며,
+ * 재시작하면 이 값 이후의 행만 다시 읽어 색인을 따라잡는다.
+ */
+record IndexCheckpoint(long todoId, long commentId) {
+
+    static final IndexCheckpoint EMPTY = new IndexCheckpoint(0, 0);
+}
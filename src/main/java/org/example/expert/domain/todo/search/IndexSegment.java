@@ -0,0 +1,354 @@
+package org.example.expert.domain.todo.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * 한 번 만들면 바뀌지 않는 역색인 조각. 디스크의 세그먼트 파일과 메모리 표현이 같은 바이트 배열을 공유한다.
+ *
+ * <p>문서(todo)는 id 오름차순으로 0 부터 ordinal 을 받고, 각 term 의 포스팅은 ordinal 오름차순으로
+ * {@link PostingsWriter} 형식에 맞춰 압축된다. 파일 구성은 다음과 같다.
+ * <pre>
+ * [magic 4][version 4]
+ * [문서 수 varint][todo id 증분 varlong ...][문서 길이(토큰 수) varint ...]
+ * ([term UTF-8 길이 varint][term][df varint][포스팅 바이트 수 varint][포스팅]) ... [0]
+ * </pre>
+ * 삭제(새 버전으로 대체된 문서)는 세그먼트를 고치지 않고 {@link LiveSegment} 의 삭제 비트로 표시한다.
+ *
+ * <p>한 todo 가 여러 세그먼트에 조각(처음 색인한 문서와 나중에 덧붙인 댓글)으로 나뉘어 있을 수 있다.
+ * 한 세그먼트 안에서는 todo 하나에 조각 하나이며, 병합하면 같은 todo 의 조각을 문서 하나로 합친다.
+ */
+final class IndexSegment {
+
+    private static final int MAGIC = 0x54534547; // "TSEG"
+    private static final int VERSION = 1;
+
+    private final long generation;
+    private final byte[] data;
+    private final long[] docIds;
+    private final int[] docLengths;
+    private final long totalLength;
+    private final String[] terms;
+    private final int[] docFreqs;
+    private final int[] postingStarts;
+
+    private IndexSegment(long generation, byte[] data, long[] docIds, int[] docLengths,
+                         String[] terms, int[] docFreqs, int[] postingStarts) {
+        this.generation = generation;
+        this.data = data;
+        this.docIds = docIds;
+        this.docLengths = docLengths;
+        this.totalLength = Arrays.stream(docLengths).asLongStream().sum();
+        this.terms = terms;
+        this.docFreqs = docFreqs;
+        this.postingStarts = postingStarts;
+    }
+
+    @FunctionalInterface
+    interface PostingConsumer {
+        void accept(int ordinal, int termFrequency);
+    }
+
+    /**
+     * todo id → 본문 텍스트로 새 세그먼트를 만든다.
+     */
+    static IndexSegment build(long generation, Map<Long, String> documents) {
+        long[] docIds = documents.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        int[] docLengths = new int[docIds.length];
+        TreeMap<String, LongList> postings = new TreeMap<>();
+
+        for (int ordinal = 0; ordinal < docIds.length; ordinal++) {
+            List<String> tokens = SearchTokenizer.tokenize(documents.get(docIds[ordinal]));
+            docLengths[ordinal] = tokens.size();
+
+            Map<String, Integer> frequencies = new HashMap<>();
+            for (String token : tokens) {
+                frequencies.merge(token, 1, Integer::sum);
+            }
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new LongList()).add(pack(ordinal, entry.getValue()));
+            }
+        }
+
+        Encoder encoder = new Encoder(docIds, docLengths);
+        postings.forEach(encoder::addTerm);
+        return decode(generation, encoder.finish());
+    }
+
+    /**
+     * 여러 세그먼트의 살아 있는 문서만 모아 하나로 합친다. term 단위로 스트리밍하므로
+     * 한 번에 메모리에 올리는 포스팅은 term 하나 분량이다.
+     * 같은 todo 의 조각은 문서 하나가 되며, 길이와 term 빈도를 더한다.
+     */
+    static IndexSegment merge(long generation, List<LiveSegment> sources) {
+        int liveDocs = sources.stream().mapToInt(LiveSegment::liveDocCount).sum();
+        long[] docIds = new long[liveDocs];
+        int[] docLengths = new int[liveDocs];
+        int[][] remap = new int[sources.size()][];
+
+        // 각 세그먼트의 문서는 이미 todo id 순이므로 k-way 병합으로 살아 있는 문서에 새 ordinal 을 매긴다 (같은 todo 는 같은 ordinal)
+        PriorityQueue<int[]> docCursors = new PriorityQueue<>((left, right) -> Long.compare(
+                sources.get(left[0]).segment().docId(left[1]), sources.get(right[0]).segment().docId(right[1])));
+        for (int s = 0; s < sources.size(); s++) {
+            remap[s] = new int[sources.get(s).segment().docCount()];
+            Arrays.fill(remap[s], -1);
+            int first = sources.get(s).nextLive(0);
+            if (first >= 0) {
+                docCursors.add(new int[]{s, first});
+            }
+        }
+        int newOrdinal = 0;
+        while (!docCursors.isEmpty()) {
+            int[] cursor = docCursors.poll();
+            IndexSegment segment = sources.get(cursor[0]).segment();
+            long docId = segment.docId(cursor[1]);
+            if (newOrdinal == 0 || docIds[newOrdinal - 1] != docId) {
+                docIds[newOrdinal] = docId;
+                newOrdinal++;
+            }
+            remap[cursor[0]][cursor[1]] = newOrdinal - 1;
+            docLengths[newOrdinal - 1] += segment.docLength(cursor[1]);
+            cursor[1] = sources.get(cursor[0]).nextLive(cursor[1] + 1);
+            if (cursor[1] >= 0) {
+                docCursors.add(cursor);
+            }
+        }
+        if (newOrdinal < liveDocs) {
+            docIds = Arrays.copyOf(docIds, newOrdinal);
+            docLengths = Arrays.copyOf(docLengths, newOrdinal);
+        }
+
+        // term 사전을 k-way 병합
+        Encoder encoder = new Encoder(docIds, docLengths);
+        PriorityQueue<int[]> cursors = new PriorityQueue<>((left, right) ->
+                sources.get(left[0]).segment().term(left[1]).compareTo(sources.get(right[0]).segment().term(right[1])));
+        for (int s = 0; s < sources.size(); s++) {
+            if (sources.get(s).segment().termCount() > 0) {
+                cursors.add(new int[]{s, 0});
+            }
+        }
+        LongList merged = new LongList();
+        while (!cursors.isEmpty()) {
+            String term = sources.get(cursors.peek()[0]).segment().term(cursors.peek()[1]);
+            merged.clear();
+            while (!cursors.isEmpty() && sources.get(cursors.peek()[0]).segment().term(cursors.peek()[1]).equals(term)) {
+                int[] cursor = cursors.poll();
+                int s = cursor[0];
+                int[] segmentRemap = remap[s];
+                sources.get(s).segment().forEachPosting(cursor[1], (ordinal, termFrequency) -> {
+                    if (segmentRemap[ordinal] >= 0) {
+                        merged.add(pack(segmentRemap[ordinal], termFrequency));
+                    }
+                });
+                if (++cursor[1] < sources.get(s).segment().termCount()) {
+                    cursors.add(cursor);
+                }
+            }
+            if (merged.size() > 0) {
+                merged.sort();
+                merged.sumByOrdinal();
+                encoder.addTerm(term, merged);
+            }
+        }
+        return decode(generation, encoder.finish());
+    }
+
+    static IndexSegment decode(long generation, byte[] data) {
+        if (data.length < 8 || readInt(data, 0) != MAGIC || readInt(data, 4) != VERSION) {
+            throw new IllegalStateException("세그먼트 형식이 올바르지 않습니다: generation=" + generation);
+        }
+        PostingsReader reader = new PostingsReader(data, 8);
+
+        int docCount = reader.readVarInt();
+        long[] docIds = new long[docCount];
+        long previous = 0;
+        for (int i = 0; i < docCount; i++) {
+            previous += reader.readVarLong();
+            docIds[i] = previous;
+        }
+        int[] docLengths = new int[docCount];
+        for (int i = 0; i < docCount; i++) {
+            docLengths[i] = reader.readVarInt();
+        }
+
+        List<String> terms = new ArrayList<>();
+        LongList entries = new LongList(); // df << 32 | 포스팅 시작 위치
+        while (true) {
+            int termLength = reader.readVarInt();
+            if (termLength == 0) {
+                break;
+            }
+            int termStart = reader.position();
+            terms.add(new String(data, termStart, termLength, StandardCharsets.UTF_8));
+            reader = new PostingsReader(data, termStart + termLength);
+            int docFreq = reader.readVarInt();
+            int postingsLength = reader.readVarInt();
+            entries.add(pack(reader.position(), docFreq));
+            reader = new PostingsReader(data, reader.position() + postingsLength);
+        }
+
+        int[] docFreqs = new int[terms.size()];
+        int[] postingStarts = new int[terms.size()];
+        for (int i = 0; i < terms.size(); i++) {
+            postingStarts[i] = (int) (entries.get(i) >>> 32);
+            docFreqs[i] = (int) entries.get(i);
+        }
+        return new IndexSegment(generation, data, docIds, docLengths, terms.toArray(String[]::new), docFreqs, postingStarts);
+    }
+
+    long generation() {
+        return generation;
+    }
+
+    byte[] bytes() {
+        return data;
+    }
+
+    int docCount() {
+        return docIds.length;
+    }
+
+    long docId(int ordinal) {
+        return docIds[ordinal];
+    }
+
+    int docLength(int ordinal) {
+        return docLengths[ordinal];
+    }
+
+    long totalLength() {
+        return totalLength;
+    }
+
+    // 없으면 음수
+    int ordinalOf(long docId) {
+        return Arrays.binarySearch(docIds, docId);
+    }
+
+    int termCount() {
+        return terms.length;
+    }
+
+    String term(int termIndex) {
+        return terms[termIndex];
+    }
+
+    // 없으면 음수
+    int termIndex(String term) {
+        return Arrays.binarySearch(terms, term);
+    }
+
+    int docFreq(int termIndex) {
+        return docFreqs[termIndex];
+    }
+
+    void forEachPosting(int termIndex, PostingConsumer consumer) {
+        PostingsReader reader = new PostingsReader(data, postingStarts[termIndex]);
+        int ordinal = 0;
+        for (int i = 0; i < docFreqs[termIndex]; i++) {
+            int header = reader.readVarInt();
+            ordinal += header >>> 1;
+            int termFrequency = (header & 1) == 1 ? 1 : reader.readVarInt();
+            consumer.accept(ordinal, termFrequency);
+        }
+    }
+
+    private static long pack(int high, int low) {
+        return ((long) high << 32) | (low & 0xFFFFFFFFL);
+    }
+
+    private static int readInt(byte[] data, int offset) {
+        return (data[offset] & 0xFF) << 24 | (data[offset + 1] & 0xFF) << 16
+                | (data[offset + 2] & 0xFF) << 8 | (data[offset + 3] & 0xFF);
+    }
+
+    // 세그먼트 파일 바이트를 순서대로 만든다. term 은 사전순으로 추가해야 한다.
+    private static final class Encoder {
+
+        private final PostingsWriter out = new PostingsWriter();
+
+        Encoder(long[] docIds, int[] docLengths) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeVarInt(docIds.length);
+            long previous = 0;
+            for (long docId : docIds) {
+                out.writeVarLong(docId - previous);
+                previous = docId;
+            }
+            for (int docLength : docLengths) {
+                out.writeVarInt(docLength);
+            }
+        }
+
+        void addTerm(String term, LongList packed) {
+            byte[] termBytes = term.getBytes(StandardCharsets.UTF_8);
+            PostingsWriter termPostings = new PostingsWriter();
+            int previous = 0;
+            for (int i = 0; i < packed.size(); i++) {
+                int ordinal = (int) (packed.get(i) >>> 32);
+                termPostings.add(ordinal - previous, (int) packed.get(i));
+                previous = ordinal;
+            }
+            out.writeVarInt(termBytes.length);
+            out.writeBytes(termBytes, 0, termBytes.length);
+            out.writeVarInt(packed.size());
+            out.writeVarInt(termPostings.size());
+            out.writeBytes(termPostings.toByteArray(), 0, termPostings.size());
+        }
+
+        byte[] finish() {
+            out.writeVarInt(0);
+            return out.toByteArray();
+        }
+    }
+
+    // 박싱 없는 long 가변 배열
+    static final class LongList {
+
+        private long[] values = new long[16];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        void sort() {
+            Arrays.sort(values, 0, size);
+        }
+
+        // 정렬된 (ordinal << 32 | tf) 목록에서 같은 ordinal 의 tf 를 하나로 더한다
+        void sumByOrdinal() {
+            int write = 0;
+            for (int read = 0; read < size; read++) {
+                if (write > 0 && values[write - 1] >>> 32 == values[read] >>> 32) {
+                    values[write - 1] += (int) values[read];
+                } else {
+                    values[write++] = values[read];
+                }
+            }
+            size = write;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.expert.domain.todo.search;
+
+import java.util.BitSet;
+
+/**
+ * 세그먼트와 그 세그먼트에서 삭제된(새 버전으로 대체된) 문서 ordinal 집합.
+ * 검색 스레드가 락 없이 읽으므로 비트는 게시한 뒤 고치지 않고, 바뀔 때마다 새 인스턴스를 만든다.
+ *
+ * @param deleteGeneration 삭제 파일 버전. 삭제가 없으면 0
+ * @param split            다른 세그먼트에도 살아 있는 조각이 있는 todo 의 ordinal. 파일에 쓰지 않고 열 때 다시 계산한다
+ */
+record LiveSegment(IndexSegment segment, BitSet deleted, long deleteGeneration, BitSet split) {
+
+    static LiveSegment of(IndexSegment segment) {
+        return new LiveSegment(segment, new BitSet(), 0, new BitSet());
+    }
+
+    int liveDocCount() {
+        return segment.docCount() - deleted.cardinality();
+    }
+
+    // from 이상인 첫 번째 살아 있는 ordinal, 없으면 -1
+    int nextLive(int from) {
+        int next = deleted.nextClearBit(from);
+        return next < segment.docCount() ? next : -1;
+    }
+
+    // todo 의 살아 있는 조각 ordinal, 없으면 -1
+    int liveOrdinalOf(long todoId) {
+        int ordinal = segment.ordinalOf(todoId);
+        return ordinal >= 0 && !deleted.get(ordinal) ? ordinal : -1;
+    }
+
+    LiveSegment withDeleted(BitSet newlyDeleted) {
+        BitSet merged = (BitSet) deleted.clone();
+        merged.or(newlyDeleted);
+        return new LiveSegment(segment, merged, deleteGeneration + 1, split);
+    }
+
+    LiveSegment withSplit(BitSet split) {
+        return new LiveSegment(segment, deleted, deleteGeneration, split);
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.expert.domain.todo.search;
+
+/**
+ * {@link PostingsWriter} 로 기록한 바이트를 순서대로 읽는다.
+ */
+final class PostingsReader {
+
+    private final byte[] bytes;
+    private int position;
+
+    PostingsReader(byte[] bytes, int position) {
+        this.bytes = bytes;
+        this.position = position;
+    }
+
+    int position() {
+        return position;
+    }
+
+    int readVarInt() {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[position++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    long readVarLong() {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[position++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+}
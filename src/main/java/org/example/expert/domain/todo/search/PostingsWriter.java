@@ -0,0 +1,70 @@
+package org.example.expert.domain.todo.search;
+
+import java.util.Arrays;
+
+/**
+ * 포스팅 목록을 가변 길이 정수(varint)로 압축해 쓴다.
+ *
+ * <p>한 포스팅은 [ordinal 증분 << 1 | (tf == 1 ? 1 : 0)] 과, tf 가 1 이 아닐 때만 [tf] 로 기록한다.
+ * 문서 ordinal 은 오름차순이라 증분이 작고 대부분의 tf 가 1 이므로 포스팅 하나가 보통 1~2byte 이다.
+ */
+final class PostingsWriter {
+
+    private byte[] bytes = new byte[64];
+    private int size;
+
+    void add(int ordinalDelta, int termFrequency) {
+        if (termFrequency == 1) {
+            writeVarInt(ordinalDelta << 1 | 1);
+        } else {
+            writeVarInt(ordinalDelta << 1);
+            writeVarInt(termFrequency);
+        }
+    }
+
+    void writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[size++] = (byte) value;
+    }
+
+    void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[size++] = (byte) value;
+    }
+
+    void writeInt(int value) {
+        ensureCapacity(4);
+        bytes[size++] = (byte) (value >>> 24);
+        bytes[size++] = (byte) (value >>> 16);
+        bytes[size++] = (byte) (value >>> 8);
+        bytes[size++] = (byte) value;
+    }
+
+    void writeBytes(byte[] source, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(source, offset, bytes, size, length);
+        size += length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+}
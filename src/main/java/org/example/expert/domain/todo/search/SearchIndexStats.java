@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.search;
+
+import lombok.Getter;
+
+@Getter
+public class SearchIndexStats {
+
+    private final long documents;
+    private final long deletedDocuments;
+    private final int segments;
+    private final long bytes;
+
+    public SearchIndexStats(long documents, long deletedDocuments, int segments, long bytes) {
+        this.documents = documents;
+        this.deletedDocuments = deletedDocuments;
+        this.segments = segments;
+        this.bytes = bytes;
+    }
+}
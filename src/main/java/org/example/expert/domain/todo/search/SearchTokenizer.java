@@ -0,0 +1,67 @@
+package org.example.expert.domain.todo.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 색인과 검색어에 같은 규칙을 적용하는 토크나이저.
+ *
+ * <p>문자/숫자가 아닌 문자로 나눈 뒤 라틴 문자·숫자 구간은 소문자 단어 하나로,
+ * 한글 구간은 조사가 붙어도 찾을 수 있도록 2글자 단위(bigram)로 자른다. ("배포했다" → 배포, 포했, 했다)
+ * 한 글자짜리 한글 구간은 그대로 하나의 토큰이 된다.
+ */
+final class SearchTokenizer {
+
+    static final int MAX_TOKEN_LENGTH = 32; // 이보다 긴 단어는 잘라서 색인한다
+
+    private SearchTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        int length = text.length();
+        int start = -1;
+        boolean hangul = false;
+        for (int i = 0; i <= length; ) {
+            int codePoint = i < length ? text.codePointAt(i) : ' ';
+            boolean wordChar = Character.isLetterOrDigit(codePoint);
+            boolean currentHangul = wordChar && isHangul(codePoint);
+
+            if (start >= 0 && (!wordChar || currentHangul != hangul)) {
+                emit(text.substring(start, i), hangul, tokens);
+                start = -1;
+            }
+            if (wordChar && start < 0) {
+                start = i;
+                hangul = currentHangul;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return tokens;
+    }
+
+    private static void emit(String run, boolean hangul, List<String> tokens) {
+        if (!hangul) {
+            String token = run.toLowerCase(Locale.ROOT);
+            tokens.add(token.length() > MAX_TOKEN_LENGTH ? token.substring(0, MAX_TOKEN_LENGTH) : token);
+            return;
+        }
+        // 한글 음절은 BMP 에 있으므로 char 단위로 잘라도 된다
+        if (run.length() == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i + 1 < run.length(); i++) {
+            tokens.add(run.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isHangul(int codePoint) {
+        return Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+    }
+}
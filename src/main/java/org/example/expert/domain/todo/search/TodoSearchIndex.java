@@ -0,0 +1,554 @@
+package org.example.expert.domain.todo.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * todo 제목·본문·댓글에 대한 프로세스 내 역색인. 문서 단위는 todo 하나이고 BM25 로 점수를 매긴다.
+ *
+ * <p>Lucene 과 같은 세그먼트 구조를 쓴다. 색인 요청 묶음마다 불변 {@link IndexSegment} 를 하나 만들고,
+ * 이미 색인된 todo 를 다시 색인하면 기존 세그먼트의 해당 문서에 삭제 비트만 표시한다.
+ * 세그먼트가 {@code maxSegments} 개를 넘으면 가장 작은 {@value #MERGE_FACTOR} 개를 삭제 문서를 뺀 하나로 병합한다.
+ *
+ * <p>새 댓글은 todo 전체를 다시 색인하지 않고 댓글 텍스트만 같은 todo 의 조각으로 새 세그먼트에 덧붙인다.
+ * 댓글이 많은 todo 도 댓글 하나당 그 댓글만큼만 색인하고, 기존 조각을 삭제 표시하지 않으므로 삭제된 사본이 쌓이지 않는다.
+ * 조각이 여러 세그먼트에 있는 todo 는 검색할 때 조각들의 term 빈도와 길이를 더해 문서 하나로 점수를 매기고,
+ * 병합하면 조각이 문서 하나로 합쳐진다.
+ *
+ * <p>세그먼트와 삭제 비트는 파일로 쓰고, 현재 유효한 파일 목록과 {@link IndexCheckpoint} 를 manifest 에
+ * 임시 파일 → 원자적 rename 으로 기록한다. 재시작하면 manifest 가 가리키는 파일만 읽으므로
+ * 기록 도중 죽어도 직전 manifest 상태로 돌아온다.
+ *
+ * <p>쓰기({@link #update})는 {@link TodoSearchIndexer} 스레드 하나가 호출한다.
+ * 검색은 불변 스냅샷을 락 없이 읽는다.
+ * 문서 빈도와 평균 길이는 Lucene 처럼 병합 전까지 삭제된 문서를 포함해 계산한다. 문서 빈도는 같은 이유로 조각 단위로 센다.
+ */
+@Slf4j
+@Component
+public class TodoSearchIndex {
+
+    static final int MERGE_FACTOR = 5;
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final String MANIFEST = "manifest";
+    private static final String FILE_PREFIX = "segment-";
+
+    private final Path directory;
+    private final int maxSegments;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot = Snapshot.of(List.of(), IndexCheckpoint.EMPTY, Map.of());
+    private long nextGeneration = 1; // writeLock 으로 보호
+
+    public TodoSearchIndex(
+            @Value("${search.index.directory:./data/todo-search}") String directory,
+            @Value("${search.index.max-segments:10}") int maxSegments
+    ) {
+        if (maxSegments < MERGE_FACTOR) {
+            throw new IllegalArgumentException("max-segments 는 " + MERGE_FACTOR + " 이상이어야 합니다: " + maxSegments);
+        }
+        this.directory = Paths.get(directory);
+        this.maxSegments = maxSegments;
+    }
+
+    /**
+     * 디스크의 manifest 를 읽어 색인을 복원하고, manifest 에 없는 파일(기록 도중 중단된 흔적)은 지운다.
+     */
+    IndexCheckpoint open() {
+        writeLock.lock();
+        try {
+            Files.createDirectories(directory);
+            Path manifest = directory.resolve(MANIFEST);
+            List<LiveSegment> segments = new ArrayList<>();
+            IndexCheckpoint checkpoint = IndexCheckpoint.EMPTY;
+
+            if (Files.exists(manifest)) {
+                long todoWatermark = 0;
+                long commentWatermark = 0;
+                for (String line : Files.readAllLines(manifest, StandardCharsets.UTF_8)) {
+                    String[] pair = line.split("=", 2);
+                    switch (pair[0]) {
+                        case "todo-watermark" -> todoWatermark = Long.parseLong(pair[1]);
+                        case "comment-watermark" -> commentWatermark = Long.parseLong(pair[1]);
+                        case "segment" -> segments.add(readSegment(pair[1]));
+                        default -> {
+                        }
+                    }
+                }
+                checkpoint = new IndexCheckpoint(todoWatermark, commentWatermark);
+            }
+
+            nextGeneration = segments.stream().mapToLong(live -> live.segment().generation()).max().orElse(0) + 1;
+            Map<Long, SplitDocument> splits = new HashMap<>();
+            refreshSplits(segments, splits, findSplitTodoIds(segments));
+            snapshot = Snapshot.of(segments, checkpoint, splits);
+            deleteUnreferencedFiles();
+
+            SearchIndexStats stats = stats();
+            log.info("todo 검색 색인 적재 완료: 문서 {}개, 세그먼트 {}개, {}bytes, checkpoint={}",
+                    stats.getDocuments(), stats.getSegments(), stats.getBytes(), checkpoint);
+            return checkpoint;
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인을 열 수 없습니다: " + directory, e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    IndexCheckpoint checkpoint() {
+        return snapshot.checkpoint();
+    }
+
+    /**
+     * documents 의 todo 를 (다시) 색인하고, appended 의 텍스트는 해당 todo 의 기존 조각을 두고 조각으로 덧붙이며,
+     * removedIds 의 todo 는 색인에서 뺀 뒤 checkpoint 와 함께 기록한다.
+     */
+    void update(Map<Long, String> documents, Map<Long, String> appended, Collection<Long> removedIds, IndexCheckpoint checkpoint) {
+        writeLock.lock();
+        try {
+            Set<Long> replaced = new HashSet<>(removedIds);
+            replaced.addAll(documents.keySet());
+
+            List<LiveSegment> segments = new ArrayList<>();
+            for (LiveSegment live : snapshot.segments()) {
+                segments.add(deleteDocuments(live, replaced));
+            }
+            // 다시 색인하는 todo 에 덧붙일 텍스트가 있으면 새 문서에 합친다
+            Map<Long, String> parts = new HashMap<>(appended);
+            documents.forEach((todoId, document) -> parts.merge(todoId, document, (append, full) -> full + '\n' + append));
+            if (!parts.isEmpty()) {
+                IndexSegment segment = IndexSegment.build(nextGeneration++, parts);
+                writeAtomically(segmentPath(segment.generation()), segment.bytes());
+                segments.add(LiveSegment.of(segment));
+            }
+
+            Map<Long, SplitDocument> splits = new HashMap<>(snapshot.splits());
+            splits.keySet().removeAll(replaced);
+            Set<Long> appendedOnly = new HashSet<>(appended.keySet());
+            appendedOnly.removeAll(replaced);
+            refreshSplits(segments, splits, appendedOnly);
+            commit(segments, splits, checkpoint);
+
+            if (segments.size() > maxSegments) {
+                mergeSmallest();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인을 기록할 수 없습니다: " + directory, e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 검색어를 토큰으로 나눠 하나라도 포함한 todo 를 BM25 점수 내림차순으로 최대 limit 개 반환한다.
+     */
+    public TodoSearchResult search(String query, int limit) {
+        List<String> terms = SearchTokenizer.tokenize(query).stream().distinct().toList();
+        Snapshot current = snapshot;
+        List<LiveSegment> segments = current.segments();
+        // 조각이 여러 개인 todo 는 한 번만 센다
+        long docCount = segments.stream().mapToLong(live -> live.segment().docCount()).sum() - current.extraParts();
+        if (terms.isEmpty() || docCount == 0 || limit <= 0) {
+            return TodoSearchResult.EMPTY;
+        }
+
+        double averageLength = Math.max(1.0, segments.stream().mapToLong(live -> live.segment().totalLength()).sum() / (double) docCount);
+        float[] idf = new float[terms.size()];
+        for (int t = 0; t < terms.size(); t++) {
+            long docFreq = 0;
+            for (LiveSegment live : segments) {
+                int termIndex = live.segment().termIndex(terms.get(t));
+                if (termIndex >= 0) {
+                    docFreq += live.segment().docFreq(termIndex);
+                }
+            }
+            idf[t] = (float) Math.log(1 + (docCount - docFreq + 0.5) / (docFreq + 0.5));
+        }
+
+        // 점수가 낮은(같으면 오래된) 문서가 먼저 나오는 크기 limit 의 힙
+        Comparator<SearchHit> worstFirst = Comparator.comparingDouble(SearchHit::getScore)
+                .thenComparingLong(SearchHit::getTodoId);
+        PriorityQueue<SearchHit> top = new PriorityQueue<>(worstFirst);
+        long total = 0;
+
+        int[] termIndexes = new int[terms.size()];
+        Map<Long, int[]> splitFrequencies = new HashMap<>(); // 조각이 여러 개인 todo → term 별 빈도 합
+        for (LiveSegment live : segments) {
+            IndexSegment segment = live.segment();
+            int postings = 0;
+            for (int t = 0; t < terms.size(); t++) {
+                termIndexes[t] = segment.termIndex(terms.get(t));
+                if (termIndexes[t] >= 0) {
+                    postings += segment.docFreq(termIndexes[t]);
+                }
+            }
+            if (postings == 0) {
+                continue;
+            }
+
+            ScoreAccumulator scores = new ScoreAccumulator(postings, segment.docCount());
+            for (int t = 0; t < terms.size(); t++) {
+                if (termIndexes[t] < 0) {
+                    continue;
+                }
+                int term = t;
+                float termIdf = idf[t];
+                segment.forEachPosting(termIndexes[t], (ordinal, termFrequency) -> {
+                    if (live.deleted().get(ordinal)) {
+                        return;
+                    }
+                    if (live.split().get(ordinal)) {
+                        splitFrequencies.computeIfAbsent(segment.docId(ordinal), todoId -> new int[terms.size()])[term] += termFrequency;
+                        return;
+                    }
+                    float norm = K1 * (1 - B + B * (float) (segment.docLength(ordinal) / averageLength));
+                    scores.add(ordinal, termIdf * termFrequency * (K1 + 1) / (termFrequency + norm));
+                });
+            }
+
+            total += scores.size();
+            for (int slot = 0; slot < scores.capacity(); slot++) {
+                int ordinal = scores.ordinalAt(slot);
+                if (ordinal < 0) {
+                    continue;
+                }
+                offer(top, worstFirst, limit, new SearchHit(segment.docId(ordinal), scores.scoreAt(slot)));
+            }
+        }
+
+        total += splitFrequencies.size();
+        for (Map.Entry<Long, int[]> entry : splitFrequencies.entrySet()) {
+            int[] frequencies = entry.getValue();
+            float norm = K1 * (1 - B + B * (float) (current.splits().get(entry.getKey()).length() / averageLength));
+            float score = 0;
+            for (int t = 0; t < terms.size(); t++) {
+                if (frequencies[t] > 0) {
+                    score += idf[t] * frequencies[t] * (K1 + 1) / (frequencies[t] + norm);
+                }
+            }
+            offer(top, worstFirst, limit, new SearchHit(entry.getKey(), score));
+        }
+
+        List<SearchHit> hits = new ArrayList<>(top);
+        hits.sort(worstFirst.reversed());
+        return new TodoSearchResult(total, hits);
+    }
+
+    public SearchIndexStats stats() {
+        Snapshot current = snapshot;
+        List<LiveSegment> segments = current.segments();
+        long documents = -current.extraParts();
+        long deleted = 0;
+        long bytes = 0;
+        for (LiveSegment live : segments) {
+            int deletedCount = live.deleted().cardinality();
+            documents += live.segment().docCount() - deletedCount;
+            deleted += deletedCount;
+            bytes += live.segment().bytes().length + live.deleted().toByteArray().length;
+        }
+        return new SearchIndexStats(documents, deleted, segments.size(), bytes);
+    }
+
+    private static void offer(PriorityQueue<SearchHit> top, Comparator<SearchHit> worstFirst, int limit, SearchHit hit) {
+        if (top.size() < limit) {
+            top.add(hit);
+        } else if (worstFirst.compare(hit, top.peek()) > 0) {
+            top.poll();
+            top.add(hit);
+        }
+    }
+
+    private LiveSegment deleteDocuments(LiveSegment live, Set<Long> todoIds) throws IOException {
+        BitSet newlyDeleted = new BitSet();
+        for (Long todoId : todoIds) {
+            int ordinal = live.segment().ordinalOf(todoId);
+            if (ordinal >= 0 && !live.deleted().get(ordinal)) {
+                newlyDeleted.set(ordinal);
+            }
+        }
+        if (newlyDeleted.isEmpty()) {
+            return live;
+        }
+        LiveSegment updated = live.withDeleted(newlyDeleted);
+        writeAtomically(deletesPath(updated), updated.deleted().toByteArray());
+        return updated;
+    }
+
+    private void mergeSmallest() throws IOException {
+        List<LiveSegment> bySize = new ArrayList<>(snapshot.segments());
+        bySize.sort(Comparator.comparingInt(LiveSegment::liveDocCount));
+        List<LiveSegment> sources = bySize.subList(0, MERGE_FACTOR);
+
+        long startedAt = System.nanoTime();
+        IndexSegment merged = IndexSegment.merge(nextGeneration++, sources);
+        writeAtomically(segmentPath(merged.generation()), merged.bytes());
+
+        List<LiveSegment> segments = new ArrayList<>(bySize.subList(MERGE_FACTOR, bySize.size()));
+        if (merged.docCount() > 0) {
+            segments.add(LiveSegment.of(merged));
+        }
+        segments.sort(Comparator.comparingLong(live -> live.segment().generation()));
+
+        // 병합으로 조각이 합쳐진 todo 만 다시 센다
+        Map<Long, SplitDocument> splits = new HashMap<>(snapshot.splits());
+        List<Long> rejoined = new ArrayList<>();
+        for (int ordinal = 0; ordinal < merged.docCount(); ordinal++) {
+            if (splits.containsKey(merged.docId(ordinal))) {
+                rejoined.add(merged.docId(ordinal));
+            }
+        }
+        refreshSplits(segments, splits, rejoined);
+        commit(segments, splits, snapshot.checkpoint());
+        log.debug("todo 검색 세그먼트 {}개 병합: 문서 {}개, {}ms", MERGE_FACTOR, merged.docCount(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private void commit(List<LiveSegment> segments, Map<Long, SplitDocument> splits, IndexCheckpoint checkpoint) throws IOException {
+        StringBuilder manifest = new StringBuilder()
+                .append("todo-watermark=").append(checkpoint.todoId()).append('\n')
+                .append("comment-watermark=").append(checkpoint.commentId()).append('\n');
+        for (LiveSegment live : segments) {
+            manifest.append("segment=").append(live.segment().generation()).append(',').append(live.deleteGeneration()).append('\n');
+        }
+        writeAtomically(directory.resolve(MANIFEST), manifest.toString().getBytes(StandardCharsets.UTF_8));
+        snapshot = Snapshot.of(segments, checkpoint, splits);
+        deleteUnreferencedFiles();
+    }
+
+    /**
+     * todoIds 의 살아 있는 조각을 세그먼트마다 다시 찾아 splits 와 각 세그먼트의 split 비트를 맞춘다.
+     * 바뀐 세그먼트는 새 {@link LiveSegment} 로 바꿔 넣는다.
+     */
+    private static void refreshSplits(List<LiveSegment> segments, Map<Long, SplitDocument> splits, Collection<Long> todoIds) {
+        if (todoIds.isEmpty()) {
+            return;
+        }
+        BitSet[] changed = new BitSet[segments.size()];
+        int[] ordinals = new int[segments.size()];
+        for (Long todoId : todoIds) {
+            int parts = 0;
+            int length = 0;
+            for (int s = 0; s < segments.size(); s++) {
+                ordinals[s] = segments.get(s).liveOrdinalOf(todoId);
+                if (ordinals[s] >= 0) {
+                    parts++;
+                    length += segments.get(s).segment().docLength(ordinals[s]);
+                }
+            }
+            boolean split = parts > 1;
+            if (split) {
+                splits.put(todoId, new SplitDocument(parts, length));
+            } else {
+                splits.remove(todoId);
+            }
+            for (int s = 0; s < segments.size(); s++) {
+                if (ordinals[s] < 0) {
+                    continue;
+                }
+                BitSet bits = changed[s] != null ? changed[s] : segments.get(s).split();
+                if (bits.get(ordinals[s]) != split) {
+                    if (changed[s] == null) {
+                        changed[s] = bits = (BitSet) bits.clone();
+                    }
+                    bits.set(ordinals[s], split);
+                }
+            }
+        }
+        for (int s = 0; s < segments.size(); s++) {
+            if (changed[s] != null) {
+                segments.set(s, segments.get(s).withSplit(changed[s]));
+            }
+        }
+    }
+
+    // 둘 이상의 세그먼트에 살아 있는 조각이 있는 todo. 세그먼트마다 todo id 순이므로 k-way 로 훑는다
+    private static List<Long> findSplitTodoIds(List<LiveSegment> segments) {
+        PriorityQueue<int[]> cursors = new PriorityQueue<>((left, right) -> Long.compare(
+                segments.get(left[0]).segment().docId(left[1]), segments.get(right[0]).segment().docId(right[1])));
+        for (int s = 0; s < segments.size(); s++) {
+            int first = segments.get(s).nextLive(0);
+            if (first >= 0) {
+                cursors.add(new int[]{s, first});
+            }
+        }
+        List<Long> todoIds = new ArrayList<>();
+        long previous = -1;
+        while (!cursors.isEmpty()) {
+            int[] cursor = cursors.poll();
+            long todoId = segments.get(cursor[0]).segment().docId(cursor[1]);
+            if (todoId == previous && (todoIds.isEmpty() || todoIds.get(todoIds.size() - 1) != todoId)) {
+                todoIds.add(todoId);
+            }
+            previous = todoId;
+            cursor[1] = segments.get(cursor[0]).nextLive(cursor[1] + 1);
+            if (cursor[1] >= 0) {
+                cursors.add(cursor);
+            }
+        }
+        return todoIds;
+    }
+
+    private LiveSegment readSegment(String entry) throws IOException {
+        String[] parts = entry.split(",");
+        long generation = Long.parseLong(parts[0]);
+        long deleteGeneration = Long.parseLong(parts[1]);
+        IndexSegment segment = IndexSegment.decode(generation, Files.readAllBytes(segmentPath(generation)));
+        if (deleteGeneration == 0) {
+            return LiveSegment.of(segment);
+        }
+        LiveSegment live = new LiveSegment(segment, new BitSet(), deleteGeneration, new BitSet());
+        return new LiveSegment(segment, BitSet.valueOf(Files.readAllBytes(deletesPath(live))), deleteGeneration, new BitSet());
+    }
+
+    private void deleteUnreferencedFiles() throws IOException {
+        Set<Path> referenced = new HashSet<>();
+        referenced.add(directory.resolve(MANIFEST));
+        for (LiveSegment live : snapshot.segments()) {
+            referenced.add(segmentPath(live.segment().generation()));
+            if (live.deleteGeneration() > 0) {
+                referenced.add(deletesPath(live));
+            }
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if ((name.startsWith(FILE_PREFIX) || name.endsWith(".tmp")) && !referenced.contains(file)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private Path segmentPath(long generation) {
+        return directory.resolve(String.format("%s%020d.seg", FILE_PREFIX, generation));
+    }
+
+    private Path deletesPath(LiveSegment live) {
+        return directory.resolve(String.format("%s%020d-%d.del", FILE_PREFIX, live.segment().generation(), live.deleteGeneration()));
+    }
+
+    // 임시 파일에 쓰고 디스크에 내린 뒤 rename 하므로 파일은 온전히 있거나 아예 없다
+    private static void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * @param splits     조각이 여러 개인 todo → 조각 수와 길이 합
+     * @param extraParts 조각이 여러 개인 todo 의 첫 조각을 뺀 나머지 조각 수
+     */
+    private record Snapshot(List<LiveSegment> segments, IndexCheckpoint checkpoint, Map<Long, SplitDocument> splits, long extraParts) {
+
+        static Snapshot of(List<LiveSegment> segments, IndexCheckpoint checkpoint, Map<Long, SplitDocument> splits) {
+            long extraParts = 0;
+            for (SplitDocument split : splits.values()) {
+                extraParts += split.parts() - 1;
+            }
+            return new Snapshot(List.copyOf(segments), checkpoint, Map.copyOf(splits), extraParts);
+        }
+    }
+
+    private record SplitDocument(int parts, int length) {
+    }
+
+    /**
+     * 한 세그먼트 안에서 일치한 ordinal → 점수. 읽을 포스팅 수에 비례하는 만큼만 할당한다.
+     * 포스팅이 적으면 선형 탐사 open addressing 표(빈 칸은 음수 ordinal)를 쓰고,
+     * 세그먼트 문서의 1/{@value #DENSE_RATIO} 이상이면 그 표가 더 크므로 ordinal 을 그대로 칸으로 쓰는 배열을 쓴다.
+     * 점수는 항상 0 보다 크므로 0 인 칸은 비어 있다.
+     */
+    static final class ScoreAccumulator {
+
+        static final int DENSE_RATIO = 8;
+
+        private final int[] ordinals; // 배열 방식이면 null
+        private final float[] scores;
+        private final int mask;
+        private int size;
+
+        ScoreAccumulator(int postings, int docCount) {
+            if ((long) postings * DENSE_RATIO >= docCount) {
+                this.ordinals = null;
+                this.scores = new float[docCount];
+                this.mask = 0;
+                return;
+            }
+            // 포스팅 수의 두 배 이상인 2의 거듭제곱이므로 다시 키우지 않는다
+            int capacity = Integer.highestOneBit(Math.max(postings, 4) * 2 - 1) << 1;
+            this.ordinals = new int[capacity];
+            this.scores = new float[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(ordinals, -1);
+        }
+
+        void add(int ordinal, float score) {
+            int slot = ordinal;
+            if (ordinals != null) {
+                int hash = ordinal * 0x9E3779B9;
+                slot = (hash ^ hash >>> 16) & mask;
+                while (ordinals[slot] >= 0 && ordinals[slot] != ordinal) {
+                    slot = (slot + 1) & mask;
+                }
+                ordinals[slot] = ordinal;
+            }
+            if (scores[slot] == 0) {
+                size++;
+            }
+            scores[slot] += score;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int capacity() {
+            return scores.length;
+        }
+
+        // 빈 칸이면 -1
+        int ordinalAt(int slot) {
+            if (scores[slot] == 0) {
+                return -1;
+            }
+            return ordinals == null ? slot : ordinals[slot];
+        }
+
+        float scoreAt(int slot) {
+            return scores[slot];
+        }
+    }
+}
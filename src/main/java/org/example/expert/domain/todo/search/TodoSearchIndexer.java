@@ -0,0 +1,219 @@
+package org.example.expert.domain.todo.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.event.TodoTextChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 커밋된 쓰기를 따라 읽어 {@link TodoSearchIndex} 를 점진적으로 갱신한다.
+ *
+ * <p>새 todo / 댓글은 PK 순서로 워터마크 이후만 주기적으로 읽는다. 커밋된 행만 보이므로 롤백된 쓰기는 색인되지 않는다.
+ * 새 todo 는 문서 전체를 색인하고, 이미 색인된 todo 의 새 댓글은 그 댓글 텍스트만 조각으로 덧붙인다.
+ * 삭제처럼 id 만으로 알 수 없는 변경은 {@link TodoTextChangedEvent} 가 커밋 후에 알려 주며, 해당 todo 는 문서 전체를 다시 색인한다.
+ *
+ * <p>덧붙이기는 멱등하지 않으므로 댓글 하나가 두 번 들어가지 않게 한다. 문서 전체를 읽을 때는 댓글 워터마크 이하이면서
+ * 구멍이 아닌(이미 따라 읽은) 댓글만 넣고, 그 밖의 댓글은 따라 읽을 때 덧붙인다.
+ * 재시작 후 다시 읽는 구간의 댓글은 이미 색인되었을 수 있으므로 덧붙이지 않고 todo 를 다시 색인한다.
+ * 워터마크는 세그먼트와 함께 manifest 에 기록되므로, 재시작하면 마지막 워터마크에서
+ * {@value #RESTART_OVERLAP} 만큼 앞부터 다시 읽는다. (그 사이 늦게 커밋된 행을 놓치지 않기 위함)
+ *
+ * <p>색인 스레드가 큐에 남긴 삭제 이벤트는 메모리에만 있으므로 프로세스가 비정상 종료되면 유실된다.
+ * 색인은 인스턴스마다 따로 가지며, 다른 인스턴스에서 일어난 삭제는 해당 todo 가 다시 색인될 때 반영된다.
+ */
+@Slf4j
+@Component
+public class TodoSearchIndexer implements SmartLifecycle {
+
+    private static final long RESTART_OVERLAP = 1_000;
+    private static final long GAP_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final TodoSearchIndex index;
+    private final TodoSearchSource source;
+    private final long refreshIntervalNanos;
+    private final int batchSize;
+    private final LinkedBlockingQueue<Long> changedTodoIds = new LinkedBlockingQueue<>();
+
+    private volatile boolean running;
+    private volatile long startedPasses;
+    private volatile long lastIdlePass;
+    private Thread indexThread;
+    private IdWatermark todoWatermark;
+    private IdWatermark commentWatermark;
+    private long reindexThroughCommentId; // 이 id 까지의 댓글은 덧붙이지 않고 todo 를 다시 색인한다
+
+    public TodoSearchIndexer(
+            TodoSearchIndex index,
+            TodoSearchSource source,
+            @Value("${search.index.refresh-interval-millis:1000}") long refreshIntervalMillis,
+            @Value("${search.index.batch-size:5000}") int batchSize
+    ) {
+        this.index = index;
+        this.source = source;
+        this.refreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(refreshIntervalMillis);
+        this.batchSize = batchSize;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoTextChanged(TodoTextChangedEvent event) {
+        changedTodoIds.addAll(event.getTodoIds());
+        LockSupport.unpark(indexThread);
+    }
+
+    /**
+     * 호출 이후 시작된 갱신 주기가 더 읽을 것이 없는 상태로 끝날 때까지 기다린다. 부하 테스트가 색인 완료를 기다릴 때 쓴다.
+     */
+    public boolean awaitIdle(Duration timeout) {
+        long target = startedPasses + 1;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (lastIdlePass < target) {
+            if (!running || System.nanoTime() > deadline) {
+                return false;
+            }
+            LockSupport.unpark(indexThread);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        IndexCheckpoint checkpoint = index.open();
+        if (checkpoint.equals(IndexCheckpoint.EMPTY)) {
+            // 처음 만드는 색인은 todo 를 처음부터 읽으면서 댓글도 함께 읽으므로 기존 댓글은 따로 읽지 않는다
+            todoWatermark = new IdWatermark(0, GAP_TIMEOUT_NANOS);
+            commentWatermark = new IdWatermark(source.findMaxCommentId(), GAP_TIMEOUT_NANOS);
+            reindexThroughCommentId = commentWatermark.value();
+        } else {
+            todoWatermark = new IdWatermark(Math.max(0, checkpoint.todoId() - RESTART_OVERLAP), GAP_TIMEOUT_NANOS);
+            commentWatermark = new IdWatermark(Math.max(0, checkpoint.commentId() - RESTART_OVERLAP), GAP_TIMEOUT_NANOS);
+            reindexThroughCommentId = checkpoint.commentId();
+        }
+        log.info("todo 검색 색인 시작 위치: todo id > {}, comment id > {}", todoWatermark.value(), commentWatermark.value());
+
+        running = true;
+        indexThread = new Thread(this::run, "todo-search-indexer");
+        indexThread.setDaemon(true);
+        indexThread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(indexThread);
+        try {
+            indexThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        Set<Long> pending = new HashSet<>();
+        Map<Long, Long> pendingComments = new HashMap<>();
+        while (running) {
+            long pass = ++startedPasses;
+            boolean caughtUp;
+            try {
+                caughtUp = refresh(pending, pendingComments);
+                pending.clear();
+                pendingComments.clear();
+            } catch (RuntimeException e) {
+                // 읽은 변경은 pending 에 남겨 두고 다음 주기에 다시 시도한다
+                log.error("todo 검색 색인 갱신 실패", e);
+                caughtUp = false;
+                LockSupport.parkNanos(refreshIntervalNanos);
+            }
+            if (caughtUp) {
+                lastIdlePass = pass;
+                LockSupport.parkNanos(refreshIntervalNanos);
+            }
+        }
+    }
+
+    /**
+     * 한 번의 갱신 주기. 배치 크기만큼 읽었으면 더 남았을 수 있으므로 false 를 반환해 곧바로 다음 주기를 돈다.
+     *
+     * @param pending         문서 전체를 다시 색인할 todo id
+     * @param pendingComments 덧붙일 댓글 id → todo id
+     */
+    private boolean refresh(Set<Long> pending, Map<Long, Long> pendingComments) {
+        long now = System.nanoTime();
+        changedTodoIds.drainTo(pending);
+
+        List<Long> newTodoIds = new ArrayList<>(source.findTodoIdsAfter(todoWatermark.value(), batchSize));
+        boolean caughtUp = newTodoIds.size() < batchSize;
+        List<Long> todoGaps = todoWatermark.openGaps(now);
+        if (!todoGaps.isEmpty()) {
+            newTodoIds.addAll(source.findTodoIdsIn(todoGaps));
+        }
+        for (Long todoId : newTodoIds) {
+            todoWatermark.observe(todoId, now);
+            pending.add(todoId);
+        }
+
+        List<long[]> newComments = new ArrayList<>(source.findCommentsAfter(commentWatermark.value(), batchSize));
+        caughtUp &= newComments.size() < batchSize;
+        List<Long> commentGaps = commentWatermark.openGaps(now);
+        if (!commentGaps.isEmpty()) {
+            newComments.addAll(source.findCommentsIn(commentGaps));
+        }
+        for (long[] comment : newComments) {
+            commentWatermark.observe(comment[0], now);
+            // 아직 읽지 않은 todo 는 나중에 읽을 때 댓글까지 함께 색인된다
+            if (comment[1] > todoWatermark.value()) {
+                continue;
+            }
+            if (comment[0] <= reindexThroughCommentId) {
+                pending.add(comment[1]);
+            } else {
+                pendingComments.put(comment[0], comment[1]);
+            }
+        }
+
+        if (pending.isEmpty() && pendingComments.isEmpty()) {
+            return caughtUp;
+        }
+
+        long startedAt = System.nanoTime();
+        Map<Long, String> documents = source.findDocuments(pending, commentWatermark.value(), commentWatermark.openGaps(now));
+        Set<Long> removed = new HashSet<>(pending);
+        removed.removeAll(documents.keySet());
+        // 문서 전체를 다시 색인하는 todo 의 댓글은 그 문서에 들어간다
+        List<Long> appendedCommentIds = new ArrayList<>();
+        pendingComments.forEach((commentId, todoId) -> {
+            if (!pending.contains(todoId)) {
+                appendedCommentIds.add(commentId);
+            }
+        });
+        Map<Long, String> appended = source.findCommentTexts(appendedCommentIds);
+        index.update(documents, appended, removed, new IndexCheckpoint(todoWatermark.value(), commentWatermark.value()));
+        log.debug("todo 검색 색인 갱신: 색인 {}개, 덧붙임 {}개, 제거 {}개, {}ms",
+                documents.size(), appended.size(), removed.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        return caughtUp && changedTodoIds.isEmpty();
+    }
+}
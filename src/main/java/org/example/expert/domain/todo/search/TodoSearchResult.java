@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.search;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 점수 내림차순 상위 문서와 검색어에 일치한 전체 문서 수.
+ */
+@Getter
+public class TodoSearchResult {
+
+    public static final TodoSearchResult EMPTY = new TodoSearchResult(0, List.of());
+
+    private final long total;
+    private final List<SearchHit> hits;
+
+    public TodoSearchResult(long total, List<SearchHit> hits) {
+        this.total = total;
+        this.hits = hits;
+    }
+}
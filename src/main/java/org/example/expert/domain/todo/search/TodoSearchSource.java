@@ -0,0 +1,112 @@
+package org.example.expert.domain.todo.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색 색인이 읽는 원본 텍스트와 새로 커밋된 행. 엔티티를 만들지 않도록 JDBC 로 필요한 컬럼만 읽는다.
+ * 모두 PK 또는 comments.todo_id(FK) 인덱스 범위 조회이다.
+ */
+@Repository
+@RequiredArgsConstructor
+class TodoSearchSource {
+
+    private static final String TODOS_SQL = "SELECT t.id, t.title, c.contents FROM todos t "
+            + "JOIN todo_contents c ON c.id = t.content_id WHERE t.id IN (:ids)";
+    private static final String COMMENTS_BY_TODO_SQL = "SELECT id, todo_id, contents FROM comments "
+            + "WHERE todo_id IN (:ids) AND id <= :maxCommentId ORDER BY id";
+    private static final String COMMENT_TEXTS_SQL = "SELECT todo_id, contents FROM comments WHERE id IN (:ids) ORDER BY id";
+    private static final String TODO_IDS_AFTER_SQL = "SELECT id FROM todos WHERE id > :lastId ORDER BY id LIMIT :limit";
+    private static final String TODO_IDS_IN_SQL = "SELECT id FROM todos WHERE id IN (:ids)";
+    private static final String COMMENTS_AFTER_SQL = "SELECT id, todo_id FROM comments WHERE id > :lastId ORDER BY id LIMIT :limit";
+    private static final String COMMENTS_IN_SQL = "SELECT id, todo_id FROM comments WHERE id IN (:ids)";
+    private static final String MAX_COMMENT_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM comments";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * todo id → 제목, 본문, 댓글을 이어 붙인 문서. 없는(삭제된) todo 는 결과에 없다.
+     * 댓글은 id 가 maxCommentId 이하이고 excludedCommentIds 에 없는 것만 넣는다. 나머지는 나중에 따라 읽을 때 덧붙인다.
+     */
+    Map<Long, String> findDocuments(Collection<Long> todoIds, long maxCommentId, Collection<Long> excludedCommentIds) {
+        Map<Long, StringBuilder> documents = new LinkedHashMap<>();
+        if (todoIds.isEmpty()) {
+            return Map.of();
+        }
+        MapSqlParameterSource ids = new MapSqlParameterSource("ids", todoIds);
+        jdbcTemplate.query(TODOS_SQL, ids, rs -> {
+            documents.put(rs.getLong(1), new StringBuilder()
+                    .append(rs.getString(2)).append('\n')
+                    .append(rs.getString(3)));
+        });
+        Set<Long> excluded = new HashSet<>(excludedCommentIds);
+        jdbcTemplate.query(COMMENTS_BY_TODO_SQL, new MapSqlParameterSource("ids", todoIds).addValue("maxCommentId", maxCommentId), rs -> {
+            StringBuilder document = documents.get(rs.getLong(2));
+            if (document != null && !excluded.contains(rs.getLong(1))) {
+                document.append('\n').append(rs.getString(3));
+            }
+        });
+
+        Map<Long, String> result = new HashMap<>();
+        documents.forEach((todoId, document) -> result.put(todoId, document.toString()));
+        return result;
+    }
+
+    /**
+     * todo id → 주어진 댓글들의 텍스트를 id 순으로 이어 붙인 것. 없는(삭제된) 댓글은 빠진다.
+     */
+    Map<Long, String> findCommentTexts(Collection<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, StringBuilder> texts = new HashMap<>();
+        jdbcTemplate.query(COMMENT_TEXTS_SQL, new MapSqlParameterSource("ids", commentIds), rs -> {
+            StringBuilder text = texts.get(rs.getLong(1));
+            if (text == null) {
+                texts.put(rs.getLong(1), new StringBuilder(rs.getString(2)));
+            } else {
+                text.append('\n').append(rs.getString(2));
+            }
+        });
+
+        Map<Long, String> result = new HashMap<>();
+        texts.forEach((todoId, text) -> result.put(todoId, text.toString()));
+        return result;
+    }
+
+    List<Long> findTodoIdsAfter(long lastId, int limit) {
+        return jdbcTemplate.queryForList(TODO_IDS_AFTER_SQL,
+                new MapSqlParameterSource("lastId", lastId).addValue("limit", limit), Long.class);
+    }
+
+    List<Long> findTodoIdsIn(Collection<Long> ids) {
+        return jdbcTemplate.queryForList(TODO_IDS_IN_SQL, new MapSqlParameterSource("ids", ids), Long.class);
+    }
+
+    // [comment id, todo id]
+    List<long[]> findCommentsAfter(long lastId, int limit) {
+        return jdbcTemplate.query(COMMENTS_AFTER_SQL, new MapSqlParameterSource("lastId", lastId).addValue("limit", limit),
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+    }
+
+    // [comment id, todo id]
+    List<long[]> findCommentsIn(Collection<Long> ids) {
+        return jdbcTemplate.query(COMMENTS_IN_SQL, new MapSqlParameterSource("ids", ids),
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+    }
+
+    long findMaxCommentId() {
+        Long max = jdbcTemplate.queryForObject(MAX_COMMENT_ID_SQL, Map.of(), Long.class);
+        return max == null ? 0 : max;
+    }
+}
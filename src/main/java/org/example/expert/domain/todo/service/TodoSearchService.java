@@ -0,0 +1,79 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.search.SearchHit;
+import org.example.expert.domain.todo.search.TodoSearchIndex;
+import org.example.expert.domain.todo.search.TodoSearchResult;
+import org.example.expert.domain.user.directory.UserDirectory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TodoSearchService {
+
+    // 깊은 페이지는 상위 page * size 개를 모두 점수 계산해야 하므로 앞쪽 결과만 제공한다
+    static final int MAX_RESULT_WINDOW = 1_000;
+
+    private final TodoSearchIndex todoSearchIndex;
+    private final TodoRepository todoRepository;
+    private final UserDirectory userDirectory;
+
+    /**
+     * 검색 색인에서 점수 순 todo id 를 구한 뒤 해당 페이지의 todo 만 id 로 한 번에 읽는다.
+     * 색인은 커밋 후 비동기로 갱신되므로 방금 삭제된 todo 는 색인에 남아 있을 수 있고, 그 항목은 결과에서 빠진다.
+     */
+    @Transactional(readOnly = true)
+    public Page<TodoSearchResponse> searchTodos(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("검색어를 입력해야 합니다.");
+        }
+        PageRequest pageable = PageRequest.of(page - 1, size);
+        if ((long) page * size > MAX_RESULT_WINDOW) {
+            throw new InvalidRequestException("검색 결과는 앞쪽 " + MAX_RESULT_WINDOW + "건까지만 조회할 수 있습니다.");
+        }
+
+        TodoSearchResult result = todoSearchIndex.search(query, page * size);
+        List<SearchHit> hits = result.getHits();
+        if (hits.size() <= pageable.getOffset()) {
+            return new PageImpl<>(List.of(), pageable, result.getTotal());
+        }
+        hits = hits.subList((int) pageable.getOffset(), hits.size());
+
+        Map<Long, Todo> todos = todoRepository.findAllById(hits.stream().map(SearchHit::getTodoId).toList())
+                .stream()
+                .collect(Collectors.toMap(Todo::getId, Function.identity()));
+
+        List<TodoSearchResponse> content = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            Todo todo = todos.get(hit.getTodoId());
+            if (todo == null) {
+                continue;
+            }
+            content.add(new TodoSearchResponse(
+                    todo.getId(),
+                    todo.getTitle(),
+                    todo.getExcerpt(),
+                    todo.getWeather(),
+                    userDirectory.getUserResponse(todo.getUser().getId()),
+                    todo.getCreatedAt(),
+                    todo.getModifiedAt(),
+                    hit.getScore()
+            ));
+        }
+        return new PageImpl<>(content, pageable, result.getTotal());
+    }
+}
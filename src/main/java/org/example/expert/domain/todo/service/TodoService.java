@@ -1,21 +1,42 @@
 package org.example.expert.domain.todo.service;
 
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.entity.Timestamped_;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.projection.SparseFields;
+import org.example.expert.domain.todo.dto.request.TodoDueAtRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoDueAtResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoField;
+import org.example.expert.domain.todo.enums.TodoSort;
+import org.example.expert.domain.todo.event.TodoDueAtChangedEvent;
+import org.example.expert.domain.todo.event.TodoTagsChangedEvent;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSpecifications;
+import org.example.expert.domain.todo.tag.TagNames;
+import org.example.expert.domain.todo.weather.WeatherDictionary;
+import org.example.expert.domain.user.directory.UserDirectory;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -23,12 +44,20 @@ public class TodoService {
 
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final UserDirectory userDirectory;
+    private final WeatherDictionary weatherDictionary;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional
+    /**
+     * 날씨 API 호출과 처음 보는 날씨 등록(별도 트랜잭션)은 트랜잭션 밖에서 끝내고, 저장만 save 의 트랜잭션으로 처리한다.
+     * 트랜잭션 안에서 등록하면 커넥션을 쥔 채 커넥션을 하나 더 요청하므로, 동시 저장이 풀 크기만큼 몰리면 풀이 고갈되어 멈춘다.
+     */
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
+        Set<String> tags = TagNames.normalizeAll(todoSaveRequest.getTags());
 
         String weather = weatherClient.getTodayWeather();
+        weatherDictionary.encode(weather);
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -36,49 +65,121 @@ public class TodoService {
                 weather,
                 user
         );
+        newTodo.replaceTags(tags);
+        newTodo.changeDueAt(todoSaveRequest.getDueAt());
         Todo savedTodo = todoRepository.save(newTodo);
+        // 태그가 없어도 발행한다 (NOT 조건의 전체 집합에 들어가야 한다)
+        eventPublisher.publishEvent(new TodoTagsChangedEvent(savedTodo.getId()));
+        if (savedTodo.getDueAt() != null) {
+            eventPublisher.publishEvent(new TodoDueAtChangedEvent(savedTodo.getId()));
+        }
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
                 savedTodo.getTitle(),
-                savedTodo.getContents(),
+                savedTodo.getContent().getContents(),
                 weather,
-                new UserResponse(user.getId(), user.getEmail())
+                new UserResponse(user.getId(), user.getEmail()),
+                List.copyOf(tags),
+                savedTodo.getDueAt()
         );
     }
 
     @Transactional(readOnly = true)
-    public Page<TodoResponse> getTodos(int page, int size) {
-        Pageable pageable = PageRequest.of(page - 1, size);
+    public Page<TodoSummaryResponse> getTodos(int page, int size, TodoSearchCondition condition) {
+        requireIndexed(condition);
+        Pageable pageable = PageRequest.of(page - 1, size, condition.getSort().toSort());
+        if (isUnknownWeather(condition)) {
+            return Page.empty(pageable);
+        }
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+        // 본문(todo_contents)은 읽지 않고 todos 에 저장된 요약만 내려준다
+        Page<Todo> todos = todoRepository.findAll(TodoSpecifications.of(condition), pageable);
 
-        return todos.map(todo -> new TodoResponse(
+        return todos.map(todo -> new TodoSummaryResponse(
                 todo.getId(),
                 todo.getTitle(),
-                todo.getContents(),
+                todo.getExcerpt(),
                 todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                userDirectory.getUserResponse(todo.getUser().getId()),
                 todo.getCreatedAt(),
                 todo.getModifiedAt()
         ));
     }
 
+    /**
+     * fields 로 요청한 필드만 SELECT 하고 응답에도 그 필드만 담는다.
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getTodos(int page, int size, String fields, TodoSearchCondition condition) {
+        SparseFields<TodoField> selected = SparseFields.parse(fields, TodoField.class, TodoField.ID);
+        requireIndexed(condition);
+        Pageable pageable = PageRequest.of(page - 1, size, condition.getSort().toSort());
+        if (isUnknownWeather(condition)) {
+            return Page.empty(pageable);
+        }
+
+        Page<Tuple> rows = todoRepository.findPageWithFields(selected, TodoSpecifications.of(condition), pageable);
+
+        return rows.map(row -> selected.toMap(row, (field, value) ->
+                field == TodoField.USER ? userDirectory.getUserResponse((Long) value) : value));
+    }
+
     @Transactional(readOnly = true)
     public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
+        Todo todo = todoRepository.findWithContentById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        User user = todo.getUser();
-
         return new TodoResponse(
                 todo.getId(),
                 todo.getTitle(),
-                todo.getContents(),
+                todo.getContent().getContents(),
                 todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
+                userDirectory.getUserResponse(todo.getUser().getId()),
                 todo.getCreatedAt(),
-                todo.getModifiedAt()
+                todo.getModifiedAt(),
+                todo.getDueAt()
         );
     }
+
+    /**
+     * 마감 시각을 바꾼다. 리마인더 예약은 커밋 후 {@link TodoDueAtChangedEvent} 로 옮겨진다.
+     */
+    @Transactional
+    public TodoDueAtResponse changeDueAt(AuthUser authUser, long todoId, TodoDueAtRequest request) {
+        Todo todo = todoRepository.findById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        if (!ObjectUtils.nullSafeEquals(authUser.getId(), todo.getUser().getId())) {
+            throw new InvalidRequestException("일정을 생성한 유저만 마감 시각을 수정할 수 있습니다.");
+        }
+
+        todo.changeDueAt(request.getDueAt());
+        eventPublisher.publishEvent(new TodoDueAtChangedEvent(todoId));
+
+        return new TodoDueAtResponse(todoId, todo.getDueAt());
+    }
+
+    /**
+     * 인덱스 하나로 처리할 수 없는 조합은 쿼리를 실행하기 전에 거부한다.
+     * 지원하는 조합은 (weather 또는 authorId)? + 정렬 컬럼 범위이며,
+     * 각각 idx_todos_{weather|user}_{created|modified}_at 또는 idx_todos_{created|modified}_at 를 탄다.
+     */
+    private static void requireIndexed(TodoSearchCondition condition) {
+        if (condition.getWeather() != null && condition.getAuthorId() != null) {
+            throw new InvalidRequestException("weather 와 authorId 는 함께 지정할 수 없습니다.");
+        }
+        TodoSort sort = condition.getSort();
+        if (condition.hasCreatedRange() && !sort.isOn(Timestamped_.CREATED_AT)) {
+            throw new InvalidRequestException("createdFrom/createdTo 는 sort=createdAt 또는 sort=-createdAt 과 함께 사용해야 합니다.");
+        }
+        if (condition.hasModifiedRange() && !sort.isOn(Timestamped_.MODIFIED_AT)) {
+            throw new InvalidRequestException("modifiedFrom/modifiedTo 는 sort=modifiedAt 또는 sort=-modifiedAt 과 함께 사용해야 합니다.");
+        }
+    }
+
+    // 사전에 없는 날씨는 저장된 todo 가 없으므로 쿼리 없이 빈 페이지를 반환한다 (필터가 사전에 새 날씨를 등록하지 않게 한다)
+    private boolean isUnknownWeather(TodoSearchCondition condition) {
+        return condition.getWeather() != null && !weatherDictionary.contains(condition.getWeather());
+    }
 }
@@ -0,0 +1,93 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoTagsRequest;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.dto.response.TodoTagsResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoTagsChangedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.tag.TagNames;
+import org.example.expert.domain.todo.tag.TagQuery;
+import org.example.expert.domain.todo.tag.TagQueryResult;
+import org.example.expert.domain.todo.tag.TodoTagIndex;
+import org.example.expert.domain.user.directory.UserDirectory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TodoTagService {
+
+    private final TodoRepository todoRepository;
+    private final TodoTagIndex todoTagIndex;
+    private final UserDirectory userDirectory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public TodoTagsResponse replaceTags(AuthUser authUser, long todoId, TodoTagsRequest request) {
+        Set<String> tags = TagNames.normalizeAll(request.getTags());
+        Todo todo = todoRepository.findById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        if (!ObjectUtils.nullSafeEquals(authUser.getId(), todo.getUser().getId())) {
+            throw new InvalidRequestException("일정을 생성한 유저만 태그를 수정할 수 있습니다.");
+        }
+
+        todo.replaceTags(tags);
+        eventPublisher.publishEvent(new TodoTagsChangedEvent(todoId));
+
+        return new TodoTagsResponse(todoId, List.copyOf(tags));
+    }
+
+    /**
+     * 태그 조건식에 맞는 todo 를 최신순(id 내림차순)으로 조회한다.
+     * 조건 계산과 페이지 자르기는 {@link TodoTagIndex} 의 비트맵에서 끝내고, DB 에서는 해당 페이지의 todo 만 id 로 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public Page<TodoSummaryResponse> getTodosByTags(String query, int page, int size) {
+        TagQuery tagQuery = TagQuery.parse(query);
+        PageRequest pageable = PageRequest.of(page - 1, size);
+
+        TagQueryResult result = todoTagIndex.query(tagQuery, pageable.getOffset(), size);
+        if (result.getTodoIds().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, result.getTotal());
+        }
+
+        Map<Long, Todo> todos = todoRepository.findAllById(result.getTodoIds())
+                .stream()
+                .collect(Collectors.toMap(Todo::getId, Function.identity()));
+
+        List<TodoSummaryResponse> content = new ArrayList<>(result.getTodoIds().size());
+        for (Long todoId : result.getTodoIds()) {
+            Todo todo = todos.get(todoId);
+            if (todo == null) {
+                continue;
+            }
+            content.add(new TodoSummaryResponse(
+                    todo.getId(),
+                    todo.getTitle(),
+                    todo.getExcerpt(),
+                    todo.getWeather(),
+                    userDirectory.getUserResponse(todo.getUser().getId()),
+                    todo.getCreatedAt(),
+                    todo.getModifiedAt()
+            ));
+        }
+        return new PageImpl<>(content, pageable, result.getTotal());
+    }
+}
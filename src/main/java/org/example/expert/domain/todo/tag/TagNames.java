@@ -0,0 +1,53 @@
+package org.example.expert.domain.todo.tag;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 태그 이름 규칙. 문자/숫자/'-'/'_' 로 된 {@value #MAX_LENGTH}자 이하 문자열을 소문자로 저장한다.
+ * 조건식 연산자와 겹치는 and / or / not 은 태그로 쓸 수 없다.
+ */
+public final class TagNames {
+
+    public static final int MAX_LENGTH = 30;
+    public static final int MAX_TAGS_PER_TODO = 10;
+
+    private static final Pattern NAME = Pattern.compile("[\\p{L}\\p{N}_-]{1," + MAX_LENGTH + "}");
+    private static final Set<String> RESERVED = Set.of("and", "or", "not");
+
+    private TagNames() {
+    }
+
+    public static String normalize(String tag) {
+        String name = tag == null ? "" : tag.trim().toLowerCase(Locale.ROOT);
+        if (!NAME.matcher(name).matches()) {
+            throw new InvalidRequestException("태그는 문자, 숫자, '-', '_' 로 된 " + MAX_LENGTH + "자 이하여야 합니다: " + tag);
+        }
+        if (RESERVED.contains(name)) {
+            throw new InvalidRequestException("'" + name + "' 은 태그로 쓸 수 없습니다.");
+        }
+        return name;
+    }
+
+    /**
+     * 정규화하고 중복을 제거한다. (입력 순서 유지)
+     */
+    public static Set<String> normalizeAll(Collection<String> tags) {
+        Set<String> names = new LinkedHashSet<>();
+        if (tags == null) {
+            return names;
+        }
+        for (String tag : tags) {
+            names.add(normalize(tag));
+        }
+        if (names.size() > MAX_TAGS_PER_TODO) {
+            throw new InvalidRequestException("태그는 일정마다 " + MAX_TAGS_PER_TODO + "개까지 달 수 있습니다.");
+        }
+        return names;
+    }
+}
@@ -0,0 +1,180 @@
+package org.example.expert.domain.todo.tag;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * "urgent AND backend AND NOT blocked" 형식의 태그 조건식.
+ *
+ * <pre>
+ * expression := term ( OR term )*
+ * term       := factor ( AND factor )*
+ * factor     := NOT factor | '(' expression ')' | tag
+ * </pre>
+ *
+ * 연산자는 대소문자를 구분하지 않으며 우선순위는 NOT &gt; AND &gt; OR 이다. 태그 이름은 {@link TagNames} 규칙으로 정규화한다.
+ *
+ * <p>파서와 비트맵 계산이 모두 재귀이고 단독 NOT 은 전체 비트맵을 복사하므로,
+ * 태그 수와 함께 NOT / 괄호 중첩 깊이와 연산자 수에도 상한을 둔다. NOT NOT x 는 x 로 줄인다.
+ */
+public final class TagQuery {
+
+    static final int MAX_TAGS = 20;
+    static final int MAX_DEPTH = 8;
+    static final int MAX_OPERATORS = MAX_TAGS * 2;
+
+    private final Node root;
+
+    private TagQuery(Node root) {
+        this.root = root;
+    }
+
+    public static TagQuery parse(String query) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("태그 조건식을 입력해야 합니다.");
+        }
+        Parser parser = new Parser(tokenize(query));
+        Node root = parser.expression();
+        if (parser.hasNext()) {
+            throw new InvalidRequestException("태그 조건식을 해석할 수 없습니다: '" + parser.peek() + "' 위치");
+        }
+        return new TagQuery(root);
+    }
+
+    Node root() {
+        return root;
+    }
+
+    private static List<String> tokenize(String query) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c == '(' || c == ')' || Character.isWhitespace(c)) {
+                if (!word.isEmpty()) {
+                    tokens.add(word.toString());
+                    word.setLength(0);
+                }
+                if (!Character.isWhitespace(c)) {
+                    tokens.add(String.valueOf(c));
+                }
+            } else {
+                word.append(c);
+            }
+        }
+        if (!word.isEmpty()) {
+            tokens.add(word.toString());
+        }
+        return tokens;
+    }
+
+    sealed interface Node permits Tag, And, Or, Not {
+    }
+
+    record Tag(String name) implements Node {
+    }
+
+    record And(Node left, Node right) implements Node {
+    }
+
+    record Or(Node left, Node right) implements Node {
+    }
+
+    record Not(Node operand) implements Node {
+    }
+
+    private static final class Parser {
+
+        private final List<String> tokens;
+        private int position;
+        private int tagCount;
+        private int operatorCount;
+        private int depth;
+
+        Parser(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        Node expression() {
+            Node node = term();
+            while (accept("OR")) {
+                countOperator();
+                node = new Or(node, term());
+            }
+            return node;
+        }
+
+        Node term() {
+            Node node = factor();
+            while (accept("AND")) {
+                countOperator();
+                node = new And(node, factor());
+            }
+            return node;
+        }
+
+        Node factor() {
+            if (accept("NOT")) {
+                countOperator();
+                enter();
+                Node operand = factor();
+                depth--;
+                return operand instanceof Not not ? not.operand() : new Not(operand);
+            }
+            if (accept("(")) {
+                enter();
+                Node node = expression();
+                if (!accept(")")) {
+                    throw new InvalidRequestException("태그 조건식의 괄호가 닫히지 않았습니다.");
+                }
+                depth--;
+                return node;
+            }
+            if (!hasNext() || isOperator(peek())) {
+                throw new InvalidRequestException("태그 조건식에 태그가 와야 할 자리에 " + (hasNext() ? "'" + peek() + "'" : "끝") + " 이 있습니다.");
+            }
+            if (++tagCount > MAX_TAGS) {
+                throw new InvalidRequestException("태그 조건식에는 태그를 " + MAX_TAGS + "개까지 쓸 수 있습니다.");
+            }
+            return new Tag(TagNames.normalize(tokens.get(position++)));
+        }
+
+        private void enter() {
+            if (++depth > MAX_DEPTH) {
+                throw new InvalidRequestException("태그 조건식의 NOT 과 괄호는 " + MAX_DEPTH + "단계까지 중첩할 수 있습니다.");
+            }
+        }
+
+        private void countOperator() {
+            if (++operatorCount > MAX_OPERATORS) {
+                throw new InvalidRequestException("태그 조건식에는 연산자(AND, OR, NOT)를 " + MAX_OPERATORS + "개까지 쓸 수 있습니다.");
+            }
+        }
+
+        boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        String peek() {
+            return tokens.get(position);
+        }
+
+        private boolean accept(String token) {
+            if (hasNext() && peek().equalsIgnoreCase(token)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private static boolean isOperator(String token) {
+            return switch (token.toUpperCase(Locale.ROOT)) {
+                case "AND", "OR", "NOT", "(", ")" -> true;
+                default -> false;
+            };
+        }
+    }
+}
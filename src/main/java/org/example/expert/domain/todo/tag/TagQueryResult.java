@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.tag;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 조건식에 맞는 todo 수와 요청한 페이지의 todo id (id 내림차순).
+ */
+@Getter
+public class TagQueryResult {
+
+    private final long total;
+    private final List<Long> todoIds;
+
+    public TagQueryResult(long total, List<Long> todoIds) {
+        this.total = total;
+        this.todoIds = todoIds;
+    }
+}
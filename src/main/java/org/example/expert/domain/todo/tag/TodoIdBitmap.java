@@ -0,0 +1,502 @@
+package org.example.expert.domain.todo.tag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * todo id 집합을 담는 Roaring 방식의 압축 비트맵.
+ *
+ * <p>id 의 상위 비트({@code id >>> 16})마다 컨테이너를 하나 두고 하위 16비트를 컨테이너에 담는다.
+ * 원소가 {@value #ARRAY_MAX} 개 이하인 컨테이너는 정렬된 char 배열(원소당 2바이트),
+ * 그보다 많으면 65536비트 비트맵(8KB)으로 바꾸므로 드문 태그와 흔한 태그 모두 작게 유지된다.
+ * 집합 연산은 같은 키의 컨테이너끼리만 계산하고, 비트맵끼리는 long 단위 비트 연산으로 처리한다.
+ * (Roaring 의 run 컨테이너는 구현하지 않았다)
+ *
+ * <p>스레드 안전하지 않다. 여러 스레드에서 쓸 때는 {@link TodoTagIndex} 처럼 락으로 보호한다.
+ */
+public final class TodoIdBitmap {
+
+    static final int ARRAY_MAX = 4096;
+
+    private long[] keys = new long[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    public void add(long todoId) {
+        long key = todoId >>> 16;
+        int index = indexOf(key);
+        if (index >= 0) {
+            containers[index] = containers[index].add((char) todoId);
+            return;
+        }
+        insert(-index - 1, key, new ArrayContainer().add((char) todoId));
+    }
+
+    public void remove(long todoId) {
+        int index = indexOf(todoId >>> 16);
+        if (index < 0) {
+            return;
+        }
+        Container container = containers[index].remove((char) todoId);
+        if (container.cardinality() == 0) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+            containers[--size] = null;
+        } else {
+            containers[index] = container;
+        }
+    }
+
+    public boolean contains(long todoId) {
+        int index = indexOf(todoId >>> 16);
+        return index >= 0 && containers[index].contains((char) todoId);
+    }
+
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public TodoIdBitmap and(TodoIdBitmap other) {
+        TodoIdBitmap result = new TodoIdBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.append(keys[i], containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public TodoIdBitmap or(TodoIdBitmap other) {
+        TodoIdBitmap result = new TodoIdBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.append(keys[i], containers[i].copy());
+                i++;
+            } else if (i == size || keys[i] > other.keys[j]) {
+                result.append(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.append(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public TodoIdBitmap andNot(TodoIdBitmap other) {
+        TodoIdBitmap result = new TodoIdBitmap();
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.size && other.keys[j] == keys[i]) {
+                result.append(keys[i], containers[i].andNot(other.containers[j]));
+            } else {
+                result.append(keys[i], containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 큰 id(최근 todo)부터 offset 개를 건너뛰고 최대 limit 개를 반환한다. 건너뛸 때는 컨테이너 단위로 개수만 센다.
+     */
+    public List<Long> descending(long offset, int limit) {
+        List<Long> ids = new ArrayList<>((int) Math.max(0, Math.min(limit, cardinality() - offset)));
+        long skip = offset;
+        for (int i = size - 1; i >= 0 && ids.size() < limit; i--) {
+            int cardinality = containers[i].cardinality();
+            if (skip >= cardinality) {
+                skip -= cardinality;
+                continue;
+            }
+            containers[i].collectDescending(keys[i] << 16, (int) skip, limit, ids);
+            skip = 0;
+        }
+        return ids;
+    }
+
+    public long sizeInBytes() {
+        long bytes = (long) keys.length * Long.BYTES;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private int indexOf(long key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insert(int index, long key, Container container) {
+        ensureCapacity();
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    // 키 오름차순으로 만들 때만 쓴다. 빈 컨테이너는 넣지 않는다
+    private void append(long key, Container container) {
+        if (container.cardinality() == 0) {
+            return;
+        }
+        ensureCapacity();
+        keys[size] = key;
+        containers[size] = container;
+        size++;
+    }
+
+    private void ensureCapacity() {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+    }
+
+    private abstract static sealed class Container permits ArrayContainer, BitmapContainer {
+
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int cardinality();
+
+        abstract Container and(Container other);
+
+        abstract Container or(Container other);
+
+        abstract Container andNot(Container other);
+
+        abstract Container copy();
+
+        abstract void collectDescending(long base, int skip, int limit, List<Long> out);
+
+        abstract long sizeInBytes();
+
+        // 원소 수에 맞는 표현으로 바꾼다
+        static Container of(long[] words, int cardinality) {
+            if (cardinality > ARRAY_MAX) {
+                return new BitmapContainer(words, cardinality);
+            }
+            char[] values = new char[cardinality];
+            int size = 0;
+            for (int w = 0; w < words.length; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    values[size++] = (char) (w * 64 + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, size);
+        }
+    }
+
+    private static final class ArrayContainer extends Container {
+
+        private char[] values;
+        private int size;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (size == ARRAY_MAX) {
+                return toBitmap().add(value);
+            }
+            int insertion = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, size * 2));
+            }
+            System.arraycopy(values, insertion, values, insertion + 1, size - insertion);
+            values[insertion] = value;
+            size++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, size - index - 1);
+                size--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return size;
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[size];
+            int count = 0;
+            if (other instanceof ArrayContainer array) {
+                int j = 0;
+                for (int i = 0; i < size && j < array.size; ) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        result[count++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < size; i++) {
+                    if (other.contains(values[i])) {
+                        result[count++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer bitmap) {
+                return bitmap.or(this);
+            }
+            ArrayContainer array = (ArrayContainer) other;
+            if (size + array.size > ARRAY_MAX) {
+                return toBitmap().or(array);
+            }
+            char[] result = new char[size + array.size];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size || j < array.size) {
+                if (j == array.size || (i < size && values[i] < array.values[j])) {
+                    result[count++] = values[i++];
+                } else if (i == size || values[i] > array.values[j]) {
+                    result[count++] = array.values[j++];
+                } else {
+                    result[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            char[] result = new char[size];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (!other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, size), size);
+        }
+
+        @Override
+        void collectDescending(long base, int skip, int limit, List<Long> out) {
+            for (int i = size - 1 - skip; i >= 0 && out.size() < limit; i--) {
+                out.add(base | values[i]);
+            }
+        }
+
+        @Override
+        long sizeInBytes() {
+            return (long) values.length * Character.BYTES;
+        }
+
+        private BitmapContainer toBitmap() {
+            long[] words = new long[BitmapContainer.WORDS];
+            for (int i = 0; i < size; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            return new BitmapContainer(words, size);
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+
+        static final int WORDS = 65536 / 64;
+
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            long bit = 1L << value;
+            if ((words[value >>> 6] & bit) == 0) {
+                words[value >>> 6] |= bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long bit = 1L << value;
+            if ((words[value >>> 6] & bit) == 0) {
+                return this;
+            }
+            words[value >>> 6] &= ~bit;
+            cardinality--;
+            return cardinality > ARRAY_MAX ? this : Container.of(words, cardinality);
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer array) {
+                return array.and(this);
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            long[] result = new long[WORDS];
+            int count = 0;
+            for (int w = 0; w < WORDS; w++) {
+                result[w] = words[w] & otherWords[w];
+                count += Long.bitCount(result[w]);
+            }
+            return Container.of(result, count);
+        }
+
+        @Override
+        Container or(Container other) {
+            long[] result = words.clone();
+            int count = cardinality;
+            if (other instanceof ArrayContainer array) {
+                for (int i = 0; i < array.size; i++) {
+                    char value = array.values[i];
+                    long bit = 1L << value;
+                    if ((result[value >>> 6] & bit) == 0) {
+                        result[value >>> 6] |= bit;
+                        count++;
+                    }
+                }
+                return new BitmapContainer(result, count);
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            count = 0;
+            for (int w = 0; w < WORDS; w++) {
+                result[w] |= otherWords[w];
+                count += Long.bitCount(result[w]);
+            }
+            return new BitmapContainer(result, count);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            long[] result = words.clone();
+            int count = cardinality;
+            if (other instanceof ArrayContainer array) {
+                for (int i = 0; i < array.size; i++) {
+                    char value = array.values[i];
+                    long bit = 1L << value;
+                    if ((result[value >>> 6] & bit) != 0) {
+                        result[value >>> 6] &= ~bit;
+                        count--;
+                    }
+                }
+            } else {
+                long[] otherWords = ((BitmapContainer) other).words;
+                count = 0;
+                for (int w = 0; w < WORDS; w++) {
+                    result[w] &= ~otherWords[w];
+                    count += Long.bitCount(result[w]);
+                }
+            }
+            return Container.of(result, count);
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        void collectDescending(long base, int skip, int limit, List<Long> out) {
+            int remainingSkip = skip;
+            for (int w = WORDS - 1; w >= 0 && out.size() < limit; w--) {
+                long word = words[w];
+                int bits = Long.bitCount(word);
+                if (remainingSkip >= bits) {
+                    remainingSkip -= bits;
+                    continue;
+                }
+                while (word != 0 && out.size() < limit) {
+                    int bit = 63 - Long.numberOfLeadingZeros(word);
+                    word &= ~(1L << bit);
+                    if (remainingSkip > 0) {
+                        remainingSkip--;
+                    } else {
+                        out.add(base | (w * 64L + bit));
+                    }
+                }
+            }
+        }
+
+        @Override
+        long sizeInBytes() {
+            return (long) WORDS * Long.BYTES;
+        }
+    }
+}
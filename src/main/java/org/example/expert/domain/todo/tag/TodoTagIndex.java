@@ -0,0 +1,197 @@
+package org.example.expert.domain.todo.tag;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.event.TodoTagsChangedEvent;
+import org.example.expert.domain.todo.repository.TodoTagJdbcRepository;
+import org.example.expert.domain.todo.tag.TagQuery.And;
+import org.example.expert.domain.todo.tag.TagQuery.Node;
+import org.example.expert.domain.todo.tag.TagQuery.Not;
+import org.example.expert.domain.todo.tag.TagQuery.Or;
+import org.example.expert.domain.todo.tag.TagQuery.Tag;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그 → todo id 비트맵. 태그 조건식을 todo_tags 조인 없이 비트맵 연산으로 계산한다.
+ *
+ * <p>기동 시 todos / todo_tags 를 id 구간 단위로 읽어 전체를 만들고, 이후의 저장과 태그 변경은
+ * 커밋 후 {@link TodoTagsChangedEvent} 를 받아 커밋된 todo_tags 를 다시 읽어 반영한다.
+ * 같은 todo 의 이벤트는 락을 나눠 잡고 차례로 읽고 반영하므로, 리스너가 커밋 순서와 다르게 실행되어도 마지막에 읽은 태그가 남는다.
+ * 락은 읽기 트랜잭션으로 커넥션을 잡은 뒤에 잡는다. 락을 쥔 채 커넥션을 기다리면, 커넥션을 쥔 채 락을 기다리는 스레드와 엇갈려
+ * 풀이 고갈되기 때문이다. 요청 중(open-in-view)이면 이 트랜잭션은 요청이 쥔 커넥션을 그대로 쓴다.
+ * 적재 도중 읽은 태그는 모아 두었다가 새 비트맵에 다시 적용한다.
+ * NOT 은 전체 todo 비트맵에서 빼는 방식이므로 태그가 없는 todo 도 전체 비트맵에는 들어간다.
+ * 다른 인스턴스에서 일어난 변경은 다음 적재 전까지 반영되지 않는다.
+ *
+ * <p>비트맵 자체는 스레드 안전하지 않으므로 읽기/쓰기 락으로 보호한다.
+ * 조회는 DB 를 호출하지 않지만 적재는 호출하므로 virtual thread 를 고정하지 않도록 synchronized 대신 락을 쓴다.
+ */
+@Slf4j
+@Component
+public class TodoTagIndex {
+
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+    private static final int REFRESH_STRIPES = 64; // 2의 거듭제곱
+
+    private final TodoTagJdbcRepository todoTagJdbcRepository;
+    private final TransactionTemplate readTransaction;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final ReentrantLock[] refreshLocks = new ReentrantLock[REFRESH_STRIPES];
+
+    private Map<String, TodoIdBitmap> tags = new HashMap<>();
+    private TodoIdBitmap all = new TodoIdBitmap();
+    private Map<Long, List<String>> changesDuringLoad; // 적재 중에만 null 이 아니다
+
+    public TodoTagIndex(TodoTagJdbcRepository todoTagJdbcRepository, PlatformTransactionManager transactionManager) {
+        this.todoTagJdbcRepository = todoTagJdbcRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        for (int i = 0; i < REFRESH_STRIPES; i++) {
+            refreshLocks[i] = new ReentrantLock();
+        }
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void load() {
+        loadLock.lock();
+        try {
+            long startedAt = System.nanoTime();
+            lock.writeLock().lock();
+            try {
+                changesDuringLoad = new HashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Map<String, TodoIdBitmap> loadedTags = new HashMap<>();
+            TodoIdBitmap loadedAll = new TodoIdBitmap();
+            long lastId = 0L;
+            while (true) {
+                List<Long> todoIds = todoTagJdbcRepository.findTodoIdsAfter(lastId, LOAD_CHUNK_SIZE);
+                if (todoIds.isEmpty()) {
+                    break;
+                }
+                todoIds.forEach(loadedAll::add);
+                long chunkEnd = todoIds.get(todoIds.size() - 1);
+                todoTagJdbcRepository.forEachTagBetween(lastId, chunkEnd, (tag, todoId) ->
+                        loadedTags.computeIfAbsent(tag, ignored -> new TodoIdBitmap()).add(todoId));
+                lastId = chunkEnd;
+                if (todoIds.size() < LOAD_CHUNK_SIZE) {
+                    break;
+                }
+            }
+
+            lock.writeLock().lock();
+            try {
+                changesDuringLoad.forEach((todoId, todoTags) -> apply(loadedTags, loadedAll, todoId, todoTags));
+                tags = loadedTags;
+                all = loadedAll;
+                changesDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("todo 태그 비트맵 적재 완료: todo {}개, 태그 {}개, {}bytes, {}ms",
+                    loadedAll.cardinality(), loadedTags.size(), sizeInBytes(), (System.nanoTime() - startedAt) / 1_000_000);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    // 읽기는 쓰기 락 밖에서 하므로 조회가 DB 왕복을 기다리지 않는다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoTagsChanged(TodoTagsChangedEvent event) {
+        ReentrantLock refreshLock = refreshLocks[(int) (event.getTodoId() & (REFRESH_STRIPES - 1))];
+        readTransaction.executeWithoutResult(status -> {
+            refreshLock.lock();
+            try {
+                put(event.getTodoId(), todoTagJdbcRepository.findTagsByTodoId(event.getTodoId()));
+            } finally {
+                refreshLock.unlock();
+            }
+        });
+    }
+
+    /**
+     * todo 의 태그를 주어진 목록으로 맞춘다. 목록에 없는 태그의 비트맵에서는 todo 를 뺀다.
+     */
+    public void put(long todoId, List<String> todoTags) {
+        lock.writeLock().lock();
+        try {
+            apply(tags, all, todoId, todoTags);
+            if (changesDuringLoad != null) {
+                changesDuringLoad.put(todoId, todoTags);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조건식에 맞는 todo 를 id 내림차순으로 offset 부터 최대 limit 개 반환한다.
+     */
+    public TagQueryResult query(TagQuery query, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            TodoIdBitmap matched = evaluate(query.root());
+            return new TagQueryResult(matched.cardinality(), matched.descending(offset, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = all.sizeInBytes();
+            for (TodoIdBitmap bitmap : tags.values()) {
+                bytes += bitmap.sizeInBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 반환값은 내부 비트맵일 수 있으므로 읽기만 한다 (연산 결과는 항상 새 비트맵)
+    private TodoIdBitmap evaluate(Node node) {
+        return switch (node) {
+            case Tag tag -> tags.getOrDefault(tag.name(), new TodoIdBitmap());
+            // A AND NOT B 는 전체 집합을 거치지 않고 차집합으로 계산한다
+            case And(Node left, Not(Node right)) -> evaluate(left).andNot(evaluate(right));
+            case And(Not(Node left), Node right) -> evaluate(right).andNot(evaluate(left));
+            case And and -> evaluate(and.left()).and(evaluate(and.right()));
+            case Or or -> evaluate(or.left()).or(evaluate(or.right()));
+            case Not not -> all.andNot(evaluate(not.operand()));
+        };
+    }
+
+    // 이전 태그를 이벤트로 전달받지 않으므로 모든 태그 비트맵에서 확인한다 (태그 종류는 많아야 수백 개)
+    private static void apply(Map<String, TodoIdBitmap> tags, TodoIdBitmap all, long todoId, List<String> todoTags) {
+        all.add(todoId);
+        Iterator<Map.Entry<String, TodoIdBitmap>> entries = tags.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, TodoIdBitmap> entry = entries.next();
+            if (!todoTags.contains(entry.getKey())) {
+                entry.getValue().remove(todoId);
+                if (entry.getValue().isEmpty()) {
+                    entries.remove();
+                }
+            }
+        }
+        for (String tag : todoTags) {
+            tags.computeIfAbsent(tag, ignored -> new TodoIdBitmap()).add(todoId);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.expert.domain.todo.weather;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 날씨 이름 ↔ id 의 불변 스냅샷. 갱신은 새 인스턴스를 만들어 교체한다.
+ *
+ * <p>id 는 SMALLINT 이고 사전 크기는 수십 개 수준이므로 디코딩은 id 를 인덱스로 쓰는 배열 조회로 끝낸다.
+ */
+final class WeatherCodes {
+
+    static final WeatherCodes EMPTY = new WeatherCodes(Map.of());
+
+    private final Map<String, Short> ids;
+    private final String[] names;
+
+    WeatherCodes(Map<String, Short> ids) {
+        this.ids = Map.copyOf(ids);
+        int maxId = ids.values().stream().mapToInt(Short::intValue).max().orElse(0);
+        this.names = new String[maxId + 1];
+        ids.forEach((name, id) -> names[id] = name);
+    }
+
+    // 읽어 온 날씨를 더한 새 스냅샷. 이미 아는 날씨뿐이면 그대로 반환한다
+    WeatherCodes merge(Map<String, Short> read) {
+        if (ids.entrySet().containsAll(read.entrySet())) {
+            return this;
+        }
+        Map<String, Short> merged = new HashMap<>(ids);
+        merged.putAll(read);
+        return new WeatherCodes(merged);
+    }
+
+    Short idOf(String name) {
+        return ids.get(name);
+    }
+
+    String nameOf(short id) {
+        return id >= 0 && id < names.length ? names[id] : null;
+    }
+
+    int size() {
+        return ids.size();
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.expert.domain.todo.weather;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * {@code Todo.weather} 문자열을 weathers.id 로 저장한다.
+ *
+ * <p>Hibernate 가 EntityManagerFactory 를 만드는 도중 Spring 빈 컨테이너로 생성하는데,
+ * {@link WeatherDictionary} 는 트랜잭션 매니저(= EntityManagerFactory)에 의존하므로 첫 변환 시점에 꺼내 쓴다.
+ */
+@Converter
+@RequiredArgsConstructor
+public class WeatherConverter implements AttributeConverter<String, Short> {
+
+    private final ObjectProvider<WeatherDictionary> weatherDictionary;
+
+    @Override
+    public Short convertToDatabaseColumn(String weather) {
+        return weather == null ? null : weatherDictionary.getObject().encode(weather);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short weatherId) {
+        return weatherId == null ? null : weatherDictionary.getObject().decode(weatherId);
+    }
+}
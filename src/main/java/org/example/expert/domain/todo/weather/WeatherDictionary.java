@@ -0,0 +1,109 @@
+package org.example.expert.domain.todo.weather;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.WeatherJdbcRepository;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 날씨 문자열 ↔ weathers.id 를 메모리에서 변환한다.
+ * 서로 다른 날씨는 수십 개뿐이므로 todos 에는 SMALLINT id 만 저장하고 문자열은 이 사전에서 복원한다.
+ *
+ * <p>읽기는 불변 스냅샷({@link WeatherCodes})을 락 없이 조회한다.
+ * 처음 보는 날씨는 별도 트랜잭션(REQUIRES_NEW)으로 weathers 에 등록한 뒤 스냅샷을 새로 만들어 교체한다.
+ * 호출한 트랜잭션이 롤백되어도 등록한 id 는 남아 있어야 메모리와 DB 가 어긋나지 않기 때문이다.
+ * 이 트랜잭션은 커넥션을 하나 더 쓰므로 {@link #encode} 는 트랜잭션 밖에서 불러야 한다. (TodoService#saveTodo 참고)
+ *
+ * <p>다른 인스턴스가 등록한 id 처럼 스냅샷에 없는 id 는 엔티티를 읽는 도중(AttributeConverter)에 만나므로,
+ * 새 트랜잭션 없이 호출한 쪽의 커넥션으로 weathers 를 다시 읽어 채운다.
+ * DB 는 락 밖에서 읽고 락 안에서는 읽은 결과를 스냅샷에 합치기만 하므로, 커넥션을 쥔 채 락을 기다리는 스레드가 생기지 않는다.
+ */
+@Slf4j
+@Component
+public class WeatherDictionary {
+
+    private final WeatherJdbcRepository weatherJdbcRepository;
+    private final TransactionTemplate newTransaction;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile WeatherCodes codes = WeatherCodes.EMPTY;
+
+    public WeatherDictionary(WeatherJdbcRepository weatherJdbcRepository, PlatformTransactionManager transactionManager) {
+        this.weatherJdbcRepository = weatherJdbcRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void load() {
+        merge(weatherJdbcRepository.findAll());
+        log.info("weather dictionary 적재 완료: {}개", codes.size());
+    }
+
+    public short encode(String name) {
+        Short id = codes.idOf(name);
+        if (id != null) {
+            return id;
+        }
+        return register(name);
+    }
+
+    public String decode(short id) {
+        String name = codes.nameOf(id);
+        if (name != null) {
+            return name;
+        }
+
+        merge(weatherJdbcRepository.findAll());
+        name = codes.nameOf(id);
+        if (name == null) {
+            throw new IllegalStateException("weathers 에 없는 날씨 id 입니다: " + id);
+        }
+        return name;
+    }
+
+    /**
+     * 이 인스턴스가 아는 날씨인지 스냅샷만으로 확인한다. {@link #encode} 와 달리 처음 보는 날씨를 등록하지 않는다.
+     * 요청마다 임의의 문자열이 들어오므로 모르는 날씨라고 DB 를 읽지 않는다.
+     * 다른 인스턴스가 먼저 등록한 날씨는 이 인스턴스가 그 날씨를 저장하거나 읽을 때 스냅샷에 들어온다.
+     */
+    public boolean contains(String name) {
+        return codes.idOf(name) != null;
+    }
+
+    public int size() {
+        return codes.size();
+    }
+
+    // 같은 날씨를 여러 스레드(인스턴스)가 동시에 등록해도 INSERT IGNORE 라 한 행만 남는다
+    private short register(String name) {
+        Map<String, Short> ids = newTransaction.execute(status -> {
+            weatherJdbcRepository.insertIgnore(name);
+            return weatherJdbcRepository.findAll();
+        });
+        merge(ids);
+        Short id = codes.idOf(name);
+        if (id == null) {
+            throw new IllegalStateException("날씨를 등록하지 못했습니다: " + name);
+        }
+        return id;
+    }
+
+    // weathers 의 행은 지워지지 않으므로 먼저 읽은 결과가 늦게 합쳐져도 이미 알던 날씨를 잃지 않는다
+    private void merge(Map<String, Short> ids) {
+        writeLock.lock();
+        try {
+            codes = codes.merge(ids);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.expert.domain.user.directory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.event.UserSignedUpEvent;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 응답 DTO 에 포함되는 user id → email 을 메모리에서 제공한다.
+ * 조회 경로는 users 를 조인하지 않고 FK 만 읽은 뒤 이 디렉터리에서 email 을 채운다.
+ *
+ * <p>email 은 가입 후 변경되지 않으므로 한 번 올라온 값은 갱신할 필요가 없다.
+ * 기동 시 전체를 적재하고, 가입은 커밋 이후 이벤트로 반영한다.
+ * 다른 인스턴스에서 가입한 유저처럼 메모리에 없는 id 는 DB 에서 읽어 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserDirectory {
+
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+
+    private final UserRepository userRepository;
+    private final UserEmailTable table = new UserEmailTable();
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void load() {
+        long startedAt = System.nanoTime();
+        long lastId = 0L;
+
+        while (true) {
+            List<UserResponse> users = userRepository.findUserResponsesAfter(lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (UserResponse user : users) {
+                table.put(user.getId(), user.getEmail());
+            }
+            if (users.size() < LOAD_CHUNK_SIZE) {
+                break;
+            }
+            lastId = users.get(users.size() - 1).getId();
+        }
+
+        log.info("user directory 적재 완료: {}명, {}ms", table.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onUserSignedUp(UserSignedUpEvent event) {
+        table.put(event.getUserId(), event.getEmail());
+    }
+
+    public Optional<String> findEmail(long userId) {
+        String email = table.get(userId);
+        if (email != null) {
+            return Optional.of(email);
+        }
+
+        Optional<String> loaded = userRepository.findEmailById(userId);
+        loaded.ifPresent(found -> table.put(userId, found));
+        return loaded;
+    }
+
+    public UserResponse getUserResponse(long userId) {
+        String email = findEmail(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
+        return new UserResponse(userId, email);
+    }
+
+    public int size() {
+        return table.size();
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.expert.domain.user.directory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * user id(long) → email 을 박싱 없이 저장하는 open addressing 해시 테이블.
+ *
+ * <p>키는 {@code long[]}, 값은 하나의 byte 배열(arena)에 [길이 2byte][UTF-8 email] 형태로 이어 붙이고
+ * 슬롯에는 arena 내 offset({@code int[]})만 둔다. 엔트리마다 Long, String, byte[] 객체를 만들지 않으므로
+ * 유저 100만 명 기준 (슬롯 2^21 개, 평균 email 20byte)
+ * keys 16.8MB + offsets 8.4MB + arena 약 22MB ≒ 47MB 를 사용한다.
+ * (arena 확장 시 일시적으로 최대 22MB 가 더 필요하다.)
+ * 같은 데이터를 {@code HashMap<Long, String>} 에 담으면 엔트리당 약 110byte, 100만 명 기준 약 110MB 이다.
+ * offset 이 int 이므로 arena 는 2GB, 즉 약 8천만 명까지 담을 수 있다.
+ *
+ * <p>쓰기는 하나의 락으로 직렬화하고 읽기는 락 없이 수행한다.
+ * 쓰기 시 email 바이트 → offset → key 순서로 release 기록하고, 읽기 시 key → offset 순서로 acquire 하므로
+ * key 가 보이면 그 email 바이트도 항상 보인다.
+ */
+class UserEmailTable {
+
+    private static final VarHandle LONG_ARRAY = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle INT_ARRAY = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private static final long EMPTY_KEY = 0L; // user id 는 1 부터 시작하므로 0 을 빈 슬롯으로 사용
+    private static final int MAX_EMAIL_BYTES = 0xFFFF;
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    private static final int INITIAL_ARENA_BYTES = 1 << 14;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Slots slots = new Slots(INITIAL_CAPACITY);
+    private volatile byte[] arena = new byte[INITIAL_ARENA_BYTES];
+
+    private int arenaSize; // writeLock 으로 보호
+    private int size; // writeLock 으로 보호
+
+    public String get(long userId) {
+        Slots current = slots;
+        int index = indexOf(userId, current.mask);
+
+        while (true) {
+            long key = (long) LONG_ARRAY.getAcquire(current.keys, index);
+            if (key == EMPTY_KEY) {
+                return null;
+            }
+            if (key == userId) {
+                int offset = (int) INT_ARRAY.getAcquire(current.offsets, index);
+                return decode(arena, offset);
+            }
+            index = (index + 1) & current.mask;
+        }
+    }
+
+    public void put(long userId, String email) {
+        if (userId <= 0) {
+            throw new IllegalArgumentException("user id 는 양수여야 합니다: " + userId);
+        }
+        byte[] encoded = email.getBytes(StandardCharsets.UTF_8);
+        if (encoded.length > MAX_EMAIL_BYTES) {
+            throw new IllegalArgumentException("email 이 너무 깁니다: " + encoded.length + " bytes");
+        }
+
+        writeLock.lock();
+        try {
+            if ((size + 1) * 2 > slots.keys.length) {
+                resize();
+            }
+
+            Slots current = slots;
+            int index = indexOf(userId, current.mask);
+            while (current.keys[index] != EMPTY_KEY && current.keys[index] != userId) {
+                index = (index + 1) & current.mask;
+            }
+
+            boolean exists = current.keys[index] == userId;
+            if (exists && email.equals(decode(arena, current.offsets[index]))) {
+                return;
+            }
+
+            int offset = append(encoded);
+            INT_ARRAY.setRelease(current.offsets, index, offset);
+            if (!exists) {
+                LONG_ARRAY.setRelease(current.keys, index, userId);
+                size++;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        writeLock.lock();
+        try {
+            return size;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private int append(byte[] encoded) {
+        int required = arenaSize + 2 + encoded.length;
+        if (required < 0) {
+            throw new IllegalStateException("user directory 용량을 초과했습니다.");
+        }
+
+        byte[] target = arena;
+        if (required > target.length) {
+            int newLength = (int) Math.min(Integer.MAX_VALUE - 8, Math.max((long) target.length * 2, required));
+            target = Arrays.copyOf(target, newLength);
+        }
+
+        int offset = arenaSize;
+        target[offset] = (byte) (encoded.length >>> 8);
+        target[offset + 1] = (byte) encoded.length;
+        System.arraycopy(encoded, 0, target, offset + 2, encoded.length);
+        arenaSize = required;
+
+        if (target != arena) {
+            arena = target; // offset 보다 먼저 공개
+        }
+        return offset;
+    }
+
+    private void resize() {
+        Slots old = slots;
+        Slots resized = new Slots(old.keys.length * 2);
+
+        for (int i = 0; i < old.keys.length; i++) {
+            long key = old.keys[i];
+            if (key == EMPTY_KEY) {
+                continue;
+            }
+            int index = indexOf(key, resized.mask);
+            while (resized.keys[index] != EMPTY_KEY) {
+                index = (index + 1) & resized.mask;
+            }
+            resized.keys[index] = key;
+            resized.offsets[index] = old.offsets[i];
+        }
+        slots = resized;
+    }
+
+    private static String decode(byte[] arena, int offset) {
+        int length = ((arena[offset] & 0xFF) << 8) | (arena[offset + 1] & 0xFF);
+        return new String(arena, offset + 2, length, StandardCharsets.UTF_8);
+    }
+
+    private static int indexOf(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L; // fibonacci hashing 으로 연속된 id 를 고르게 분산
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static final class Slots {
+
+        private final long[] keys;
+        private final int[] offsets;
+        private final int mask;
+
+        private Slots(int capacity) {
+            this.keys = new long[capacity];
+            this.offsets = new int[capacity];
+            this.mask = capacity - 1;
+        }
+    }
+}
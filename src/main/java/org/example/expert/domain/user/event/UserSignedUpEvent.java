@@ -0,0 +1,15 @@
+package org.example.expert.domain.user.event;
+
+import lombok.Getter;
+
+@Getter
+public class UserSignedUpEvent {
+
+    private final Long userId;
+    private final String email;
+
+    public UserSignedUpEvent(Long userId, String email) {
+        this.userId = userId;
+        this.email = email;
+    }
+}
@@ -1,11 +1,28 @@
 package org.example.expert.domain.user.repository;
 
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email) " +
+            "FROM User u WHERE u.id IN :userIds")
+    List<UserResponse> findUserResponsesByIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserResponse(u.id, u.email) " +
+            "FROM User u WHERE u.id > :lastId ORDER BY u.id")
+    List<UserResponse> findUserResponsesAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT u.email FROM User u WHERE u.id = :userId")
+    Optional<String> findEmailById(@Param("userId") Long userId);
 }
@@ -0,0 +1,134 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.example.expert.domain.auth.controller.AuthController;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.auth.dto.response.SigninResponse;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.service.AuthService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AuthController.class)
+@Import(ErrorResponseBodies.class)
+class BinaryFormatConfigTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+    private final ObjectMapper smile = new ObjectMapper(new SmileFactory());
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockBean
+    AuthService authService;
+
+    @Test
+    @DisplayName("CBOR 로 보낸 요청 본문을 읽고, Accept 가 CBOR 이면 같은 DTO 를 CBOR 로 응답한다.")
+    void cborRequestAndResponse() throws Exception {
+        // given
+        given(authService.signin(any(SigninRequest.class))).willReturn(new SigninResponse("Bearer token"));
+        byte[] body = cbor.writeValueAsBytes(new SigninRequest("a@a.com", "Password1!"));
+
+        // when
+        MvcResult result = mockMvc.perform(post("/auth/signin")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // then
+        JsonNode response = cbor.readTree(result.getResponse().getContentAsByteArray());
+        assertThat(response.get("bearerToken").asText()).isEqualTo("Bearer token");
+    }
+
+    @Test
+    @DisplayName("JSON 요청이라도 Accept 가 Smile 이면 Smile 로 응답한다.")
+    void smileAccept() throws Exception {
+        // given
+        given(authService.signin(any(SigninRequest.class))).willReturn(new SigninResponse("Bearer token"));
+
+        // when
+        MvcResult result = mockMvc.perform(post("/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(SMILE)
+                        .content(json.writeValueAsBytes(new SigninRequest("a@a.com", "Password1!"))))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn();
+
+        // then
+        JsonNode response = smile.readTree(result.getResponse().getContentAsByteArray());
+        assertThat(response.get("bearerToken").asText()).isEqualTo("Bearer token");
+    }
+
+    @Test
+    @DisplayName("Accept 가 없으면 기존처럼 JSON 으로 응답한다.")
+    void jsonByDefault() throws Exception {
+        // given
+        given(authService.signin(any(SigninRequest.class))).willReturn(new SigninResponse("Bearer token"));
+
+        // when & then
+        mockMvc.perform(post("/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json.writeValueAsBytes(new SigninRequest("a@a.com", "Password1!"))))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.bearerToken").value("Bearer token"));
+    }
+
+    @Test
+    @DisplayName("Accept 가 CBOR 여도 검증 실패 에러 응답은 JSON 으로 내려간다.")
+    void validationErrorStaysJson() throws Exception {
+        // given
+        byte[] body = cbor.writeValueAsBytes(new SigninRequest("not-an-email", "Password1!"));
+
+        // when & then
+        mockMvc.perform(post("/auth/signin")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value("BAD_REQUEST"))
+                .andExpect(jsonPath("$.code").value(400));
+    }
+
+    @Test
+    @DisplayName("Accept 가 Smile 이어도 서비스에서 던진 예외의 에러 응답은 JSON 으로 내려간다.")
+    void serviceErrorStaysJson() throws Exception {
+        // given
+        given(authService.signin(any(SigninRequest.class))).willThrow(new AuthException("잘못된 비밀번호입니다."));
+
+        // when & then
+        mockMvc.perform(post("/auth/signin")
+                        .contentType(SMILE)
+                        .accept(SMILE)
+                        .content(smile.writeValueAsBytes(new SigninRequest("a@a.com", "Password1!"))))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.message").value("잘못된 비밀번호입니다."));
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseBodiesTest {
+
+    private final ErrorResponseBodies errorResponseBodies = new ErrorResponseBodies(new ObjectMapper());
+
+    @Test
+    @DisplayName("같은 status 와 message 는 한 번 직렬화한 본문을 재사용한다.")
+    void get_cachesBody() {
+        // when
+        byte[] first = errorResponseBodies.get(HttpStatus.BAD_REQUEST, "Todo not found");
+        byte[] second = errorResponseBodies.get(HttpStatus.BAD_REQUEST, "Todo not found");
+        byte[] other = errorResponseBodies.get(HttpStatus.UNAUTHORIZED, "Todo not found");
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+        assertThat(new String(first, StandardCharsets.UTF_8))
+                .isEqualTo("{\"status\":\"BAD_REQUEST\",\"code\":400,\"message\":\"Todo not found\"}");
+    }
+
+    @Test
+    @DisplayName("message 가 null 이어도 본문을 만든다.")
+    void get_nullMessage() {
+        // when
+        byte[] body = errorResponseBodies.get(HttpStatus.INTERNAL_SERVER_ERROR, null);
+
+        // then
+        assertThat(new String(body, StandardCharsets.UTF_8))
+                .isEqualTo("{\"status\":\"INTERNAL_SERVER_ERROR\",\"code\":500,\"message\":null}");
+    }
+
+    @Test
+    @DisplayName("예상된 비즈니스 예외는 stack trace 를 수집하지 않는다.")
+    void businessExceptions_areStackless() {
+        assertThat(new InvalidRequestException("Todo not found").getStackTrace()).isEmpty();
+        assertThat(new AuthException("잘못된 비밀번호입니다.").getStackTrace()).isEmpty();
+    }
+}
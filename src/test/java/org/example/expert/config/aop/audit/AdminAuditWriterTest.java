@@ -0,0 +1,123 @@
+package org.example.expert.config.aop.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdminAuditWriterTest {
+
+    private static final int SEGMENT_SIZE = 512 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("발행한 이벤트는 종료 시 모두 기록되고 reader 로 같은 내용을 읽을 수 있다.")
+    void publish_roundTrip() throws IOException {
+        // given
+        AdminAuditWriter writer = new AdminAuditWriter(new ObjectMapper(), directory.toString(), SEGMENT_SIZE, 16);
+        writer.start();
+
+        // when
+        writer.publish(new AdminAuditEvent(1000L, 1L, "PATCH", "/admin/users/2", new UserResponse(2L, "a@a.com"), null, null));
+        writer.publish(new AdminAuditEvent(2000L, null, "DELETE", "/admin/comments/3", null, null, "Comment not found"));
+        writer.stop();
+
+        // then
+        List<AdminAuditRecord> records = AuditSegmentReader.readAll(directory);
+        assertThat(records).hasSize(2);
+
+        AdminAuditRecord first = records.get(0);
+        assertThat(first.getTimestamp()).isEqualTo(1000L);
+        assertThat(first.getUserId()).isEqualTo(1L);
+        assertThat(first.getHttpMethod()).isEqualTo("PATCH");
+        assertThat(first.getUri()).isEqualTo("/admin/users/2");
+        assertThat(first.getRequestBody()).isEqualTo("{\"id\":2,\"email\":\"a@a.com\"}");
+        assertThat(first.getResponseBody()).isNull();
+
+        AdminAuditRecord second = records.get(1);
+        assertThat(second.getUserId()).isNull();
+        assertThat(second.getErrorMessage()).isEqualTo("Comment not found");
+        assertThat(writer.getDroppedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("레코드 하나의 기록이 런타임 예외로 실패해도 drop 으로 세고 다음 이벤트를 계속 기록한다.")
+    void drain_survivesRuntimeException() throws IOException {
+        // given
+        ObjectMapper failingMapper = new ObjectMapper() {
+            @Override
+            public String writeValueAsString(Object value) throws JsonProcessingException {
+                if ("boom".equals(value)) {
+                    throw new IllegalStateException("boom");
+                }
+                return super.writeValueAsString(value);
+            }
+        };
+        AdminAuditWriter writer = new AdminAuditWriter(failingMapper, directory.toString(), SEGMENT_SIZE, 16);
+        writer.start();
+
+        // when
+        writer.publish(new AdminAuditEvent(1000L, 1L, "POST", "/admin/a", "boom", null, null));
+        writer.publish(new AdminAuditEvent(2000L, 1L, "POST", "/admin/b", "ok", null, null));
+        writer.stop();
+
+        // then
+        List<AdminAuditRecord> records = AuditSegmentReader.readAll(directory);
+        assertThat(records).extracting(AdminAuditRecord::getUri).containsExactly("/admin/b");
+        assertThat(writer.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 이벤트를 버리고 drop 카운터를 올린다.")
+    void publish_overflowCountsDrops() {
+        // given - 시작하지 않은 writer 는 버퍼를 비우지 않는다
+        AdminAuditWriter writer = new AdminAuditWriter(new ObjectMapper(), directory.toString(), SEGMENT_SIZE, 2);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            writer.publish(new AdminAuditEvent(i, 1L, "GET", "/admin", null, null, null));
+        }
+
+        // then
+        assertThat(writer.getDroppedCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("세그먼트가 가득 차면 다음 세그먼트로 교체하고, 재시작하면 새 세그먼트부터 기록한다.")
+    void append_rotatesSegments() throws IOException {
+        // given
+        String body = "x".repeat(60_000);
+        int count = 20; // 세그먼트 하나에 8건 정도 들어가는 크기
+
+        // when
+        try (AuditSegmentWriter segmentWriter = new AuditSegmentWriter(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < count; i++) {
+                segmentWriter.append(AdminAuditCodec.encode(new AdminAuditRecord(i, 1L, "POST", "/admin", body, null, null)));
+            }
+        }
+        try (AuditSegmentWriter restarted = new AuditSegmentWriter(directory, SEGMENT_SIZE)) {
+            restarted.append(AdminAuditCodec.encode(new AdminAuditRecord(count, 1L, "POST", "/admin", "{}", null, null)));
+        }
+
+        // then
+        List<Path> segments = AuditSegmentReader.listSegments(directory);
+        assertThat(segments).hasSizeGreaterThan(2);
+        assertThat(AuditSegmentWriter.sequenceOf(segments.get(0))).isEqualTo(1L);
+
+        List<AdminAuditRecord> records = AuditSegmentReader.readAll(directory);
+        assertThat(records).hasSize(count + 1);
+        for (int i = 0; i <= count; i++) {
+            assertThat(records.get(i).getTimestamp()).isEqualTo(i);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.expert.config.sql;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqlLatencyStatsTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    @DisplayName("리터럴, IN 목록 길이, 공백이 달라도 같은 shape 로 묶인다.")
+    void shapeOf_normalizes() {
+        // when
+        String first = SqlLatencyStats.shapeOf("select * from users where id in (?, ?, ?) and email = 'a@a.com'");
+        String second = SqlLatencyStats.shapeOf("select *  from users\n where id in (?,?) and email = 'b'");
+
+        // then
+        assertThat(first).isEqualTo("select * from users where id in (?...) and email = ?");
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("수천 개짜리 IN 목록도 스택 오버플로 없이 하나의 shape 로 묶인다.")
+    void shapeOf_handlesLargeInList() {
+        // given
+        String sql = "select id from todos where id in (?" + ", ?".repeat(10_000) + ")";
+
+        // when
+        String shape = SqlLatencyStats.shapeOf(sql);
+
+        // then
+        assertThat(shape).isEqualTo("select id from todos where id in (?...)");
+    }
+
+    @Test
+    @DisplayName("버킷 상한은 기록한 값 이상이고 25% 이내로 근접한다.")
+    void bucketUpperBound_coversValue() {
+        for (long micros = 1; micros < 10_000_000L; micros = micros * 3 / 2 + 1) {
+            long upper = SqlLatencyStats.bucketUpperBound(SqlLatencyStats.bucketOf(micros));
+            assertThat(upper).isGreaterThan(micros);
+            assertThat(upper).isLessThanOrEqualTo(Math.max(micros * 5 / 4 + 1, micros + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("shape 별 건수와 백분위를 누적 소요 시간 순으로 반환한다.")
+    void snapshot_percentiles() {
+        // given
+        AtomicLong now = new AtomicLong(1_000_000L);
+        SqlLatencyStats stats = new SqlLatencyStats(now::get);
+        for (int i = 1; i <= 100; i++) {
+            stats.record("select * from todos where id = 1", i * MILLIS);
+        }
+        stats.record("select * from users where id = 1", MILLIS);
+
+        // when
+        List<SqlLatencySnapshot> snapshots = stats.snapshot(10);
+
+        // then
+        assertThat(snapshots).hasSize(2);
+        SqlLatencySnapshot todos = snapshots.get(0);
+        assertThat(todos.getStatement()).isEqualTo("select * from todos where id = ?");
+        assertThat(todos.getCount()).isEqualTo(100);
+        assertThat(todos.getMeanMillis()).isEqualTo(50.5);
+        assertThat(todos.getP50Millis()).isBetween(50.0, 50.0 * 1.25);
+        assertThat(todos.getP99Millis()).isBetween(99.0, 100.0);
+        assertThat(todos.getMaxMillis()).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("1분이 지난 기록은 집계에서 빠진다.")
+    void snapshot_rollsOver() {
+        // given
+        AtomicLong now = new AtomicLong(1_000_000L);
+        SqlLatencyStats stats = new SqlLatencyStats(now::get);
+        stats.record("select 1", MILLIS);
+
+        // when
+        now.addAndGet(30_000L);
+        stats.record("select 1", MILLIS);
+        List<SqlLatencySnapshot> withinWindow = stats.snapshot(10);
+        now.addAndGet(45_000L);
+        List<SqlLatencySnapshot> afterWindow = stats.snapshot(10);
+
+        // then
+        assertThat(withinWindow.get(0).getCount()).isEqualTo(2);
+        assertThat(afterWindow.get(0).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("limit 가 1 보다 작으면 에러를 반환한다.")
+    void snapshot_rejectsNonPositiveLimit() {
+        // given
+        SqlLatencyStats stats = new SqlLatencyStats();
+        stats.record("select 1", MILLIS);
+
+        // when & then
+        assertThatThrownBy(() -> stats.snapshot(0)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> stats.snapshot(-1)).isInstanceOf(InvalidRequestException.class);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.expert.dataset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DatasetTest {
+
+    private static final int TODOS = 5_000;
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    @DisplayName("같은 spec 과 seed 면 인기 일정 id 열이 같고, 모든 id 가 1..todos 안에 있다.")
+    void popularTodoId_deterministic() {
+        // given
+        Dataset dataset = Dataset.planned(spec(1.0));
+
+        // when
+        long[] first = popularTodoIds(dataset, new SplittableRandom(42), 10_000);
+        long[] second = popularTodoIds(Dataset.planned(spec(1.0)), new SplittableRandom(42), 10_000);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(Arrays.stream(first).boxed()).allMatch(id -> id >= 1 && id <= TODOS);
+    }
+
+    @Test
+    @DisplayName("설정한 지수에서 가장 인기 있는 일정 하나가 1순위 비율만큼 뽑히고, 지수가 클수록 더 쏠린다.")
+    void popularTodoId_rankOneDominates() {
+        // when
+        double share = topShare(Dataset.planned(spec(1.0)));
+        double steeperShare = topShare(Dataset.planned(spec(1.5)));
+
+        // then
+        double harmonic = IntStream.rangeClosed(1, TODOS).mapToDouble(k -> 1.0 / k).sum();
+        assertThat(share).isBetween(1 / harmonic - 0.005, 1 / harmonic + 0.005);
+        // 균등 분포였다면 1 / TODOS = 0.0002
+        assertThat(share).isGreaterThan(100.0 / TODOS);
+        assertThat(steeperShare).isGreaterThan(share);
+    }
+
+    private static double topShare(Dataset dataset) {
+        int[] counts = new int[TODOS + 1];
+        for (long id : popularTodoIds(dataset, new SplittableRandom(7), SAMPLES)) {
+            counts[(int) id]++;
+        }
+        return (double) Arrays.stream(counts).max().orElseThrow() / SAMPLES;
+    }
+
+    private static long[] popularTodoIds(Dataset dataset, SplittableRandom random, int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = dataset.popularTodoId(random);
+        }
+        return ids;
+    }
+
+    private static DatasetSpec spec(double exponent) {
+        return new DatasetSpec(100, TODOS, 0, 20, exponent, 42L, LocalDateTime.of(2024, 12, 31, 0, 0), Duration.ofDays(365));
+    }
+}
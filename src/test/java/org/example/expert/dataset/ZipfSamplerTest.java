@@ -0,0 +1,63 @@
+package org.example.expert.dataset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ZipfSamplerTest {
+
+    private static final int N = 1_000;
+    private static final double EXPONENT = 1.0;
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    @DisplayName("같은 seed 면 같은 순위 열을 뽑는다.")
+    void sample_sameSeedSameSequence() {
+        // given
+        ZipfSampler sampler = new ZipfSampler(N, EXPONENT);
+
+        // when
+        int[] first = sample(sampler, new SplittableRandom(42), 10_000);
+        int[] second = sample(sampler, new SplittableRandom(42), 10_000);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(Arrays.stream(first).boxed()).allMatch(rank -> rank >= 1 && rank <= N);
+    }
+
+    @Test
+    @DisplayName("1순위가 가장 자주 나오고, 빈도가 1 / k^exponent 에 비례한다.")
+    void sample_followsZipf() {
+        // given
+        ZipfSampler sampler = new ZipfSampler(N, EXPONENT);
+        double harmonic = IntStream.rangeClosed(1, N).mapToDouble(k -> Math.pow(k, -EXPONENT)).sum();
+
+        // when
+        int[] counts = new int[N + 1];
+        for (int rank : sample(sampler, new SplittableRandom(7), SAMPLES)) {
+            counts[rank]++;
+        }
+
+        // then
+        int maxCount = IntStream.rangeClosed(1, N).map(k -> counts[k]).max().orElseThrow();
+        assertThat(counts[1]).isEqualTo(maxCount);
+        assertThat(counts[1]).isGreaterThan(counts[2]).isGreaterThan(0);
+        assertThat(counts[2]).isGreaterThan(counts[3]);
+        assertThat((double) counts[1] / SAMPLES).isCloseTo(1 / harmonic, within(0.005));
+        assertThat((double) counts[2] / SAMPLES).isCloseTo(Math.pow(2, -EXPONENT) / harmonic, within(0.005));
+    }
+
+    private static int[] sample(ZipfSampler sampler, SplittableRandom random, int count) {
+        int[] ranks = new int[count];
+        for (int i = 0; i < count; i++) {
+            ranks[i] = sampler.sample(random);
+        }
+        return ranks;
+    }
+}
@@ -10,6 +10,7 @@ import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.event.UserSignedUpEvent;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
@@ -41,6 +43,9 @@ class AuthServiceTest {
     @Mock
     JwtUtil jwtUtil;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     AuthService authService;
 
@@ -79,6 +84,13 @@ class AuthServiceTest {
         assertThat(capturedUser.getEmail()).isEqualTo(email);
         assertThat(capturedUser.getPassword()).isEqualTo(encodedPassword);
         assertThat(capturedUser.getUserRole()).isEqualTo(userRole);
+
+        // 가입한 유저는 커밋 이후 UserDirectory 에 반영되도록 이벤트로 발행된다.
+        ArgumentCaptor<UserSignedUpEvent> eventCaptor = ArgumentCaptor.forClass(UserSignedUpEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue())
+                .extracting("userId", "email")
+                .containsExactly(userId, email);
     }
 
     @Test
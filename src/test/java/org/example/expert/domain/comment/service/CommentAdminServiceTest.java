@@ -1,13 +1,31 @@
 package org.example.expert.domain.comment.service;
 
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.event.TodoTextChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -17,9 +35,25 @@ class CommentAdminServiceTest {
     @Mock
     CommentRepository commentRepository;
 
-    @InjectMocks
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     CommentAdminService commentAdminService;
 
+    @BeforeEach
+    void setUp() {
+        commentAdminService = new CommentAdminService(commentRepository, eventPublisher, 2, 0L);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 chunk 크기가 1 미만이면 기동 시점에 실패한다.")
+    void constructor_rejectsNonPositiveChunkSize() {
+        // when & then
+        assertThatThrownBy(() -> new CommentAdminService(commentRepository, eventPublisher, 0, 0L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("chunk-size");
+    }
+
     @Test
     @DisplayName("관리자에 의해 댓글이 삭제될 수 있다.")
     void deleteComment() {
@@ -32,4 +66,71 @@ class CommentAdminServiceTest {
         // then
         verify(commentRepository, times(1)).deleteById(commentId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("댓글을 삭제하면 댓글이 달린 todo 의 검색 색인 갱신 이벤트를 발행한다.")
+    void deleteComment_publishesTodoTextChanged() {
+        // given
+        long commentId = 1L;
+        long todoId = 10L;
+        given(commentRepository.findTodoIdsByIdIn(List.of(commentId))).willReturn(List.of(todoId));
+
+        // when
+        commentAdminService.deleteComment(commentId);
+
+        // then
+        ArgumentCaptor<TodoTextChangedEvent> captor = ArgumentCaptor.forClass(TodoTextChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getTodoIds()).containsExactly(todoId);
+    }
+
+    @Test
+    @DisplayName("작성자 기준으로 댓글을 chunk 단위로 나누어 일괄 삭제한다.")
+    void bulkDeleteComments() {
+        // given
+        long userId = 1L;
+        CommentBulkDeleteRequest request = new CommentBulkDeleteRequest(userId, null, null, null);
+
+        given(commentRepository.findIdsForBulkDelete(eq(0L), eq(userId), isNull(), isNull(), isNull(), any(Pageable.class)))
+                .willReturn(List.of(1L, 2L));
+        given(commentRepository.findIdsForBulkDelete(eq(2L), eq(userId), isNull(), isNull(), isNull(), any(Pageable.class)))
+                .willReturn(List.of(5L));
+        given(commentRepository.deleteAllByIdIn(List.of(1L, 2L))).willReturn(2);
+        given(commentRepository.deleteAllByIdIn(List.of(5L))).willReturn(1);
+
+        // when
+        CommentBulkDeleteResponse response = commentAdminService.bulkDeleteComments(request);
+
+        // then
+        assertThat(response)
+                .extracting("deletedCount", "chunkCount")
+                .containsExactly(3L, 2);
+        verify(commentRepository, times(2)).findIdsForBulkDelete(anyLong(), eq(userId), isNull(), isNull(), isNull(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("삭제 조건이 하나도 없다면 에러를 반환한다.")
+    void bulkDeleteCommentsFails_whenConditionIsEmpty() {
+        // given
+        CommentBulkDeleteRequest request = new CommentBulkDeleteRequest(null, null, null, null);
+
+        // when & then
+        assertThatThrownBy(() -> commentAdminService.bulkDeleteComments(request))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("삭제 조건을 하나 이상 지정해야 합니다.");
+        verify(commentRepository, never()).deleteAllByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("삭제 시작 시각이 종료 시각보다 이전이 아니라면 에러를 반환한다.")
+    void bulkDeleteCommentsFails_whenRangeIsInvalid() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 9, 1, 0, 0);
+        CommentBulkDeleteRequest request = new CommentBulkDeleteRequest(null, null, now, now.minusDays(1));
+
+        // when & then
+        assertThatThrownBy(() -> commentAdminService.bulkDeleteComments(request))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("삭제 시작 시각은 종료 시각보다 이전이어야 합니다.");
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.config.sql.SqlCountConfig;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.WeatherJdbcRepository;
+import org.example.expert.domain.todo.weather.WeatherDictionary;
+import org.example.expert.domain.user.directory.UserDirectory;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.utils.SqlCountExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.expert.utils.SqlCountExtension.countOf;
+
+@DataJpaTest
+@ActiveProfiles("querycount")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SqlCountConfig.class, CommentService.class, UserDirectory.class, WeatherDictionary.class, WeatherJdbcRepository.class})
+@ExtendWith(SqlCountExtension.class)
+class CommentServiceQueryCountTest {
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    UserDirectory userDirectory;
+
+    @Autowired
+    TestEntityManager em;
+
+    private User user;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(new User("owner@example.com", "password", UserRole.USER));
+        todo = em.persist(new Todo("title", "contents", "Sunny", user));
+        for (int i = 0; i < 5; i++) {
+            User author = em.persist(new User("author" + i + "@example.com", "password", UserRole.USER));
+            em.persist(new Comment("comment" + i, author, todo));
+        }
+        em.flush();
+        em.clear();
+        userDirectory.load();
+    }
+
+    @Test
+    @DisplayName("saveComment 는 todo 존재 확인과 insert 2건만 실행한다.")
+    void saveComment() throws Exception {
+        // given
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.USER);
+
+        // when
+        long count = countOf(() -> {
+            commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest("contents"));
+            em.flush();
+        });
+
+        // then
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("getComments 는 작성자 수와 관계없이 댓글 조회 1건만 실행한다.")
+    void getComments() throws Exception {
+        // when
+        long count = countOf(() -> commentService.getComments(todo.getId()));
+
+        // then
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getComments 에 fields 를 지정하면 요청한 필드와 id 만 담아 댓글 조회 1건만 실행한다.")
+    void getComments_withFields() throws Exception {
+        // given
+        List<Map<String, Object>> comments = new ArrayList<>();
+
+        // when
+        long count = countOf(() -> comments.addAll(commentService.getComments(todo.getId(), "contents")));
+
+        // then
+        assertThat(count).isEqualTo(1);
+        assertThat(comments).hasSize(5);
+        assertThat(comments).allSatisfy(comment -> assertThat(comment).containsOnlyKeys("id", "contents"));
+    }
+}
@@ -10,6 +10,8 @@ import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.directory.UserDirectory;
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.DisplayName;
@@ -18,9 +20,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -28,6 +30,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -36,6 +42,8 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private UserDirectory userDirectory;
     @InjectMocks
     private CommentService commentService;
 
@@ -46,12 +54,13 @@ class CommentServiceTest {
         CommentSaveRequest request = new CommentSaveRequest("contents");
         AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
 
-        given(todoRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(todoRepository.existsById(anyLong())).willReturn(false);
 
         // when & then
         assertThatThrownBy(() -> commentService.saveComment(authUser, todoId, request))
                 .isInstanceOf(InvalidRequestException.class)
                 .hasMessage("Todo not found");
+        verify(commentRepository, never()).save(any());
     }
 
     @Test
@@ -64,7 +73,8 @@ class CommentServiceTest {
         Todo todo = new Todo("title", "title", "contents", user);
         Comment comment = new Comment(request.getContents(), user, todo);
 
-        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+        given(todoRepository.existsById(todoId)).willReturn(true);
+        given(todoRepository.getReferenceById(todoId)).willReturn(todo);
         given(commentRepository.save(any())).willReturn(comment);
 
         // when
@@ -72,6 +82,11 @@ class CommentServiceTest {
 
         // then
         assertNotNull(result);
+        // 존재 확인 1회 + INSERT 1회 (getReferenceById 는 쿼리를 발생시키지 않는다)
+        verify(todoRepository, times(1)).existsById(todoId);
+        verify(todoRepository, times(1)).getReferenceById(todoId);
+        verify(commentRepository, times(1)).save(any());
+        verifyNoMoreInteractions(todoRepository, commentRepository);
     }
 
     @Test
@@ -79,18 +94,22 @@ class CommentServiceTest {
     void success_getComments() {
         // given
         User user1 = new User("test1@test.com", "12345", UserRole.USER);
+        ReflectionTestUtils.setField(user1, "id", 1L);
         User user2 = new User("test2@test.com", "12345", UserRole.USER);
+        ReflectionTestUtils.setField(user2, "id", 2L);
 
         Comment comment1 = new Comment("contents1", user1, null);
         Comment comment2 = new Comment("contents2", user1, null);
         Comment comment3 = new Comment("contents3", user2, null);
 
-        given(commentRepository.findByTodoIdWithUser(anyLong()))
+        given(commentRepository.findByTodoId(anyLong()))
                 .willReturn(List.of(
                         comment1,
                         comment2,
                         comment3
                 ));
+        given(userDirectory.getUserResponse(1L)).willReturn(new UserResponse(1L, "test1@test.com"));
+        given(userDirectory.getUserResponse(2L)).willReturn(new UserResponse(2L, "test2@test.com"));
 
         long todoId = 1L;
 
@@ -0,0 +1,32 @@
+package org.example.expert.domain.common.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageResponseTest {
+
+    @Test
+    @DisplayName("Page 를 1부터 시작하는 페이지 번호와 고정된 필드만 가진 응답으로 변환한다.")
+    void from() throws Exception {
+        // given
+        PageImpl<String> page = new PageImpl<>(List.of("a", "b"), PageRequest.of(1, 2), 5);
+
+        // when
+        PageResponse<String> response = PageResponse.from(page);
+        String json = new ObjectMapper().writeValueAsString(response);
+
+        // then
+        assertThat(response.getPage()).isEqualTo(2);
+        assertThat(response.getTotalPages()).isEqualTo(3);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(json).isEqualTo(
+                "{\"content\":[\"a\",\"b\"],\"page\":2,\"size\":2,\"totalElements\":5,\"totalPages\":3,\"hasNext\":true}");
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.expert.domain.common.projection;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.enums.TodoField;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SparseFieldsTest {
+
+    @Test
+    @DisplayName("요청한 필드에 id 를 항상 더한다.")
+    void parse_addsRequiredField() {
+        // when
+        SparseFields<TodoField> fields = SparseFields.parse("title, weather", TodoField.class, TodoField.ID);
+
+        // then
+        assertThat(fields.contains(TodoField.ID)).isTrue();
+        assertThat(fields.contains(TodoField.TITLE)).isTrue();
+        assertThat(fields.contains(TodoField.WEATHER)).isTrue();
+        assertThat(fields.contains(TodoField.EXCERPT)).isFalse();
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 필드나 빈 값이면 InvalidRequestException 을 던진다.")
+    void parse_fails_whenFieldIsUnknown() {
+        assertThatThrownBy(() -> SparseFields.parse("title,password", TodoField.class, TodoField.ID))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("지원하지 않는 필드입니다: password");
+        assertThatThrownBy(() -> SparseFields.parse(" ", TodoField.class, TodoField.ID))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+}
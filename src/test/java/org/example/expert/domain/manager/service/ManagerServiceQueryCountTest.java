@@ -0,0 +1,129 @@
+package org.example.expert.domain.manager.service;
+
+import org.example.expert.config.sql.SqlCountConfig;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerJdbcRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.WeatherJdbcRepository;
+import org.example.expert.domain.todo.weather.WeatherDictionary;
+import org.example.expert.domain.user.directory.UserDirectory;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.utils.SqlCountExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.expert.utils.SqlCountExtension.countOf;
+
+@DataJpaTest
+@ActiveProfiles("querycount")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SqlCountConfig.class, ManagerService.class, ManagerJdbcRepository.class, UserDirectory.class, WeatherDictionary.class, WeatherJdbcRepository.class})
+@ExtendWith(SqlCountExtension.class)
+class ManagerServiceQueryCountTest {
+
+    @Autowired
+    ManagerService managerService;
+
+    @Autowired
+    UserDirectory userDirectory;
+
+    @Autowired
+    TestEntityManager em;
+
+    private User owner;
+    private Todo todo;
+    private Manager manager;
+    private final List<User> others = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        owner = em.persist(new User("owner@example.com", "password", UserRole.USER));
+        todo = em.persist(new Todo("title", "contents", "Sunny", owner));
+        for (int i = 0; i < 5; i++) {
+            User member = em.persist(new User("member" + i + "@example.com", "password", UserRole.USER));
+            manager = em.persist(new Manager(member, todo));
+        }
+        for (int i = 0; i < 3; i++) {
+            others.add(em.persist(new User("other" + i + "@example.com", "password", UserRole.USER)));
+        }
+        em.flush();
+        em.clear();
+        userDirectory.load();
+    }
+
+    @Test
+    @DisplayName("saveManager 는 검증 쿼리 1건과 insert 1건만 실행한다.")
+    void saveManager() throws Exception {
+        // given
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+
+        // when
+        long count = countOf(() -> {
+            managerService.saveManager(authUser, todo.getId(), new ManagerSaveRequest(others.get(0).getId()));
+            em.flush();
+        });
+
+        // then
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("saveManagers 는 인원 수와 관계없이 소유자 확인과 유저 조회 2건만 실행한다. (insert 는 JDBC 배치)")
+    void saveManagers() throws Exception {
+        // given
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+        List<Long> managerUserIds = others.stream().map(User::getId).toList();
+
+        // when
+        long count = countOf(() -> managerService.saveManagers(authUser, todo.getId(), new ManagerBulkSaveRequest(managerUserIds)));
+
+        // then
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("getManagers 는 담당자 수와 관계없이 todo 조회와 담당자 조회 2건만 실행한다.")
+    void getManagers() throws Exception {
+        // when
+        long count = countOf(() -> managerService.getManagers(todo.getId()));
+
+        // then
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("getManagedTodos 는 목록 조회 1건만 실행한다.")
+    void getManagedTodos() throws Exception {
+        // when
+        long count = countOf(() -> managerService.getManagedTodos(owner.getId(), null, 20));
+
+        // then
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("deleteManager 는 검증 쿼리 1건과 delete 1건만 실행한다.")
+    void deleteManager() throws Exception {
+        // when
+        long count = countOf(() -> managerService.deleteManager(owner.getId(), todo.getId(), manager.getId()));
+
+        // then
+        assertThat(count).isEqualTo(2);
+    }
+}
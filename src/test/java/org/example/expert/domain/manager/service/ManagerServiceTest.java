@@ -1,37 +1,54 @@
 package org.example.expert.domain.manager.service;
 
+import org.assertj.core.groups.Tuple;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.ManagerAssignCheck;
+import org.example.expert.domain.manager.dto.ManagerDeleteCheck;
+import org.example.expert.domain.manager.dto.request.ManagerBulkSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagedTodoListResponse;
+import org.example.expert.domain.manager.dto.response.ManagedTodoResponse;
+import org.example.expert.domain.manager.dto.response.ManagerBulkSaveResponse;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerJdbcRepository;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.directory.UserDirectory;
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
-import org.example.expert.utils.TestUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class ManagerServiceTest {
@@ -42,6 +59,10 @@ class ManagerServiceTest {
     private UserRepository userRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private ManagerJdbcRepository managerJdbcRepository;
+    @Mock
+    private UserDirectory userDirectory;
     @InjectMocks
     private ManagerService managerService;
 
@@ -64,12 +85,10 @@ class ManagerServiceTest {
         long todoId = 1L;
         long managerUserId = 2L;
 
-        Todo todo = new Todo();
-        ReflectionTestUtils.setField(todo, "user", null);
-
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(managerRepository.findAssignCheck(todoId, managerUserId))
+                .willReturn(Optional.of(new ManagerAssignCheck(null, "b@b.com", null)));
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -84,6 +103,7 @@ class ManagerServiceTest {
         // given
         long todoId = 1L;
         User user = new User("user1@example.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
         Todo todo = new Todo("Title", "Contents", "Sunny", user);
         ReflectionTestUtils.setField(todo, "id", todoId);
 
@@ -91,7 +111,8 @@ class ManagerServiceTest {
         List<Manager> managerList = List.of(mockManager);
 
         given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
+        given(managerRepository.findByTodoId(todoId)).willReturn(managerList);
+        given(userDirectory.getUserResponse(1L)).willReturn(new UserResponse(1L, user.getEmail()));
 
         // when
         List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
@@ -118,8 +139,10 @@ class ManagerServiceTest {
 
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId); // request dto 생성
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
+        given(managerRepository.findAssignCheck(todoId, managerUserId))
+                .willReturn(Optional.of(new ManagerAssignCheck(authUser.getId(), managerUser.getEmail(), null)));
+        given(userRepository.getReferenceById(managerUserId)).willReturn(managerUser);
+        given(todoRepository.getReferenceById(todoId)).willReturn(todo);
         given(managerRepository.save(any(Manager.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
@@ -129,6 +152,158 @@ class ManagerServiceTest {
         assertNotNull(response);
         assertEquals(managerUser.getId(), response.getUser().getId());
         assertEquals(managerUser.getEmail(), response.getUser().getEmail());
+
+        // 검증 조회 1회 + INSERT 1회 (getReferenceById 는 쿼리를 발생시키지 않는다)
+        verify(managerRepository, times(1)).findAssignCheck(todoId, managerUserId);
+        verify(managerRepository, times(1)).save(any(Manager.class));
+        verify(userRepository, times(1)).getReferenceById(managerUserId);
+        verify(todoRepository, times(1)).getReferenceById(todoId);
+        verifyNoMoreInteractions(managerRepository, userRepository, todoRepository);
+    }
+
+    @Test
+    @DisplayName("담당자 등록 시 일정이 존재하지 않는다면 에러를 반환한다.")
+    void saveManagerFails_whenTodoIsEmpty() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        long managerUserId = 2L;
+
+        given(managerRepository.findAssignCheck(todoId, managerUserId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> managerService.saveManager(authUser, todoId, new ManagerSaveRequest(managerUserId)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Todo not found");
+    }
+
+    @Test
+    @DisplayName("등록하려는 담당자 유저가 존재하지 않는다면 에러를 반환한다.")
+    void saveManagerFails_whenManagerUserIsEmpty() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        long managerUserId = 2L;
+
+        given(managerRepository.findAssignCheck(todoId, managerUserId))
+                .willReturn(Optional.of(new ManagerAssignCheck(authUser.getId(), null, null)));
+
+        // when & then
+        assertThatThrownBy(() -> managerService.saveManager(authUser, todoId, new ManagerSaveRequest(managerUserId)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("등록하려고 하는 담당자 유저가 존재하지 않습니다.");
+        verify(managerRepository, never()).save(any(Manager.class));
+    }
+
+    @Test
+    @DisplayName("이미 등록된 담당자를 다시 등록하면 에러를 반환한다.")
+    void saveManagerFails_whenManagerIsAlreadyAssigned() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        long managerUserId = 2L;
+
+        given(managerRepository.findAssignCheck(todoId, managerUserId))
+                .willReturn(Optional.of(new ManagerAssignCheck(authUser.getId(), "b@b.com", 10L)));
+
+        // when & then
+        assertThatThrownBy(() -> managerService.saveManager(authUser, todoId, new ManagerSaveRequest(managerUserId)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("이미 해당 일정에 등록된 담당자입니다.");
+        verify(managerRepository, never()).save(any(Manager.class));
+    }
+
+    @Test
+    @DisplayName("여러 담당자를 IN 조회 1회와 JDBC 배치 1회로 등록한다.")
+    void saveManagers() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        List<Long> managerUserIds = List.of(2L, 3L);
+
+        given(todoRepository.findOwnerIdById(todoId)).willReturn(Optional.of(authUser.getId()));
+        given(userRepository.findUserResponsesByIdIn(Set.copyOf(managerUserIds))).willReturn(List.of(
+                new UserResponse(2L, "b@b.com"),
+                new UserResponse(3L, "c@c.com")
+        ));
+
+        // when
+        ManagerBulkSaveResponse response = managerService.saveManagers(authUser, todoId, new ManagerBulkSaveRequest(managerUserIds));
+
+        // then
+        assertThat(response.getManagers())
+                .extracting("id", "email")
+                .containsExactlyInAnyOrder(
+                        Tuple.tuple(2L, "b@b.com"),
+                        Tuple.tuple(3L, "c@c.com")
+                );
+        verify(todoRepository, times(1)).findOwnerIdById(todoId);
+        verify(userRepository, times(1)).findUserResponsesByIdIn(Set.copyOf(managerUserIds));
+        verify(managerJdbcRepository, times(1)).batchInsertIgnore(todoId, managerUserIds);
+        verifyNoMoreInteractions(todoRepository, userRepository, managerJdbcRepository);
+        verifyNoInteractions(managerRepository);
+    }
+
+    @Test
+    @DisplayName("담당자 일괄 등록 시 중복된 유저 id 가 있다면 에러를 반환한다.")
+    void saveManagersFails_whenUserIdsAreDuplicated() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        ManagerBulkSaveRequest request = new ManagerBulkSaveRequest(List.of(2L, 2L));
+
+        // when & then
+        assertThatThrownBy(() -> managerService.saveManagers(authUser, 1L, request))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("중복된 담당자 유저 id 가 포함되어 있습니다.");
+        verifyNoInteractions(todoRepository, userRepository, managerJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("담당자 일괄 등록 시 일정 작성자 본인이 포함되어 있다면 에러를 반환한다.")
+    void saveManagersFails_whenOwnerIsIncluded() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        ManagerBulkSaveRequest request = new ManagerBulkSaveRequest(List.of(1L, 2L));
+
+        // when & then
+        assertThatThrownBy(() -> managerService.saveManagers(authUser, 1L, request))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+        verifyNoInteractions(todoRepository, userRepository, managerJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("담당자 일괄 등록 시 일정 작성자가 아니라면 에러를 반환한다.")
+    void saveManagersFails_whenUserIsNotOwner() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        given(todoRepository.findOwnerIdById(todoId)).willReturn(Optional.of(5L));
+
+        // when & then
+        assertThatThrownBy(() -> managerService.saveManagers(authUser, todoId, new ManagerBulkSaveRequest(List.of(2L))))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("일정을 생성한 유저만 담당자를 지정할 수 있습니다.");
+        verifyNoInteractions(userRepository, managerJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("담당자 일괄 등록 시 존재하지 않는 유저가 있다면 아무것도 등록하지 않는다.")
+    void saveManagersFails_whenSomeUserIsMissing() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        List<Long> managerUserIds = List.of(2L, 3L);
+
+        given(todoRepository.findOwnerIdById(todoId)).willReturn(Optional.of(authUser.getId()));
+        given(userRepository.findUserResponsesByIdIn(Set.copyOf(managerUserIds)))
+                .willReturn(List.of(new UserResponse(2L, "b@b.com")));
+
+        // when & then
+        assertThatThrownBy(() -> managerService.saveManagers(authUser, todoId, new ManagerBulkSaveRequest(managerUserIds)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("등록하려고 하는 담당자 유저가 존재하지 않습니다.");
+        verifyNoInteractions(managerJdbcRepository);
     }
 
     @Test // 테스트코드 샘플
@@ -136,76 +311,91 @@ class ManagerServiceTest {
     void saveManagerFails_whenWriterIsAssignedAsAssignee() {
         // given
         AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
-        User user = TestUtils.createEntity(User.class, Map.of(
-                "id", 1L,
-                "email", "test@test.com",
-                "userRole", UserRole.USER
-        ));
 
         long todoId = 1L;
-        Todo todo = TestUtils.createEntity(Todo.class, Map.of(
-                "id", todoId,
-                "title", "Test Title",
-                "contents", "Test Contents",
-                "weather", "Sunny",
-                "user", user
-        ));
-
         long managerUserId = 1L;
-        User managerUser = TestUtils.createEntity(User.class, Map.of(
-                "id", managerUserId,
-                "email", "b@b.com",
-                "password", "password",
-                "userRole", UserRole.USER
-        ));
 
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId); // request dto 생성
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
-
         // when & then
         assertThatThrownBy(() -> managerService.saveManager(authUser, todoId, managerSaveRequest))
                 .isInstanceOf(InvalidRequestException.class)
                 .hasMessage("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+
+        // 요청 값만으로 판단 가능하므로 조회 없이 거절한다.
+        verifyNoInteractions(managerRepository, userRepository, todoRepository, managerJdbcRepository);
     }
 
     @Test
-    @DisplayName("일정을 등록한 담당자는 일정을 삭제할 수 있다.")
-    void deleteManager() {
+    @DisplayName("담당 일정을 조회할 때 다음 페이지가 있다면 마지막 todo id 를 cursor 로 반환한다.")
+    void getManagedTodos_hasNextPage() {
         // given
         long userId = 1L;
-        User user = TestUtils.createEntity(User.class, Map.of(
-                "id", userId,
-                "email", "test@test.com",
-                "userRole", UserRole.USER
+        int size = 2;
+        LocalDateTime now = LocalDateTime.of(2025, 9, 1, 0, 0);
+        given(managerRepository.findManagedTodos(eq(userId), eq(Long.MAX_VALUE), any(Pageable.class))).willReturn(List.of(
+                new ManagedTodoResponse(9L, "title9", "Sunny", now),
+                new ManagedTodoResponse(7L, "title7", "Sunny", now),
+                new ManagedTodoResponse(3L, "title3", "Sunny", now)
         ));
 
-        long todoId = 1L;
-        Todo todo = TestUtils.createEntity(Todo.class, Map.of(
-                "id", todoId,
-                "title", "Test Title",
-                "contents", "Test Contents",
-                "weather", "Sunny",
-                "user", user
+        // when
+        ManagedTodoListResponse response = managerService.getManagedTodos(userId, null, size);
+
+        // then
+        assertThat(response.getTodos()).extracting("id").containsExactly(9L, 7L);
+        assertThat(response.getNextCursor()).isEqualTo(7L);
+        verify(managerRepository).findManagedTodos(userId, Long.MAX_VALUE, PageRequest.of(0, size + 1));
+    }
+
+    @Test
+    @DisplayName("담당 일정의 마지막 페이지라면 cursor 로 null 을 반환한다.")
+    void getManagedTodos_lastPage() {
+        // given
+        long userId = 1L;
+        long cursor = 7L;
+        given(managerRepository.findManagedTodos(eq(userId), eq(cursor), any(Pageable.class))).willReturn(List.of(
+                new ManagedTodoResponse(3L, "title3", "Sunny", LocalDateTime.of(2025, 9, 1, 0, 0))
         ));
 
+        // when
+        ManagedTodoListResponse response = managerService.getManagedTodos(userId, cursor, 2);
+
+        // then
+        assertThat(response.getTodos()).extracting("id").containsExactly(3L);
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("담당 일정 조회 시 size 가 허용 범위를 벗어나면 에러를 반환한다.")
+    void getManagedTodosFails_whenSizeIsOutOfRange() {
+        // when & then
+        assertThatThrownBy(() -> managerService.getManagedTodos(1L, null, 0))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("size 는 1 이상 100 이하여야 합니다.");
+        verifyNoInteractions(managerRepository);
+    }
+
+    @Test
+    @DisplayName("일정을 등록한 담당자는 일정을 삭제할 수 있다.")
+    void deleteManager() {
+        // given
+        long userId = 1L;
+        long todoId = 1L;
         long managerId = 1L;
-        Manager manager = TestUtils.createEntity(Manager.class, Map.of(
-                "id", managerId,
-                "user", user,
-                "todo", todo
-        ));
 
-        given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
-        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
-        given(managerRepository.findById(anyLong())).willReturn(Optional.of(manager));
+        given(managerRepository.findDeleteCheck(todoId, managerId))
+                .willReturn(Optional.of(new ManagerDeleteCheck(userId, todoId)));
 
         // when
         managerService.deleteManager(userId, todoId, managerId);
 
         // then
-        verify(managerRepository, times(1)).delete(manager);
+        // 검증 조회 1회 + DELETE 1회
+        verify(managerRepository, times(1)).findDeleteCheck(todoId, managerId);
+        verify(managerRepository, times(1)).deleteManagerById(managerId);
+        verifyNoMoreInteractions(managerRepository);
+        verifyNoInteractions(userRepository, todoRepository);
     }
 
     @Test
@@ -213,31 +403,12 @@ class ManagerServiceTest {
     void deleteManagerFails_whenWriterIsInvalid() {
         // given
         long userId = 1L;
-        User user = TestUtils.createEntity(User.class, Map.of(
-                "id", userId,
-                "email", "test@test.com",
-                "userRole", UserRole.USER
-        ));
-
-        User writer = TestUtils.createEntity(User.class, Map.of(
-                "id", 2L,
-                "email", "writer@writer.com",
-                "userRole", UserRole.USER
-        ));
-
+        long writerId = 2L;
         long todoId = 1L;
-        Todo todo = TestUtils.createEntity(Todo.class, Map.of(
-                "id", todoId,
-                "title", "Test Title",
-                "contents", "Test Contents",
-                "weather", "Sunny",
-                "user", writer
-        ));
-
         long managerId = 1L;
 
-        given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
-        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+        given(managerRepository.findDeleteCheck(todoId, managerId))
+                .willReturn(Optional.of(new ManagerDeleteCheck(writerId, todoId)));
 
         // when & then
         assertThatThrownBy(() -> managerService.deleteManager(userId, todoId, managerId))
@@ -250,24 +421,11 @@ class ManagerServiceTest {
     void deleteManagerFails_whenWriterIsNull() {
         // given
         long userId = 1L;
-        User user = TestUtils.createEntity(User.class, Map.of(
-                "id", userId,
-                "email", "test@test.com",
-                "userRole", UserRole.USER
-        ));
-
         long todoId = 1L;
-        Todo todo = TestUtils.createEntity(Todo.class, Map.of(
-                "id", todoId,
-                "title", "Test Title",
-                "contents", "Test Contents",
-                "weather", "Sunny"
-        ));
-
         long managerId = 1L;
 
-        given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
-        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+        given(managerRepository.findDeleteCheck(todoId, managerId))
+                .willReturn(Optional.of(new ManagerDeleteCheck(null, todoId)));
 
         // when & then
         assertThatThrownBy(() -> managerService.deleteManager(userId, todoId, managerId))
@@ -276,34 +434,34 @@ class ManagerServiceTest {
     }
 
     @Test
-    @DisplayName("일정을 등록한 담당자는 일정을 삭제할 수 있다.")
-    void deleteManagerFails_whenUserIsNotAssigneeOfTodo() {
+    @DisplayName("삭제하려는 담당자가 존재하지 않는다면 에러를 반환한다.")
+    void deleteManagerFails_whenManagerIsEmpty() {
         // given
         long userId = 1L;
-        User user = TestUtils.createEntity(User.class, Map.of(
-                "id", userId
-        ));
-
         long todoId = 1L;
-        Todo todo = TestUtils.createEntity(Todo.class, Map.of(
-                "id", todoId,
-                "user", user
-        ));
+        long managerId = 1L;
 
-        Todo anothorTodo = TestUtils.createEntity(Todo.class, Map.of(
-                "id", 2L
-        ));
+        given(managerRepository.findDeleteCheck(todoId, managerId))
+                .willReturn(Optional.of(new ManagerDeleteCheck(userId, null)));
+
+        // when & then
+        assertThatThrownBy(() -> managerService.deleteManager(userId, todoId, managerId))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Manager not found");
+        verify(managerRepository, never()).deleteManagerById(anyLong());
+    }
 
+    @Test
+    @DisplayName("다른 일정에 등록된 담당자는 삭제할 수 없다.")
+    void deleteManagerFails_whenUserIsNotAssigneeOfTodo() {
+        // given
+        long userId = 1L;
+        long todoId = 1L;
+        long anotherTodoId = 2L;
         long managerId = 1L;
-        Manager manager = TestUtils.createEntity(Manager.class, Map.of(
-                "id", managerId,
-                "user", user,
-                "todo", anothorTodo
-        ));
 
-        given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
-        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
-        given(managerRepository.findById(anyLong())).willReturn(Optional.of(manager));
+        given(managerRepository.findDeleteCheck(todoId, managerId))
+                .willReturn(Optional.of(new ManagerDeleteCheck(userId, anotherTodoId)));
 
         // when & then
         assertThatThrownBy(() -> managerService.deleteManager(userId, todoId, managerId))
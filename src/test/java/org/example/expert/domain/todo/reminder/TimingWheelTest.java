@@ -0,0 +1,90 @@
+package org.example.expert.domain.todo.reminder;
+
+import org.example.expert.domain.todo.reminder.TimingWheel.Timeout;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("단계와 overflow 에 걸친 항목도 만기보다 일찍 발화하지 않고 한 틱 안에 발화한다.")
+    void advanceTo_firesWithinOneTick() {
+        // given
+        // 4 슬롯 x 2단계 = 16 틱이므로 대부분의 항목이 위 단계나 overflow 를 거친다
+        long tickMillis = 10;
+        TimingWheel<Integer> wheel = new TimingWheel<>(1_000, tickMillis, 2, 2);
+        SplittableRandom random = new SplittableRandom(42);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = 1_000 + 1 + random.nextLong(5_000);
+            deadlines.put(i, deadline);
+            wheel.add(deadline, i);
+        }
+
+        // when
+        Map<Integer, Long> firedAt = new HashMap<>();
+        long now = 1_000;
+        while (now < 7_000) {
+            now += 1 + random.nextInt(50);
+            wheel.advanceTo(now, timeout -> firedAt.put(timeout.value(), wheel.currentTimeMillis()));
+        }
+
+        // then
+        assertThat(firedAt).hasSameSizeAs(deadlines);
+        assertThat(wheel.size()).isZero();
+        deadlines.forEach((value, deadline) ->
+                assertThat(firedAt.get(value)).isGreaterThanOrEqualTo(deadline).isLessThan(deadline + tickMillis));
+    }
+
+    @Test
+    @DisplayName("취소한 항목은 발화하지 않고, 이미 발화한 항목은 취소되지 않는다.")
+    void cancel() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(0, 100, 8, 3);
+        Timeout<String> canceled = wheel.add(60_000, "canceled");
+        Timeout<String> fired = wheel.add(30_000, "fired");
+        List<String> values = new ArrayList<>();
+
+        // when
+        boolean result = wheel.cancel(canceled);
+        wheel.advanceTo(120_000, timeout -> values.add(timeout.value()));
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(values).containsExactly("fired");
+        assertThat(wheel.cancel(fired)).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 지난 만기는 다음 틱에 발화하고, 발화 중에 다시 예약한 항목도 이어서 발화한다.")
+    void add_pastDeadlineFiresOnNextTick() {
+        // given
+        TimingWheel<Integer> wheel = new TimingWheel<>(10_000, 100, 8, 3);
+        wheel.add(5_000, 1);
+        List<Long> firedAt = new ArrayList<>();
+        Consumer<Timeout<Integer>> refire = timeout -> {
+            firedAt.add(wheel.currentTimeMillis());
+            if (timeout.value() < 3) {
+                wheel.add(timeout.deadlineMillis(), timeout.value() + 1);
+            }
+        };
+
+        // when
+        wheel.advanceTo(10_050, refire);
+        wheel.advanceTo(10_100, refire);
+        wheel.advanceTo(10_300, refire);
+
+        // then
+        assertThat(firedAt).containsExactly(10_100L, 10_200L, 10_300L);
+    }
+}
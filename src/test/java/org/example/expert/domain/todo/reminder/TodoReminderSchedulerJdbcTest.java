@@ -0,0 +1,113 @@
+package org.example.expert.domain.todo.reminder;
+
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoDueAtChangedEvent;
+import org.example.expert.domain.todo.event.TodoReminderEvent;
+import org.example.expert.domain.todo.repository.TodoReminderJdbcRepository;
+import org.example.expert.domain.todo.repository.WeatherJdbcRepository;
+import org.example.expert.domain.todo.weather.WeatherDictionary;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("querycount")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TodoReminderJdbcRepository.class, WeatherDictionary.class, WeatherJdbcRepository.class})
+// JdbcTemplate 으로 실행하는 SQL 이 H2(MySQL 모드)에서도 동작하는지 확인한다
+class TodoReminderSchedulerJdbcTest {
+
+    private static final int LOAD_BATCH_SIZE = 2;
+
+    @Autowired
+    TodoReminderJdbcRepository repository;
+
+    @Autowired
+    TestEntityManager em;
+
+    private final List<TodoReminderEvent> published = new ArrayList<>();
+    private final List<Long> dueTodoIds = new ArrayList<>();
+    private List<Todo> todos;
+    private TodoReminderScheduler scheduler;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        // 마감은 초 단위로 저장된다
+        now = System.currentTimeMillis() / 1_000 * 1_000;
+        User user = em.persist(new User("owner@example.com", "password", UserRole.USER));
+        long[] offsets = {10_000, 10_000, -10_000, 10_000, 20_000, 120_000, 30_000};
+        for (long offset : offsets) {
+            Todo todo = new Todo("title", "contents", "Sunny", user);
+            todo.changeDueAt(new Timestamp(now + offset).toLocalDateTime());
+            em.persist(todo);
+        }
+        em.persist(new Todo("title", "contents", "Sunny", user));
+        em.flush();
+        em.clear();
+
+        todos = em.getEntityManager().createQuery("select t from Todo t order by t.id", Todo.class).getResultList();
+        // (due_at, id) 순서: +10s 3건, +20s, +30s (-10s 는 발행 위치 이전, +120s 는 구간 밖)
+        for (int i : new int[]{0, 1, 3, 4, 6}) {
+            dueTodoIds.add(todos.get(i).getId());
+        }
+        scheduler = new TodoReminderScheduler(repository, event -> published.add((TodoReminderEvent) event), 100, 60_000, 1_000, LOAD_BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("구간 안의 마감을 배치 크기만큼씩 (due_at, id) 순서로 이어 읽어 발행하고, 발행 위치를 기록한다.")
+    void loadWindowAndCheckpoint() {
+        // given
+        scheduler.recover(now);
+
+        // when
+        scheduler.poll(now);
+        scheduler.poll(now + 30_000);
+
+        // then
+        assertThat(published).extracting(TodoReminderEvent::getTodoId).containsExactlyElementsOf(dueTodoIds);
+        assertThat(repository.findFiredThrough()).contains(now + 30_000);
+    }
+
+    @Test
+    @DisplayName("마감 변경 이벤트를 받으면 커밋된 due_at 을 다시 읽어 예약을 옮기고, 마감을 없앤 todo 는 취소한다.")
+    void onTodoDueAtChanged_readsCommittedDueAt() {
+        // given
+        scheduler.recover(now);
+        scheduler.poll(now);
+        Todo moved = em.find(Todo.class, todos.get(0).getId());
+        moved.changeDueAt(new Timestamp(now + 40_000).toLocalDateTime());
+        Todo cleared = em.find(Todo.class, todos.get(1).getId());
+        cleared.changeDueAt(null);
+        em.flush();
+
+        // when
+        scheduler.onTodoDueAtChanged(new TodoDueAtChangedEvent(moved.getId()));
+        scheduler.onTodoDueAtChanged(new TodoDueAtChangedEvent(cleared.getId()));
+        scheduler.poll(now + 30_000);
+
+        // then
+        assertThat(published).extracting(TodoReminderEvent::getTodoId)
+                .containsExactly(todos.get(3).getId(), todos.get(4).getId(), todos.get(6).getId());
+
+        // when
+        scheduler.poll(now + 40_000);
+
+        // then
+        assertThat(published).extracting(TodoReminderEvent::getTodoId).last().isEqualTo(moved.getId());
+    }
+}
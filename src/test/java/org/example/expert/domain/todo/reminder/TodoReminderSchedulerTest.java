@@ -0,0 +1,172 @@
+package org.example.expert.domain.todo.reminder;
+
+import org.example.expert.domain.todo.event.TodoDueAtChangedEvent;
+import org.example.expert.domain.todo.event.TodoReminderEvent;
+import org.example.expert.domain.todo.repository.TodoReminderJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoReminderSchedulerTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long WINDOW_MILLIS = 60_000;
+
+    @Mock
+    TodoReminderJdbcRepository repository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    TodoReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new TodoReminderScheduler(repository, eventPublisher, 100, WINDOW_MILLIS, 1_000, 100);
+    }
+
+    @Test
+    @DisplayName("재시작하면 기록된 위치 이후의 마감부터 읽어, 중단된 동안 지난 리마인더를 곧바로 발행하고 위치를 기록한다.")
+    void recover_firesMissedRemindersAndCheckpoints() {
+        // given
+        long firedThrough = NOW - 10_000;
+        given(repository.findFiredThrough()).willReturn(Optional.of(firedThrough));
+        given(repository.findDueAfter(anyLong(), anyLong(), anyLong(), anyInt())).willReturn(List.of(
+                new long[]{1, firedThrough + 500},
+                new long[]{2, NOW - 1_000},
+                new long[]{3, NOW + 1_000}
+        ));
+
+        // when
+        scheduler.recover(NOW);
+        scheduler.poll(NOW);
+        scheduler.poll(NOW + 100);
+
+        // then
+        verify(repository).findDueAfter(firedThrough, Long.MAX_VALUE, NOW + WINDOW_MILLIS, 100);
+        assertThat(publishedTodoIds(2)).containsExactly(1L, 2L);
+
+        // when
+        scheduler.poll(NOW + 1_000);
+
+        // then
+        assertThat(publishedTodoIds(3)).containsExactly(1L, 2L, 3L);
+        verify(repository).saveFiredThrough(NOW + 1_000);
+    }
+
+    @Test
+    @DisplayName("구간을 읽은 뒤 바뀐 마감은 이벤트를 받아 커밋된 마감을 다시 읽어 옮기고, 마감을 없애거나 구간 밖으로 미루면 취소한다.")
+    void onTodoDueAtChanged_reschedules() {
+        // given
+        given(repository.findFiredThrough()).willReturn(Optional.empty());
+        given(repository.findDueAfter(anyLong(), anyLong(), anyLong(), anyInt())).willReturn(List.of(
+                new long[]{1, NOW + 500},
+                new long[]{2, NOW + 500},
+                new long[]{3, NOW + 500}
+        ));
+        scheduler.recover(NOW);
+        scheduler.poll(NOW);
+        // 2번은 마감을 없앴다
+        given(repository.findDueAtIn(List.of(1L, 2L, 3L))).willReturn(Map.of(1L, NOW + 2_000, 3L, NOW + WINDOW_MILLIS * 2));
+
+        // when
+        scheduler.onTodoDueAtChanged(new TodoDueAtChangedEvent(1));
+        scheduler.onTodoDueAtChanged(new TodoDueAtChangedEvent(2));
+        scheduler.onTodoDueAtChanged(new TodoDueAtChangedEvent(3));
+        scheduler.poll(NOW + 1_000);
+
+        // then
+        verify(repository).saveFiredThrough(NOW);
+        verify(eventPublisher, never()).publishEvent(any());
+
+        // when
+        scheduler.poll(NOW + 2_000);
+
+        // then
+        ArgumentCaptor<TodoReminderEvent> captor = ArgumentCaptor.forClass(TodoReminderEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getTodoId()).isEqualTo(1L);
+        assertThat(captor.getValue().getDueAt()).isEqualTo(toLocalDateTime(NOW + 2_000));
+    }
+
+    @Test
+    @DisplayName("같은 todo 의 이벤트가 커밋 순서와 다르게 도착해도 커밋된 마감으로 예약하고, 읽지 못한 변경은 다음 틱에 다시 읽는다.")
+    void onTodoDueAtChanged_usesCommittedDueAt() {
+        // given - 1번의 마감을 +500ms → +2s 로 바꿨고, 나중 커밋의 이벤트가 먼저 도착했다
+        given(repository.findFiredThrough()).willReturn(Optional.empty());
+        given(repository.findDueAfter(anyLong(), anyLong(), anyLong(), anyInt())).willReturn(List.of());
+        given(repository.findDueAtIn(List.of(1L)))
+                .willThrow(new IllegalStateException("connection refused"))
+                .willReturn(Map.of(1L, NOW + 2_000));
+        scheduler.recover(NOW);
+        scheduler.poll(NOW);
+
+        // when
+        scheduler.onTodoDueAtChanged(new TodoDueAtChangedEvent(1));
+        scheduler.onTodoDueAtChanged(new TodoDueAtChangedEvent(1));
+
+        // then
+        assertThatThrownBy(() -> scheduler.poll(NOW + 100)).isInstanceOf(IllegalStateException.class);
+        scheduler.poll(NOW + 1_000);
+        verify(eventPublisher, never()).publishEvent(any());
+
+        // when
+        scheduler.poll(NOW + 2_000);
+
+        // then
+        assertThat(publishedTodoIds(1)).containsExactly(1L);
+        verify(repository, times(2)).findDueAtIn(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("구간을 읽지 못한 채 멈추면 발행 위치를 기록하지 않는다. (읽지 않은 마감을 건너뛰지 않는다)")
+    void stop_afterLoadFailureKeepsFiredThrough() {
+        // given
+        long firedThrough = System.currentTimeMillis() - 10_000;
+        given(repository.findFiredThrough()).willReturn(Optional.of(firedThrough));
+        given(repository.findDueAfter(anyLong(), anyLong(), anyLong(), anyInt()))
+                .willThrow(new IllegalStateException("connection refused"));
+
+        // when
+        scheduler.start();
+        verify(repository, timeout(1_000).atLeastOnce()).findDueAfter(anyLong(), anyLong(), anyLong(), anyInt());
+        scheduler.stop();
+
+        // then
+        verify(repository, never()).saveFiredThrough(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private List<Long> publishedTodoIds(int times) {
+        ArgumentCaptor<TodoReminderEvent> captor = ArgumentCaptor.forClass(TodoReminderEvent.class);
+        verify(eventPublisher, times(times)).publishEvent(captor.capture());
+        return captor.getAllValues().stream().map(TodoReminderEvent::getTodoId).toList();
+    }
+
+    private static LocalDateTime toLocalDateTime(long millis) {
+        return new Timestamp(millis).toLocalDateTime();
+    }
+}
@@ -0,0 +1,221 @@
+package org.example.expert.domain.todo.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TodoSearchIndexTest {
+
+    @TempDir
+    Path directory;
+
+    private TodoSearchIndex openIndex() {
+        TodoSearchIndex index = new TodoSearchIndex(directory.toString(), TodoSearchIndex.MERGE_FACTOR);
+        index.open();
+        return index;
+    }
+
+    @Test
+    @DisplayName("검색어가 더 자주, 더 짧은 문서에 나올수록 높은 점수를 받는다.")
+    void search_ranksByBm25() {
+        // given
+        TodoSearchIndex index = openIndex();
+        index.update(Map.of(
+                1L, "deploy release notes",
+                2L, "deploy deploy hotfix",
+                3L, "weekly meeting agenda and a very long list of unrelated words about deploy"
+        ), Map.of(), List.of(), new IndexCheckpoint(3, 0));
+
+        // when
+        TodoSearchResult result = index.search("Deploy", 10);
+
+        // then
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getHits()).extracting(SearchHit::getTodoId).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("한글은 2글자 단위로 색인되어 조사가 붙은 단어도 찾을 수 있다.")
+    void search_matchesHangulBigrams() {
+        // given
+        TodoSearchIndex index = openIndex();
+        index.update(Map.of(1L, "서버를 배포했다", 2L, "회의록 정리"), Map.of(), List.of(), new IndexCheckpoint(2, 0));
+
+        // when
+        TodoSearchResult result = index.search("배포", 10);
+
+        // then
+        assertThat(result.getHits()).extracting(SearchHit::getTodoId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("다시 색인한 todo 는 새 내용으로만 검색되고, 제거한 todo 는 검색되지 않는다.")
+    void update_replacesAndRemovesDocuments() {
+        // given
+        TodoSearchIndex index = openIndex();
+        index.update(Map.of(1L, "alpha", 2L, "alpha beta"), Map.of(), List.of(), new IndexCheckpoint(2, 0));
+
+        // when
+        index.update(Map.of(1L, "gamma"), Map.of(), List.of(2L), new IndexCheckpoint(2, 1));
+
+        // then
+        assertThat(index.search("alpha", 10).getTotal()).isZero();
+        assertThat(index.search("gamma", 10).getHits()).extracting(SearchHit::getTodoId).containsExactly(1L);
+        assertThat(index.stats())
+                .extracting("documents", "deletedDocuments")
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("재시작하면 디스크에 기록된 세그먼트와 checkpoint 로 색인을 복원한다.")
+    void open_restoresFromDisk() {
+        // given
+        TodoSearchIndex index = openIndex();
+        index.update(Map.of(1L, "alpha", 2L, "beta"), Map.of(), List.of(), new IndexCheckpoint(2, 0));
+        index.update(Map.of(), Map.of(), List.of(1L), new IndexCheckpoint(2, 7));
+
+        // when
+        TodoSearchIndex reopened = new TodoSearchIndex(directory.toString(), TodoSearchIndex.MERGE_FACTOR);
+        IndexCheckpoint checkpoint = reopened.open();
+
+        // then
+        assertThat(checkpoint).isEqualTo(new IndexCheckpoint(2, 7));
+        assertThat(reopened.search("alpha", 10).getTotal()).isZero();
+        assertThat(reopened.search("beta", 10).getHits()).extracting(SearchHit::getTodoId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("세그먼트가 최대 개수를 넘으면 삭제된 문서를 빼고 병합하며, 병합 전과 같은 결과를 반환한다.")
+    void update_mergesSegments() {
+        // given
+        TodoSearchIndex index = openIndex();
+        for (long id = 1; id <= TodoSearchIndex.MERGE_FACTOR; id++) {
+            index.update(Map.of(id, "common term" + id), Map.of(), List.of(), new IndexCheckpoint(id, 0));
+        }
+        index.update(Map.of(1L, "common replaced"), Map.of(), List.of(), new IndexCheckpoint(5, 1));
+
+        // when
+        TodoSearchResult result = index.search("common", 10);
+
+        // then
+        assertThat(index.stats().getSegments()).isLessThanOrEqualTo(2);
+        assertThat(index.stats().getDeletedDocuments()).isZero();
+        assertThat(result.getHits()).extracting(SearchHit::getTodoId)
+                .containsExactlyInAnyOrderElementsOf(Set.of(1L, 2L, 3L, 4L, 5L));
+        assertThat(index.search("replaced", 10).getHits()).extracting(SearchHit::getTodoId).containsExactly(1L);
+        assertThat(index.search("term1", 10).getTotal()).isZero();
+    }
+
+    @Test
+    @DisplayName("덧붙인 댓글은 기존 문서를 지우지 않고 조각으로 쌓이며, 조각들의 빈도와 길이를 합친 문서 하나로 점수를 받는다.")
+    void update_appendsCommentsAsParts() {
+        // given
+        TodoSearchIndex whole = new TodoSearchIndex(directory.resolve("whole").toString(), TodoSearchIndex.MERGE_FACTOR);
+        whole.open();
+        whole.update(Map.of(1L, "deploy notes\nrollback plan\nrollback done", 2L, "rollback drill"), Map.of(), List.of(), new IndexCheckpoint(2, 2));
+        TodoSearchIndex index = openIndex();
+        index.update(Map.of(1L, "deploy notes", 2L, "rollback drill"), Map.of(), List.of(), new IndexCheckpoint(2, 0));
+
+        // when
+        index.update(Map.of(), Map.of(1L, "rollback plan"), List.of(), new IndexCheckpoint(2, 1));
+        index.update(Map.of(), Map.of(1L, "rollback done"), List.of(), new IndexCheckpoint(2, 2));
+
+        // then - 같은 todo 는 한 번만 세고, 점수는 한 번에 색인한 것과 같다
+        TodoSearchResult result = index.search("rollback", 10);
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getHits()).extracting(SearchHit::getTodoId).containsExactly(1L, 2L);
+        assertThat(scoreOf(index, "notes", 1L)).isCloseTo(scoreOf(whole, "notes", 1L), within(1e-6));
+        assertThat(scoreOf(index, "plan", 1L)).isCloseTo(scoreOf(whole, "plan", 1L), within(1e-6));
+        assertThat(index.stats())
+                .extracting("documents", "deletedDocuments", "segments")
+                .containsExactly(2L, 0L, 3);
+    }
+
+    @Test
+    @DisplayName("조각으로 나뉜 todo 는 병합하면 문서 하나로 합쳐지고, 재시작해도 조각을 다시 묶으며, 다시 색인하면 모든 조각이 지워진다.")
+    void update_mergesReopensAndReplacesParts() {
+        // given
+        TodoSearchIndex index = openIndex();
+        index.update(Map.of(1L, "deploy notes", 2L, "deploy drill"), Map.of(), List.of(), new IndexCheckpoint(2, 0));
+        index.update(Map.of(), Map.of(1L, "deploy again"), List.of(), new IndexCheckpoint(2, 1));
+        double split = scoreOf(index, "again", 1L);
+
+        // when - 재시작
+        TodoSearchIndex reopened = new TodoSearchIndex(directory.toString(), TodoSearchIndex.MERGE_FACTOR);
+        reopened.open();
+
+        // then
+        assertThat(scoreOf(reopened, "again", 1L)).isEqualTo(split);
+        assertThat(reopened.stats().getDocuments()).isEqualTo(2);
+
+        // when - 병합
+        for (long commentId = 2; commentId <= TodoSearchIndex.MERGE_FACTOR + 1; commentId++) {
+            reopened.update(Map.of(), Map.of(1L, "note" + commentId), List.of(), new IndexCheckpoint(2, commentId));
+        }
+
+        // then
+        assertThat(reopened.stats().getSegments()).isEqualTo(3);
+        assertThat(reopened.stats().getDocuments()).isEqualTo(2);
+        assertThat(reopened.search("deploy", 10).getTotal()).isEqualTo(2);
+        assertThat(reopened.search("note6", 10).getHits()).extracting(SearchHit::getTodoId).containsExactly(1L);
+
+        // when - 다시 색인
+        reopened.update(Map.of(1L, "rewritten"), Map.of(), List.of(), new IndexCheckpoint(2, 7));
+
+        // then
+        assertThat(reopened.search("deploy again note6", 10).getHits()).extracting(SearchHit::getTodoId).containsExactly(2L);
+        assertThat(reopened.search("rewritten", 10).getTotal()).isEqualTo(1);
+        assertThat(reopened.stats().getDocuments()).isEqualTo(2);
+    }
+
+    private static double scoreOf(TodoSearchIndex index, String query, long todoId) {
+        return index.search(query, 10).getHits().stream()
+                .filter(hit -> hit.getTodoId() == todoId)
+                .findFirst()
+                .orElseThrow()
+                .getScore();
+    }
+
+    @Test
+    @DisplayName("점수 누적기는 같은 ordinal 의 점수를 합산하고, 일치가 드물면 세그먼트 문서 수가 아니라 포스팅 수만큼만 칸을 만든다.")
+    void scoreAccumulator_sumsPerOrdinal() {
+        // given - 1,000,000 문서짜리 세그먼트에 흩어진 1,000 개 문서가 세 term 에 모두 일치
+        TodoSearchIndex.ScoreAccumulator sparse = new TodoSearchIndex.ScoreAccumulator(3_000, 1_000_000);
+        TodoSearchIndex.ScoreAccumulator dense = new TodoSearchIndex.ScoreAccumulator(3_000, 10_000);
+
+        // when
+        for (int term = 0; term < 3; term++) {
+            for (int ordinal = 0; ordinal < 1_000_000; ordinal += 1_000) {
+                sparse.add(ordinal, 1.5f);
+                dense.add(ordinal / 100, 1.5f);
+            }
+        }
+
+        // then
+        assertThat(sparse.capacity()).isLessThanOrEqualTo(4 * 3_000);
+        assertThat(dense.capacity()).isEqualTo(10_000);
+        assertThat(collect(sparse)).hasSize(1_000).containsEntry(0, 4.5f).containsEntry(999_000, 4.5f);
+        assertThat(collect(dense)).hasSize(1_000).containsEntry(0, 4.5f).containsEntry(9_990, 4.5f);
+        assertThat(sparse.size()).isEqualTo(1_000);
+        assertThat(dense.size()).isEqualTo(1_000);
+    }
+
+    private static Map<Integer, Float> collect(TodoSearchIndex.ScoreAccumulator scores) {
+        Map<Integer, Float> collected = new HashMap<>();
+        for (int slot = 0; slot < scores.capacity(); slot++) {
+            if (scores.ordinalAt(slot) >= 0) {
+                collected.put(scores.ordinalAt(slot), scores.scoreAt(slot));
+            }
+        }
+        return collected;
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.search.SearchHit;
+import org.example.expert.domain.todo.search.TodoSearchIndex;
+import org.example.expert.domain.todo.search.TodoSearchResult;
+import org.example.expert.domain.user.directory.UserDirectory;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoSearchServiceTest {
+
+    @Mock
+    TodoSearchIndex todoSearchIndex;
+
+    @Mock
+    TodoRepository todoRepository;
+
+    @Mock
+    UserDirectory userDirectory;
+
+    @InjectMocks
+    TodoSearchService todoSearchService;
+
+    @Test
+    @DisplayName("검색 결과 페이지의 todo 를 id 로 조회해 점수 순서대로 반환하고, 이미 삭제된 todo 는 건너뛴다.")
+    void searchTodos() {
+        // given
+        User user = new User("email", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        Todo first = new Todo("deploy", "deploy server", "Sunny", user);
+        ReflectionTestUtils.setField(first, "id", 3L);
+
+        given(todoSearchIndex.search("deploy", 4)).willReturn(new TodoSearchResult(5, List.of(
+                new SearchHit(9L, 3.0), new SearchHit(8L, 2.5),
+                new SearchHit(3L, 2.0), new SearchHit(7L, 1.5))));
+        given(todoRepository.findAllById(List.of(3L, 7L))).willReturn(List.of(first));
+
+        // when
+        Page<TodoSearchResponse> result = todoSearchService.searchTodos("deploy", 2, 2);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(5);
+        assertThat(result.getContent())
+                .extracting(TodoSearchResponse::getId, TodoSearchResponse::getScore)
+                .containsExactly(tuple(3L, 2.0));
+    }
+
+    @Test
+    @DisplayName("검색 결과 범위를 넘는 페이지를 요청하면 에러를 반환한다.")
+    void searchTodosFails_whenBeyondResultWindow() {
+        // when & then
+        assertThatThrownBy(() -> todoSearchService.searchTodos("deploy", 101, 10))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("검색 결과는 앞쪽 1000건까지만 조회할 수 있습니다.");
+        verify(todoSearchIndex, never()).search(anyString(), anyInt());
+    }
+}
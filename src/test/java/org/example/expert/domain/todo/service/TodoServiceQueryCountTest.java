@@ -0,0 +1,171 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.sql.SqlCountConfig;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoSort;
+import org.example.expert.domain.todo.repository.WeatherJdbcRepository;
+import org.example.expert.domain.todo.weather.WeatherDictionary;
+import org.example.expert.domain.user.directory.UserDirectory;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.utils.SqlCountExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.expert.utils.SqlCountExtension.countOf;
+import static org.mockito.BDDMockito.given;
+
+@DataJpaTest
+@ActiveProfiles("querycount")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SqlCountConfig.class, PersistenceConfig.class, TodoService.class, UserDirectory.class, WeatherDictionary.class, WeatherJdbcRepository.class})
+@ExtendWith(SqlCountExtension.class)
+class TodoServiceQueryCountTest {
+
+    @Autowired
+    TodoService todoService;
+
+    @Autowired
+    UserDirectory userDirectory;
+
+    @Autowired
+    TestEntityManager em;
+
+    @MockBean
+    WeatherClient weatherClient;
+
+    private User user;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(new User("owner@example.com", "password", UserRole.USER));
+        for (int i = 0; i < 5; i++) {
+            User author = em.persist(new User("author" + i + "@example.com", "password", UserRole.USER));
+            todo = em.persist(new Todo("title" + i, "contents", "Sunny", author));
+        }
+        em.flush();
+        em.clear();
+        userDirectory.load();
+    }
+
+    @Test
+    @DisplayName("saveTodo 는 본문, todo, 작성자 담당자 insert 3건만 실행한다.")
+    void saveTodo() throws Exception {
+        // given
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.USER);
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+
+        // when
+        long count = countOf(() -> {
+            todoService.saveTodo(authUser, new TodoSaveRequest("title", "contents", null, null));
+            em.flush();
+        });
+
+        // then
+        assertThat(count).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("getTodos 는 작성자 수와 관계없이 마지막 페이지면 목록 조회 1건만 실행한다.")
+    void getTodos_lastPage() throws Exception {
+        // when
+        long count = countOf(() -> todoService.getTodos(1, 10, TodoSearchCondition.latest()));
+
+        // then
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getTodos 는 다음 페이지가 있으면 목록 조회와 count 조회 2건만 실행한다.")
+    void getTodos_fullPage() throws Exception {
+        // when
+        long count = countOf(() -> todoService.getTodos(1, 2, TodoSearchCondition.latest()));
+
+        // then
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("getTodo 는 본문을 조인해 함께 읽고 작성자는 따로 조회하지 않아 1건만 실행한다.")
+    void getTodo() throws Exception {
+        // when
+        long count = countOf(() -> todoService.getTodo(todo.getId()));
+
+        // then
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getTodos 에 fields 를 지정하면 요청한 필드와 id 만 담아 목록 조회 1건만 실행한다.")
+    void getTodos_withFields() throws Exception {
+        // given
+        List<Map<String, Object>> content = new ArrayList<>();
+
+        // when
+        long count = countOf(() -> content.addAll(todoService.getTodos(1, 10, "title,user", TodoSearchCondition.latest()).getContent()));
+
+        // then
+        assertThat(count).isEqualTo(1);
+        assertThat(content).hasSize(5);
+        assertThat(content.get(0)).containsOnlyKeys("id", "title", "user");
+        assertThat(content.get(0).get("user")).isInstanceOf(UserResponse.class);
+    }
+
+    @Test
+    @DisplayName("작성자와 생성일 기간으로 필터링하면 조건에 맞는 todo 만 생성일 순으로 목록 조회 1건에 가져온다.")
+    void getTodos_filteredByAuthorAndCreatedRange() throws Exception {
+        // given
+        Long authorId = todo.getUser().getId();
+        TodoSearchCondition condition = new TodoSearchCondition(null, authorId,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), null, null, TodoSort.CREATED_AT_ASC);
+        List<TodoSummaryResponse> content = new ArrayList<>();
+
+        // when
+        long count = countOf(() -> content.addAll(todoService.getTodos(1, 10, condition).getContent()));
+
+        // then
+        assertThat(count).isEqualTo(1);
+        assertThat(content).extracting("id").containsExactly(todo.getId());
+    }
+
+    @Test
+    @DisplayName("날씨로 필터링하면 weather_id 로 비교하고 일치하지 않는 날씨는 제외한다.")
+    void getTodos_filteredByWeather() {
+        // given
+        TodoSearchCondition sunny = new TodoSearchCondition("Sunny", null, null, null, null, null, TodoSort.DEFAULT);
+        em.persist(new Todo("rainy", "contents", "Rainy", user));
+        em.flush();
+        em.clear();
+
+        // when
+        Page<TodoSummaryResponse> page = todoService.getTodos(1, 10, sunny);
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).extracting("weather").containsOnly("Sunny");
+    }
+}
@@ -3,23 +3,36 @@ package org.example.expert.domain.todo.service;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoDueAtRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoDueAtResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoSort;
+import org.example.expert.domain.todo.event.TodoDueAtChangedEvent;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.weather.WeatherDictionary;
+import org.example.expert.domain.user.directory.UserDirectory;
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
@@ -30,6 +43,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class TodoServiceTest {
@@ -40,6 +55,15 @@ class TodoServiceTest {
     @Mock
     WeatherClient weatherClient;
 
+    @Mock
+    UserDirectory userDirectory;
+
+    @Mock
+    WeatherDictionary weatherDictionary;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     TodoService todoService;
 
@@ -48,7 +72,7 @@ class TodoServiceTest {
     void success_saveTodo() {
         // given
         AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
-        TodoSaveRequest todoSaveRequest = new TodoSaveRequest("title", "contents");
+        TodoSaveRequest todoSaveRequest = new TodoSaveRequest("title", "contents", null, null);
         User user = User.fromAuthUser(authUser);
         Todo todo = new Todo("title", "title", "contents", user);
         ReflectionTestUtils.setField(todo, "id", 1L);
@@ -89,17 +113,83 @@ class TodoServiceTest {
         ReflectionTestUtils.setField(todo1, "modifiedAt", LocalDateTime.of(2025, 8, 31, 4, 45, 10, 4));
 
 
-        given(todoRepository.findAllByOrderByModifiedAtDesc(any(Pageable.class))).willReturn(
+        given(todoRepository.findAll(ArgumentMatchers.<Specification<Todo>>any(), any(Pageable.class))).willReturn(
                 new PageImpl<>(List.of(todo1, todo2, todo3), PageRequest.of(0, 3), 4)
         );
+        given(userDirectory.getUserResponse(1L)).willReturn(new UserResponse(1L, "email"));
 
         // when
-        Page<TodoResponse> todoResponses = todoService.getTodos(1, 3);
+        Page<TodoSummaryResponse> todoResponses = todoService.getTodos(1, 3, TodoSearchCondition.latest());
 
         // then
         assertThat(todoResponses.getContent()).hasSize(3);
     }
 
+    @Test
+    @DisplayName("todo 목록은 본문 대신 EXCERPT_LENGTH 로 자른 요약을 반환한다.")
+    void success_getTodos_returnsExcerpt() {
+        // given
+        User user = new User("email", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        Todo todo = new Todo("title", "가".repeat(300), "Sunny", user);
+        ReflectionTestUtils.setField(todo, "id", 1L);
+
+        given(todoRepository.findAll(ArgumentMatchers.<Specification<Todo>>any(), any(Pageable.class))).willReturn(
+                new PageImpl<>(List.of(todo), PageRequest.of(0, 10), 1)
+        );
+        given(userDirectory.getUserResponse(1L)).willReturn(new UserResponse(1L, "email"));
+
+        // when
+        Page<TodoSummaryResponse> todoResponses = todoService.getTodos(1, 10, TodoSearchCondition.latest());
+
+        // then
+        String excerpt = todoResponses.getContent().get(0).getExcerpt();
+        assertThat(excerpt).hasSize(Todo.EXCERPT_LENGTH);
+        assertThat(excerpt).endsWith("…");
+    }
+
+    @Test
+    @DisplayName("weather 와 authorId 를 함께 지정하면 인덱스로 처리할 수 없어 조회 전에 거부한다.")
+    void getTodosFails_whenWeatherAndAuthorAreCombined() {
+        // given
+        TodoSearchCondition condition = new TodoSearchCondition("Sunny", 1L, null, null, null, null, TodoSort.DEFAULT);
+
+        // when & then
+        assertThatThrownBy(() -> todoService.getTodos(1, 10, condition))
+                .isInstanceOf(InvalidRequestException.class);
+        verify(todoRepository, never()).findAll(ArgumentMatchers.<Specification<Todo>>any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("정렬 컬럼이 아닌 컬럼의 기간 조건은 조회 전에 거부한다.")
+    void getTodosFails_whenRangeIsNotOnSortColumn() {
+        // given
+        TodoSearchCondition condition = new TodoSearchCondition(
+                null, null, LocalDateTime.of(2025, 8, 1, 0, 0), null, null, null, TodoSort.MODIFIED_AT_DESC);
+
+        // when & then
+        assertThatThrownBy(() -> todoService.getTodos(1, 10, condition))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("createdAt");
+        verify(todoRepository, never()).findAll(ArgumentMatchers.<Specification<Todo>>any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 날씨로 필터링하면 조회하지 않고 빈 페이지를 반환한다.")
+    void getTodos_returnsEmpty_whenWeatherIsUnknown() {
+        // given
+        TodoSearchCondition condition = new TodoSearchCondition("Hail", null, null, null, null, null, TodoSort.DEFAULT);
+        given(weatherDictionary.contains("Hail")).willReturn(false);
+
+        // when
+        Page<TodoSummaryResponse> todoResponses = todoService.getTodos(1, 10, condition);
+
+        // then
+        assertThat(todoResponses.getContent()).isEmpty();
+        verify(todoRepository, never()).findAll(ArgumentMatchers.<Specification<Todo>>any(), any(Pageable.class));
+    }
+
     @Test
     @DisplayName("Todo ID 로 단일 todo 를 조회할 수 있다.")
     void success_getTodo() {
@@ -114,7 +204,8 @@ class TodoServiceTest {
         ReflectionTestUtils.setField(todo2, "id", 2L);
 
         long todoId = todo1.getId();
-        given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.of(todo1));
+        given(todoRepository.findWithContentById(todoId)).willReturn(Optional.of(todo1));
+        given(userDirectory.getUserResponse(1L)).willReturn(new UserResponse(1L, "email"));
 
         // when
         TodoResponse todoResponse = todoService.getTodo(todoId);
@@ -130,11 +221,48 @@ class TodoServiceTest {
     void getTodoFails_whenTodoIsEmpty() {
         // given
         long todoId = 1L;
-        given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.empty());
+        given(todoRepository.findWithContentById(todoId)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> todoService.getTodo(todoId))
                 .isInstanceOf(InvalidRequestException.class)
                 .hasMessage("Todo not found");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("마감 시각을 초 단위로 바꾸고 리마인더 예약을 옮기도록 이벤트를 발행한다.")
+    void changeDueAt() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+        Todo todo = new Todo("title", "contents", "Sunny", User.fromAuthUser(authUser));
+        given(todoRepository.findById(10L)).willReturn(Optional.of(todo));
+        LocalDateTime dueAt = LocalDateTime.of(2030, 1, 1, 9, 0, 0, 123_000_000);
+
+        // when
+        TodoDueAtResponse response = todoService.changeDueAt(authUser, 10L, new TodoDueAtRequest(dueAt));
+
+        // then
+        LocalDateTime truncated = LocalDateTime.of(2030, 1, 1, 9, 0, 0);
+        assertThat(response.getDueAt()).isEqualTo(truncated);
+        assertThat(todo.getDueAt()).isEqualTo(truncated);
+        ArgumentCaptor<TodoDueAtChangedEvent> captor = ArgumentCaptor.forClass(TodoDueAtChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getTodoId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("일정을 만든 유저가 아니면 마감 시각을 수정할 수 없다.")
+    void changeDueAtFails_whenNotOwner() {
+        // given
+        User owner = new User("owner", "password", UserRole.USER);
+        ReflectionTestUtils.setField(owner, "id", 2L);
+        given(todoRepository.findById(10L)).willReturn(Optional.of(new Todo("title", "contents", "Sunny", owner)));
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+
+        // when & then
+        assertThatThrownBy(() -> todoService.changeDueAt(authUser, 10L, new TodoDueAtRequest(null)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("일정을 생성한 유저만 마감 시각을 수정할 수 있습니다.");
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.config.sql.SqlCountConfig;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoTagJdbcRepository;
+import org.example.expert.domain.todo.repository.WeatherJdbcRepository;
+import org.example.expert.domain.todo.tag.TodoTagIndex;
+import org.example.expert.domain.todo.weather.WeatherDictionary;
+import org.example.expert.domain.user.directory.UserDirectory;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.utils.SqlCountExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.expert.utils.SqlCountExtension.countOf;
+
+@DataJpaTest
+@ActiveProfiles("querycount")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SqlCountConfig.class, TodoTagService.class, TodoTagIndex.class, TodoTagJdbcRepository.class,
+        UserDirectory.class, WeatherDictionary.class, WeatherJdbcRepository.class})
+@ExtendWith(SqlCountExtension.class)
+class TodoTagServiceQueryCountTest {
+
+    @Autowired
+    TodoTagService todoTagService;
+
+    @Autowired
+    TodoTagIndex todoTagIndex;
+
+    @Autowired
+    UserDirectory userDirectory;
+
+    @Autowired
+    TestEntityManager em;
+
+    private final List<Long> urgentBackendIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = em.persist(new User("owner@example.com", "password", UserRole.USER));
+        for (int i = 0; i < 6; i++) {
+            Todo todo = new Todo("title" + i, "contents", "Sunny", user);
+            todo.replaceTags(i % 3 == 0 ? List.of("urgent", "backend", "blocked") : List.of("urgent", "backend"));
+            em.persist(todo);
+            if (i % 3 != 0) {
+                urgentBackendIds.add(0, todo.getId());
+            }
+        }
+        em.flush();
+        em.clear();
+        userDirectory.load();
+        todoTagIndex.load();
+    }
+
+    @Test
+    @DisplayName("태그 조건 조회는 todo_tags 를 읽지 않고 해당 페이지의 todo 를 id 로 읽는 1건만 실행한다.")
+    void getTodosByTags() throws Exception {
+        // given
+        List<TodoSummaryResponse> content = new ArrayList<>();
+        List<Page<TodoSummaryResponse>> pages = new ArrayList<>();
+
+        // when
+        long count = countOf(() -> {
+            Page<TodoSummaryResponse> page = todoTagService.getTodosByTags("urgent AND backend AND NOT blocked", 1, 3);
+            pages.add(page);
+            content.addAll(page.getContent());
+        });
+
+        // then
+        assertThat(count).isEqualTo(1);
+        assertThat(pages.get(0).getTotalElements()).isEqualTo(4);
+        assertThat(content).extracting("id").containsExactlyElementsOf(urgentBackendIds.subList(0, 3));
+    }
+}
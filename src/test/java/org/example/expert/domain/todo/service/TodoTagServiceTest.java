@@ -0,0 +1,87 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoTagsRequest;
+import org.example.expert.domain.todo.dto.response.TodoTagsResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoTagsChangedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.tag.TodoTagIndex;
+import org.example.expert.domain.user.directory.UserDirectory;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoTagServiceTest {
+
+    @Mock
+    TodoRepository todoRepository;
+
+    @Mock
+    TodoTagIndex todoTagIndex;
+
+    @Mock
+    UserDirectory userDirectory;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    TodoTagService todoTagService;
+
+    @Test
+    @DisplayName("태그를 정규화해 교체하고 태그 변경 이벤트를 발행한다.")
+    void replaceTags() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+        Todo todo = new Todo("title", "contents", "Sunny", User.fromAuthUser(authUser));
+        todo.replaceTags(List.of("urgent", "blocked"));
+        given(todoRepository.findById(10L)).willReturn(Optional.of(todo));
+
+        // when
+        TodoTagsResponse response = todoTagService.replaceTags(authUser, 10L, new TodoTagsRequest(List.of(" Backend", "urgent", "backend")));
+
+        // then
+        assertThat(response.getTags()).containsExactly("backend", "urgent");
+        assertThat(todo.getTags()).containsExactly("backend", "urgent");
+        ArgumentCaptor<TodoTagsChangedEvent> captor = ArgumentCaptor.forClass(TodoTagsChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getTodoId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("일정을 만든 유저가 아니면 태그를 수정할 수 없다.")
+    void replaceTagsFails_whenNotOwner() {
+        // given
+        User owner = new User("owner", "password", UserRole.USER);
+        ReflectionTestUtils.setField(owner, "id", 2L);
+        given(todoRepository.findById(10L)).willReturn(Optional.of(new Todo("title", "contents", "Sunny", owner)));
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+
+        // when & then
+        assertThatThrownBy(() -> todoTagService.replaceTags(authUser, 10L, new TodoTagsRequest(List.of("urgent"))))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("일정을 생성한 유저만 태그를 수정할 수 있습니다.");
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+}
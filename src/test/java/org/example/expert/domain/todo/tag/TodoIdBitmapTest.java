@@ -0,0 +1,106 @@
+package org.example.expert.domain.todo.tag;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoIdBitmapTest {
+
+    @Test
+    @DisplayName("희소/밀집 컨테이너가 섞여도 집합 연산 결과가 TreeSet 과 같다.")
+    void setOperations_matchTreeSet() {
+        // given
+        SplittableRandom random = new SplittableRandom(42);
+        TreeSet<Long> left = new TreeSet<>();
+        TreeSet<Long> right = new TreeSet<>();
+        // 0 번 컨테이너는 양쪽 모두 밀집(비트맵), 1 번은 한쪽만 밀집, 나머지는 희소(배열)
+        for (int i = 0; i < 30_000; i++) {
+            left.add((long) random.nextInt(65_536));
+            right.add((long) random.nextInt(65_536));
+            left.add(65_536L + random.nextInt(65_536));
+        }
+        for (int i = 0; i < 500; i++) {
+            right.add(65_536L + random.nextInt(65_536));
+            left.add(random.nextLong(1L << 20, 1L << 40));
+            right.add(random.nextLong(1L << 20, 1L << 40));
+        }
+        TodoIdBitmap leftBitmap = bitmapOf(left);
+        TodoIdBitmap rightBitmap = bitmapOf(right);
+
+        // when
+        TodoIdBitmap and = leftBitmap.and(rightBitmap);
+        TodoIdBitmap or = leftBitmap.or(rightBitmap);
+        TodoIdBitmap andNot = leftBitmap.andNot(rightBitmap);
+
+        // then
+        TreeSet<Long> expectedAnd = new TreeSet<>(left);
+        expectedAnd.retainAll(right);
+        TreeSet<Long> expectedOr = new TreeSet<>(left);
+        expectedOr.addAll(right);
+        TreeSet<Long> expectedAndNot = new TreeSet<>(left);
+        expectedAndNot.removeAll(right);
+
+        assertThat(and.descending(0, Integer.MAX_VALUE)).containsExactlyElementsOf(expectedAnd.descendingSet());
+        assertThat(or.descending(0, Integer.MAX_VALUE)).containsExactlyElementsOf(expectedOr.descendingSet());
+        assertThat(andNot.descending(0, Integer.MAX_VALUE)).containsExactlyElementsOf(expectedAndNot.descendingSet());
+        assertThat(or.cardinality()).isEqualTo(expectedOr.size());
+    }
+
+    @Test
+    @DisplayName("큰 id 부터 offset 만큼 건너뛰고 limit 개를 반환한다.")
+    void descending_pagesFromLargestId() {
+        // given
+        TreeSet<Long> ids = new TreeSet<>();
+        for (long id = 1; id <= 200_000; id += 3) {
+            ids.add(id);
+        }
+        TodoIdBitmap bitmap = bitmapOf(ids);
+        List<Long> expected = new ArrayList<>(ids.descendingSet());
+
+        // when & then
+        for (int offset : new int[]{0, 7, 21_845, 50_000, 66_660}) {
+            assertThat(bitmap.descending(offset, 10))
+                    .containsExactlyElementsOf(expected.subList(offset, Math.min(expected.size(), offset + 10)));
+        }
+    }
+
+    @Test
+    @DisplayName("원소를 지우면 빈 컨테이너는 사라지고, 밀집 컨테이너는 작아지면 배열로 돌아가도 내용이 유지된다.")
+    void remove_keepsContents() {
+        // given
+        TodoIdBitmap bitmap = new TodoIdBitmap();
+        for (long id = 0; id < 10_000; id++) {
+            bitmap.add(id);
+        }
+        bitmap.add(1L << 32);
+        long bytesWhenDense = bitmap.sizeInBytes();
+
+        // when
+        for (long id = 0; id < 10_000; id += 2) {
+            bitmap.remove(id);
+        }
+        for (long id = 1; id < 8_000; id += 2) {
+            bitmap.remove(id);
+        }
+        bitmap.remove(1L << 32);
+
+        // then
+        assertThat(bitmap.cardinality()).isEqualTo(1_000);
+        assertThat(bitmap.contains(8_001)).isTrue();
+        assertThat(bitmap.contains(8_000)).isFalse();
+        assertThat(bitmap.contains(1L << 32)).isFalse();
+        assertThat(bitmap.sizeInBytes()).isLessThan(bytesWhenDense);
+    }
+
+    private static TodoIdBitmap bitmapOf(TreeSet<Long> ids) {
+        TodoIdBitmap bitmap = new TodoIdBitmap();
+        ids.forEach(bitmap::add);
+        return bitmap;
+    }
+}
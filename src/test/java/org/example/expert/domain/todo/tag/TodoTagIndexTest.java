@@ -0,0 +1,169 @@
+package org.example.expert.domain.todo.tag;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.event.TodoTagsChangedEvent;
+import org.example.expert.domain.todo.repository.TodoTagJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+
+@ExtendWith(MockitoExtension.class)
+class TodoTagIndexTest {
+
+    @Mock
+    TodoTagJdbcRepository todoTagJdbcRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    TodoTagIndex todoTagIndex;
+
+    @BeforeEach
+    void setUp() {
+        todoTagIndex = new TodoTagIndex(todoTagJdbcRepository, transactionManager);
+        tag(1, "urgent", "backend");
+        tag(2, "urgent", "backend", "blocked");
+        tag(3, "urgent", "frontend");
+        tag(4, "backend");
+        tag(5);
+    }
+
+    @Test
+    @DisplayName("AND / NOT 조건식을 비트맵 연산으로 계산해 최신순으로 반환한다.")
+    void query_andNot() {
+        // when
+        TagQueryResult result = todoTagIndex.query(TagQuery.parse("urgent AND backend AND NOT blocked"), 0, 10);
+
+        // then
+        assertThat(result.getTotal()).isEqualTo(1);
+        assertThat(result.getTodoIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("NOT 단독 조건은 태그가 없는 todo 를 포함한 전체에서 뺀다. 연산자 우선순위는 NOT > AND > OR 이다.")
+    void query_precedenceAndStandaloneNot() {
+        // when
+        TagQueryResult notUrgent = todoTagIndex.query(TagQuery.parse("not URGENT"), 0, 10);
+        TagQueryResult precedence = todoTagIndex.query(TagQuery.parse("frontend OR backend AND blocked"), 0, 10);
+        TagQueryResult grouped = todoTagIndex.query(TagQuery.parse("(frontend OR backend) AND NOT urgent"), 0, 10);
+
+        // then
+        assertThat(notUrgent.getTodoIds()).containsExactly(5L, 4L);
+        assertThat(precedence.getTodoIds()).containsExactly(3L, 2L);
+        assertThat(grouped.getTodoIds()).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("태그 변경 이벤트를 받으면 커밋된 태그를 다시 읽어, 빠진 태그의 비트맵에서 빼고 새 태그의 비트맵에 넣는다.")
+    void onTodoTagsChanged_replacesTags() {
+        // given
+        given(todoTagJdbcRepository.findTagsByTodoId(2)).willReturn(List.of("backend"));
+
+        // when
+        todoTagIndex.onTodoTagsChanged(new TodoTagsChangedEvent(2));
+
+        // then
+        assertThat(todoTagIndex.query(TagQuery.parse("blocked"), 0, 10).getTotal()).isZero();
+        assertThat(todoTagIndex.query(TagQuery.parse("urgent"), 0, 10).getTodoIds()).containsExactly(3L, 1L);
+        assertThat(todoTagIndex.query(TagQuery.parse("backend"), 0, 10).getTodoIds()).containsExactly(4L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("커밋된 태그는 읽기 트랜잭션을 연 뒤에 읽는다. (요청 중이면 요청이 쥔 커넥션으로 읽는다)")
+    void onTodoTagsChanged_readsInsideTransaction() {
+        // given
+        given(todoTagJdbcRepository.findTagsByTodoId(2)).willReturn(List.of("backend"));
+
+        // when
+        todoTagIndex.onTodoTagsChanged(new TodoTagsChangedEvent(2));
+
+        // then
+        InOrder inOrder = inOrder(transactionManager, todoTagJdbcRepository);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(todoTagJdbcRepository).findTagsByTodoId(2);
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("이벤트가 커밋 순서와 다르게 처리되어도 마지막에 읽은 커밋된 태그로 맞춰진다.")
+    void onTodoTagsChanged_convergesOnCommittedTags() {
+        // given - 2번 todo 를 [urgent] → [docs] 로 두 번 바꿨고, 두 리스너 모두 마지막 커밋 이후에 읽는다
+        given(todoTagJdbcRepository.findTagsByTodoId(2)).willReturn(List.of("docs"));
+
+        // when
+        todoTagIndex.onTodoTagsChanged(new TodoTagsChangedEvent(2));
+        todoTagIndex.onTodoTagsChanged(new TodoTagsChangedEvent(2));
+
+        // then - 비트맵에만 남아 있던 backend / blocked 도 빠진다
+        assertThat(todoTagIndex.query(TagQuery.parse("docs"), 0, 10).getTodoIds()).containsExactly(2L);
+        assertThat(todoTagIndex.query(TagQuery.parse("blocked"), 0, 10).getTotal()).isZero();
+        assertThat(todoTagIndex.query(TagQuery.parse("urgent OR backend"), 0, 10).getTodoIds()).containsExactly(4L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("문법에 맞지 않는 조건식은 에러를 반환한다.")
+    void parse_rejectsMalformedQuery() {
+        // when & then
+        assertThatThrownBy(() -> TagQuery.parse("urgent AND"))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> TagQuery.parse("(urgent OR backend"))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("태그 조건식의 괄호가 닫히지 않았습니다.");
+        assertThatThrownBy(() -> TagQuery.parse("urgent backend"))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("NOT / 괄호 중첩과 연산자 수가 상한을 넘는 조건식은 재귀 전에 에러를 반환한다.")
+    void parse_rejectsTooDeepOrTooManyOperators() {
+        // given
+        String deepNot = "NOT ".repeat(TagQuery.MAX_DEPTH + 1) + "urgent";
+        String deepParens = "(".repeat(TagQuery.MAX_DEPTH + 1) + "urgent" + ")".repeat(TagQuery.MAX_DEPTH + 1);
+        String longNotChain = "NOT ".repeat(100_000) + "urgent";
+        // 태그 상한 안에서 연산자만 늘린다 (태그 하나당 NOT NOT, AND 로 3개)
+        String manyOperators = "NOT NOT urgent AND ".repeat(TagQuery.MAX_OPERATORS / 3 + 1) + "urgent";
+
+        // when & then
+        assertThatThrownBy(() -> TagQuery.parse(deepNot))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("중첩");
+        assertThatThrownBy(() -> TagQuery.parse(deepParens))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("중첩");
+        assertThatThrownBy(() -> TagQuery.parse(longNotChain))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> TagQuery.parse(manyOperators))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("연산자");
+    }
+
+    @Test
+    @DisplayName("상한 안의 중첩은 허용하고, NOT NOT 은 원래 조건과 같은 결과를 낸다.")
+    void parse_allowsNestingWithinLimit() {
+        // given
+        String nested = "(".repeat(TagQuery.MAX_DEPTH - 2) + "NOT NOT urgent" + ")".repeat(TagQuery.MAX_DEPTH - 2);
+
+        // when
+        TagQueryResult result = todoTagIndex.query(TagQuery.parse(nested), 0, 10);
+
+        // then
+        assertThat(result.getTodoIds()).containsExactly(3L, 2L, 1L);
+    }
+
+    private void tag(long todoId, String... tags) {
+        todoTagIndex.put(todoId, List.of(tags));
+    }
+}
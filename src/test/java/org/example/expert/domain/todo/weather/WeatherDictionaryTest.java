@@ -0,0 +1,129 @@
+package org.example.expert.domain.todo.weather;
+
+import org.example.expert.domain.todo.repository.WeatherJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class WeatherDictionaryTest {
+
+    @Mock
+    WeatherJdbcRepository weatherJdbcRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    WeatherDictionary weatherDictionary;
+
+    @BeforeEach
+    void setUp() {
+        weatherDictionary = new WeatherDictionary(weatherJdbcRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("기동 시 적재된 날씨는 DB 조회 없이 id 와 이름을 서로 변환한다.")
+    void encodeAndDecode_afterLoad() {
+        // given
+        given(weatherJdbcRepository.findAll()).willReturn(Map.of("Sunny", (short) 1, "Rainy", (short) 2));
+        weatherDictionary.load();
+
+        // when
+        short id = weatherDictionary.encode("Rainy");
+        String name = weatherDictionary.decode((short) 1);
+
+        // then
+        assertThat(id).isEqualTo((short) 2);
+        assertThat(name).isEqualTo("Sunny");
+        verify(weatherJdbcRepository, times(1)).findAll();
+        verify(weatherJdbcRepository, never()).insertIgnore(anyString());
+    }
+
+    @Test
+    @DisplayName("처음 보는 날씨는 weathers 에 등록한 뒤 발급된 id 를 반환한다.")
+    void encode_registersUnknownWeather() {
+        // given
+        given(weatherJdbcRepository.findAll())
+                .willReturn(Map.of("Sunny", (short) 1))
+                .willReturn(Map.of("Sunny", (short) 1, "Foggy", (short) 2));
+        weatherDictionary.load();
+
+        // when
+        short id = weatherDictionary.encode("Foggy");
+
+        // then
+        assertThat(id).isEqualTo((short) 2);
+        assertThat(weatherDictionary.size()).isEqualTo(2);
+        verify(weatherJdbcRepository).insertIgnore("Foggy");
+        // 등록과 다시 읽기는 한 트랜잭션(커넥션 하나)으로 끝낸다
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("메모리에 없는 id 는 새 트랜잭션 없이 DB 를 다시 읽어 채우고, 그래도 없으면 예외를 던진다.")
+    void decode_reloadsUnknownId() {
+        // given
+        given(weatherJdbcRepository.findAll()).willReturn(Map.of("Windy", (short) 3));
+
+        // when
+        String name = weatherDictionary.decode((short) 3);
+
+        // then
+        assertThat(name).isEqualTo("Windy");
+        assertThatThrownBy(() -> weatherDictionary.decode((short) 4))
+                .isInstanceOf(IllegalStateException.class);
+        // 엔티티를 읽는 트랜잭션 안에서 커넥션을 하나 더 빌리지 않는다
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("먼저 읽은 결과가 늦게 합쳐져도 이미 알던 날씨는 사라지지 않는다.")
+    void decode_mergeKeepsKnownWeathers() {
+        // given
+        given(weatherJdbcRepository.findAll())
+                .willReturn(Map.of("Sunny", (short) 1, "Foggy", (short) 2))
+                .willReturn(Map.of("Sunny", (short) 1, "Windy", (short) 3));
+        weatherDictionary.load();
+
+        // when
+        String name = weatherDictionary.decode((short) 3);
+
+        // then
+        assertThat(name).isEqualTo("Windy");
+        assertThat(weatherDictionary.decode((short) 2)).isEqualTo("Foggy");
+        assertThat(weatherDictionary.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("모르는 날씨인지는 스냅샷만으로 판단하고 DB 를 읽지 않는다.")
+    void contains_answersFromSnapshot() {
+        // given
+        given(weatherJdbcRepository.findAll()).willReturn(Map.of("Sunny", (short) 1));
+        weatherDictionary.load();
+
+        // when
+        boolean known = weatherDictionary.contains("Sunny");
+        boolean unknown = weatherDictionary.contains("no-such-weather");
+
+        // then
+        assertThat(known).isTrue();
+        assertThat(unknown).isFalse();
+        verify(weatherJdbcRepository, times(1)).findAll();
+        verify(transactionManager, never()).getTransaction(any());
+    }
+}
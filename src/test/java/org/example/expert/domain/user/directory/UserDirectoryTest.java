@@ -0,0 +1,100 @@
+package org.example.expert.domain.user.directory;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.event.UserSignedUpEvent;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserDirectoryTest {
+
+    @Mock
+    UserRepository userRepository;
+
+    @InjectMocks
+    UserDirectory userDirectory;
+
+    @Test
+    @DisplayName("기동 시 적재된 유저의 email 은 DB 조회 없이 반환한다.")
+    void findEmail_afterLoad() {
+        // given
+        given(userRepository.findUserResponsesAfter(eq(0L), any(Pageable.class))).willReturn(List.of(
+                new UserResponse(1L, "a@a.com"),
+                new UserResponse(2L, "b@b.com")
+        ));
+        userDirectory.load();
+
+        // when
+        Optional<String> email = userDirectory.findEmail(2L);
+
+        // then
+        assertThat(email).contains("b@b.com");
+        assertThat(userDirectory.size()).isEqualTo(2);
+        verify(userRepository, never()).findEmailById(anyLong());
+    }
+
+    @Test
+    @DisplayName("메모리에 없는 유저는 DB 에서 한 번만 읽어 채운다.")
+    void findEmail_fallbackToRepository() {
+        // given
+        long userId = 3L;
+        given(userRepository.findEmailById(userId)).willReturn(Optional.of("c@c.com"));
+
+        // when
+        userDirectory.findEmail(userId);
+        Optional<String> email = userDirectory.findEmail(userId);
+
+        // then
+        assertThat(email).contains("c@c.com");
+        verify(userRepository, times(1)).findEmailById(userId);
+    }
+
+    @Test
+    @DisplayName("가입 이벤트로 전달된 유저는 DB 조회 없이 반환한다.")
+    void onUserSignedUp() {
+        // given
+        userDirectory.onUserSignedUp(new UserSignedUpEvent(4L, "d@d.com"));
+
+        // when
+        UserResponse userResponse = userDirectory.getUserResponse(4L);
+
+        // then
+        assertThat(userResponse)
+                .extracting("id", "email")
+                .containsExactly(4L, "d@d.com");
+        verify(userRepository, never()).findEmailById(anyLong());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 유저라면 에러를 반환한다.")
+    void getUserResponseFails_whenUserNotFound() {
+        // given
+        long userId = 5L;
+        given(userRepository.findEmailById(userId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> userDirectory.getUserResponse(userId))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("User not found");
+    }
+}
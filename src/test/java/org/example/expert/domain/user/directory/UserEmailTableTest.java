@@ -0,0 +1,54 @@
+package org.example.expert.domain.user.directory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserEmailTableTest {
+
+    @Test
+    @DisplayName("테이블과 arena 가 여러 번 확장되어도 모든 email 을 찾을 수 있다.")
+    void putAndGet_acrossResize() {
+        // given
+        UserEmailTable table = new UserEmailTable();
+        int count = 50_000;
+
+        // when
+        for (long id = 1; id <= count; id++) {
+            table.put(id, "user" + id + "@example.com");
+        }
+
+        // then
+        assertThat(table.size()).isEqualTo(count);
+        for (long id = 1; id <= count; id++) {
+            assertThat(table.get(id)).isEqualTo("user" + id + "@example.com");
+        }
+        assertThat(table.get(count + 1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 id 로 다시 저장하면 새 email 로 교체되고 크기는 늘지 않는다.")
+    void put_overwrite() {
+        // given
+        UserEmailTable table = new UserEmailTable();
+        table.put(1L, "old@example.com");
+
+        // when
+        table.put(1L, "새주소@example.com");
+
+        // then
+        assertThat(table.get(1L)).isEqualTo("새주소@example.com");
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("양수가 아닌 id 는 저장할 수 없다.")
+    void putFails_whenIdIsNotPositive() {
+        UserEmailTable table = new UserEmailTable();
+
+        assertThatThrownBy(() -> table.put(0L, "a@a.com"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
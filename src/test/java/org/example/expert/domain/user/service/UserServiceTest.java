@@ -2,6 +2,7 @@ package org.example.expert.domain.user.service;
 
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.directory.UserDirectory;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -30,6 +31,9 @@ class UserServiceTest {
     @Mock
     PasswordEncoder passwordEncoder;
 
+    @Mock
+    UserDirectory userDirectory;
+
     @InjectMocks
     UserService userService;
 
@@ -38,12 +42,7 @@ class UserServiceTest {
     void getUser() {
         // given
         long userId = 1L;
-        User testUser = TestUtils.createEntity(User.class, Map.of(
-                "id", userId,
-                "email", "test@test.com"
-        ));
-
-        given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
+        given(userDirectory.getUserResponse(userId)).willReturn(new UserResponse(userId, "test@test.com"));
 
         // when
         UserResponse userResponse = userService.getUser(userId);
@@ -59,7 +58,7 @@ class UserServiceTest {
     void getUserFails_whenUserNotFound() {
         // given
         long userId = 1L;
-        given(userRepository.findById(userId)).willReturn(Optional.empty());
+        given(userDirectory.getUserResponse(userId)).willThrow(new InvalidRequestException("User not found"));
 
         // when & then
         assertThatThrownBy(() -> userService.getUser(userId))
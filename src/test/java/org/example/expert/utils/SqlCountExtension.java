@@ -0,0 +1,35 @@
+package org.example.expert.utils;
+
+import org.example.expert.config.sql.SqlStatementCounter;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * 테스트 스레드에서 SQL 문 수 집계를 켠다.
+ * {@link #countOf} 로 특정 동작이 실행한 SQL 문 수를 정확히 검증할 수 있다.
+ * (Hibernate {@code StatementInspector} 기반이므로 JdbcTemplate 직접 실행분은 포함되지 않는다.)
+ */
+public class SqlCountExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        SqlStatementCounter.start();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        SqlStatementCounter.stop();
+    }
+
+    public static long countOf(Action action) throws Exception {
+        long before = SqlStatementCounter.current();
+        action.run();
+        return SqlStatementCounter.current() - before;
+    }
+}
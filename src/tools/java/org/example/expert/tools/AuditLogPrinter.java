@@ -0,0 +1,33 @@
+package org.example.expert.tools;
+
+import org.example.expert.config.aop.audit.AuditSegmentReader;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Instant;
+
+/**
+ * 감사 세그먼트 디렉터리의 레코드를 기록 순으로 한 줄씩 출력한다.
+ * 사용: {@code ./gradlew printAuditLog -Paudit.directory=./logs/admin-audit}
+ */
+public final class AuditLogPrinter {
+
+    private AuditLogPrinter() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("usage: AuditLogPrinter <segment-dir>");
+            System.exit(1);
+        }
+
+        AuditSegmentReader.scan(Paths.get(args[0]), record -> System.out.println(
+                Instant.ofEpochMilli(record.getTimestamp()) +
+                        " userId=" + record.getUserId() +
+                        " " + record.getHttpMethod() + " " + record.getUri() +
+                        " request=" + record.getRequestBody() +
+                        " response=" + record.getResponseBody() +
+                        (record.getErrorMessage() == null ? "" : " error=" + record.getErrorMessage())
+        ));
+    }
+}